@@ -0,0 +1,31 @@
+package com.mobile.integration.grandstores.BarcodeResolve.BarcodeResolveCO;
+
+import java.text.ParseException;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import io.swagger.annotations.Api;
+import com.mobile.integration.grandstores.BarcodeResolve.BarcodeResolveSO.BarcodeResolveSO;
+import com.mobile.integration.grandstores.Utils.ResponseAPI.APIResponse;
+
+@RestController
+@RequestMapping(value = "/module/barcode/")
+@Api(
+    tags = {"Barcode Resolve"}, 
+    description = "Bulk barcode resolution for Grandstores-WMS Mobile App scan-ahead", 
+    produces = "application/json"
+    )
+public class BarcodeResolveCO {
+
+    @Autowired
+    private BarcodeResolveSO barcodeResolveSO;
+
+    // { "P_ORGANIZATION_ID": "..", "P_BARCODES": ["..", ".."] }
+    @RequestMapping(value = "/resolve", method = RequestMethod.POST)
+    public ResponseEntity<APIResponse> resolveBarcodes(@RequestBody  Map<String, Object> content) throws ParseException{
+        return barcodeResolveSO.resolveBarcodes(content);
+    }
+
+}
@@ -0,0 +1,235 @@
+package com.mobile.integration.grandstores.BarcodeResolve.BarcodeResolveSO;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.mobile.integration.grandstores.Utils.ResponseAPI.APIResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcDaoSupport;
+import org.springframework.stereotype.Service;
+
+/**
+ * Resolves a whole list of scanned barcodes for an org in one call, for handhelds that
+ * queued scans offline.
+ *
+ * Barcodes already resolved recently are answered from memory; the rest are looked up
+ * with set-based IN-list queries against MTL_CROSS_REFERENCES, one per chunk of up to
+ * 1000 (Oracle's IN-list limit). Chunks are padded to a few fixed sizes so the number
+ * of distinct SQL texts stays small. Results come back in input order, one per barcode.
+ *
+ * The query reads the base tables with the cross-reference rule ProformaInvoiceSO already
+ * uses (Bar Code Number, org or org independent). XXGS_MOB_UTIL_PKG.GET_ITEM_CROSS_REF is
+ * not an alternative: it lists cross references by item attributes and takes no barcode.
+ * A barcode defined both for the org and org independent for the same item gives two rows;
+ * rows are deduplicated by item, so only different items make a barcode MULTIPLE.
+ */
+@Service
+public class BarcodeResolveSO extends NamedParameterJdbcDaoSupport {
+
+    private static final Logger logger = LoggerFactory.getLogger(BarcodeResolveSO.class);
+
+    public static final String FOUND = "FOUND";
+    public static final String NOT_FOUND = "NOT_FOUND";
+    public static final String MULTIPLE = "MULTIPLE";
+
+    private static final int[] CHUNK_SIZES = { 16, 64, 256, 1000 };
+
+    private static final String RESOLVE_SQL =
+        "SELECT MCR.CROSS_REFERENCE BARCODE,\n" +
+        "MSI.INVENTORY_ITEM_ID ITEM_ID,\n" +
+        "MSI.SEGMENT1 || '-' || MSI.SEGMENT2 || '-' || MSI.SEGMENT3 ITEM_CODE,\n" +
+        "MSI.DESCRIPTION ITEM_DESCRIPTION,\n" +
+        "MSI.PRIMARY_UOM_CODE UOM,\n" +
+        "MSI.INVENTORY_ITEM_STATUS_CODE ITEM_STATUS,\n" +
+        "NVL (CASE WHEN MSI.LOT_CONTROL_CODE = '2' THEN 'Y' ELSE NULL END, MSI.LOT_STATUS_ENABLED) LOT_STATUS_ENABLED\n" +
+        "FROM MTL_CROSS_REFERENCES MCR, MTL_SYSTEM_ITEMS_B MSI\n" +
+        "WHERE MCR.CROSS_REFERENCE_TYPE = 'Bar Code Number'\n" +
+        "AND MCR.CROSS_REFERENCE IN (:P_BARCODES)\n" +
+        "AND (MCR.ORGANIZATION_ID = :P_ORGANIZATION_ID OR MCR.ORG_INDEPENDENT_FLAG = 'Y')\n" +
+        "AND MSI.INVENTORY_ITEM_ID = MCR.INVENTORY_ITEM_ID\n" +
+        "AND MSI.ORGANIZATION_ID = :P_ORGANIZATION_ID";
+
+    @Value("${app.barcode.max-batch:5000}")
+    private int maxBatch;
+
+    @Value("${app.barcode.cache-ttl-ms:300000}")
+    private long cacheTtlMs;
+
+    @Value("${app.barcode.cache-max-entries:200000}")
+    private int cacheMaxEntries;
+
+    // org|barcode -> resolved result, including NOT_FOUND so repeated misses stay cheap
+    private final Map<String, Resolved> cache = new ConcurrentHashMap<>();
+
+    @Autowired
+    public void setDataSource(JdbcTemplate jdbcTemplate) {
+        super.setDataSource(jdbcTemplate.getDataSource());
+    }
+
+    // module/barcode/resolve
+    public ResponseEntity<APIResponse> resolveBarcodes(Map<String, Object> content) {
+        String P_ORGANIZATION_ID=content.get("P_ORGANIZATION_ID")==null?"":content.get("P_ORGANIZATION_ID").toString();
+        Object barcodesParam = content.get("P_BARCODES");
+
+        APIResponse api=new APIResponse();
+        if (P_ORGANIZATION_ID.isEmpty() || !(barcodesParam instanceof Collection)) {
+            api.setError("P_ORGANIZATION_ID and a P_BARCODES list are required");
+            api.setStatus(HttpStatus.BAD_REQUEST.value());
+            return ResponseEntity.badRequest().body(api);
+        }
+        Collection<?> barcodes = (Collection<?>) barcodesParam;
+        if (barcodes.size() > maxBatch) {
+            api.setError("At most " + maxBatch + " barcodes per request");
+            api.setStatus(HttpStatus.BAD_REQUEST.value());
+            return ResponseEntity.badRequest().body(api);
+        }
+
+        List<String> input = new ArrayList<>(barcodes.size());
+        for (Object barcode : barcodes) {
+            input.add(barcode == null ? "" : barcode.toString().trim());
+        }
+
+        api.setData(resolve(P_ORGANIZATION_ID, input));
+        api.setStatus(HttpStatus.OK.value());
+        return ResponseEntity.ok().body(api);
+    }
+
+    /** One result per input barcode, in input order (duplicates repeated). */
+    public List<Map<String, Object>> resolve(String orgId, List<String> barcodes) {
+        long now = System.currentTimeMillis();
+        Map<String, Resolved> resolved = new HashMap<>();
+        Set<String> misses = new LinkedHashSet<>();
+        for (String barcode : barcodes) {
+            if (barcode.isEmpty() || resolved.containsKey(barcode)) {
+                continue;
+            }
+            Resolved hit = cache.get(orgId + "|" + barcode);
+            if (hit != null && now - hit.loadedAt <= cacheTtlMs) {
+                resolved.put(barcode, hit);
+            } else {
+                misses.add(barcode);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            Map<String, Resolved> loaded = load(orgId, new ArrayList<>(misses));
+            resolved.putAll(loaded);
+            if (cache.size() + loaded.size() > cacheMaxEntries) {
+                cache.clear();
+            }
+            for (Map.Entry<String, Resolved> entry : loaded.entrySet()) {
+                cache.put(orgId + "|" + entry.getKey(), entry.getValue());
+            }
+        }
+        logger.debug("Resolved {} barcodes for org {} ({} from database)", barcodes.size(), orgId, misses.size());
+
+        List<Map<String, Object>> results = new ArrayList<>(barcodes.size());
+        for (String barcode : barcodes) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("BARCODE", barcode);
+            Resolved entry = resolved.get(barcode);
+            if (entry == null) {
+                result.put("STATUS", NOT_FOUND);
+            } else {
+                result.put("STATUS", entry.status);
+                if (entry.item != null) {
+                    result.putAll(entry.item);
+                }
+                if (MULTIPLE.equals(entry.status)) {
+                    result.put("ITEMS", entry.items);
+                }
+            }
+            results.add(result);
+        }
+        return results;
+    }
+
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    private Map<String, Resolved> load(String orgId, List<String> barcodes) {
+        // barcode -> item id -> row
+        Map<String, Map<String, Map<String, Object>>> rowsByBarcode = new HashMap<>();
+        for (int from = 0; from < barcodes.size(); from += 1000) {
+            List<String> chunk = pad(barcodes.subList(from, Math.min(barcodes.size(), from + 1000)));
+            Map<String, Object> params = new HashMap<>();
+            params.put("P_BARCODES", chunk);
+            params.put("P_ORGANIZATION_ID", orgId);
+            for (Map<String, Object> row : getNamedParameterJdbcTemplate().queryForList(RESOLVE_SQL, params)) {
+                String barcode = String.valueOf(row.remove("BARCODE"));
+                Map<String, Map<String, Object>> items = rowsByBarcode.get(barcode);
+                if (items == null) {
+                    items = new LinkedHashMap<>();
+                    rowsByBarcode.put(barcode, items);
+                }
+                String itemId = String.valueOf(row.get("ITEM_ID"));
+                if (!items.containsKey(itemId)) {
+                    items.put(itemId, row);
+                }
+            }
+        }
+
+        long now = System.currentTimeMillis();
+        Map<String, Resolved> loaded = new HashMap<>();
+        for (String barcode : barcodes) {
+            Map<String, Map<String, Object>> items = rowsByBarcode.get(barcode);
+            List<Map<String, Object>> rows = items == null ? null : new ArrayList<>(items.values());
+            if (rows == null) {
+                loaded.put(barcode, new Resolved(NOT_FOUND, null, null, now));
+            } else if (rows.size() == 1) {
+                loaded.put(barcode, new Resolved(FOUND, rows.get(0), null, now));
+            } else {
+                loaded.put(barcode, new Resolved(MULTIPLE, null, rows, now));
+            }
+        }
+        return loaded;
+    }
+
+    // Repeats the last barcode up to the next fixed size so IN-list lengths (and SQL texts) repeat
+    private static List<String> pad(List<String> chunk) {
+        int size = CHUNK_SIZES[CHUNK_SIZES.length - 1];
+        for (int candidate : CHUNK_SIZES) {
+            if (chunk.size() <= candidate) {
+                size = candidate;
+                break;
+            }
+        }
+        List<String> padded = new ArrayList<>(size);
+        padded.addAll(chunk);
+        String last = chunk.get(chunk.size() - 1);
+        while (padded.size() < size) {
+            padded.add(last);
+        }
+        return padded;
+    }
+
+    private static class Resolved {
+        final String status;
+        final Map<String, Object> item;
+        final List<Map<String, Object>> items;
+        final long loadedAt;
+
+        Resolved(String status, Map<String, Object> item, List<Map<String, Object>> items, long loadedAt) {
+            this.status = status;
+            this.item = item;
+            this.items = items;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+}
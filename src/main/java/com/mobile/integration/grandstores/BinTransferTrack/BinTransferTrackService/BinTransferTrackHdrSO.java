@@ -13,6 +13,8 @@ import com.mobile.integration.grandstores.BinTransferTrack.BinTransferTrackRepos
 import com.mobile.integration.grandstores.PackageCalling.BinTranferTrackPkg;
 import com.mobile.integration.grandstores.Utils.Generic.DateUtils;
 import com.mobile.integration.grandstores.Utils.ResponseAPI.APIResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -21,6 +23,8 @@ import org.springframework.stereotype.Service;
 @Service
 public class BinTransferTrackHdrSO {
 
+    private static final Logger logger = LoggerFactory.getLogger(BinTransferTrackHdrSO.class);
+
     @Autowired
     private BinTransferTrackHdrRO binTransferTrackHdrro;
 
@@ -59,10 +63,10 @@ public class BinTransferTrackHdrSO {
         Iterator<BinTransferTrackHdrEO> hrIter = lshdr.iterator();
         while (hrIter.hasNext()) {
             BinTransferTrackHdrEO hdrdetail = hrIter.next();
-            System.out.println("Header info saved successfully: " + hdrdetail.getHeaderId());
+            logger.debug("Header info saved successfully: {}", hdrdetail.getHeaderId());
             headerId = hdrdetail.getHeaderId();
         }
-        System.out.println("Generated Header Id: " + headerId);
+        logger.debug("Generated Header Id: {}", headerId);
 
         // Pick Table insertion
         Iterator<BinTransferTrackPickEO> pickItr = bodydtl.getPick().iterator();
@@ -11,6 +11,8 @@ import java.util.Map;
 import javax.sql.rowset.serial.SerialClob;
 import javax.sql.rowset.serial.SerialException;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -33,6 +35,8 @@ import com.mobile.integration.grandstores.Utils.ResponseAPI.APIResponse;
 @Service
 public class QuickDropSO {
 
+    private static final Logger logger = LoggerFactory.getLogger(QuickDropSO.class);
+
     @Autowired
     private BinTransferTrackHdrRO binTransferTrackHdrro;
 
@@ -82,10 +86,10 @@ public class QuickDropSO {
                 Iterator<BinTransferTrackHdrEO> hrIter = lshdr.iterator();
                 while (hrIter.hasNext()) {
                     BinTransferTrackHdrEO hdrdetail = hrIter.next();
-                    System.out.println("Header info saved successfully: " + hdrdetail.getHeaderId());
+                    logger.debug("Header info saved successfully: {}", hdrdetail.getHeaderId());
                     headerId = hdrdetail.getHeaderId();
                 }
-                System.out.println("Generated Header Id: " + headerId);
+                logger.debug("Generated Header Id: {}", headerId);
 
                 // Pick Table insertion
                 Iterator<BinTransferTrackPickEO> pickItr = bodydtl.getPick().iterator();
@@ -94,7 +98,7 @@ public class QuickDropSO {
                     pickDetail.setHeaderId(headerId);
                     BinTransferTrackPickEO result = binTransPickro.save(pickDetail);
                     LineIdList.add(result.getLineId());
-                    System.out.println("New Line Id:" + result.getLineId());
+                    logger.debug("New Line Id:{}", result.getLineId());
                 }
                 int count = 0;
                 // Drop Table insertion
@@ -102,10 +106,10 @@ public class QuickDropSO {
                 while (dropItr.hasNext()) {
                     LineIdList.get(count);
                     BinTransferTrackDropEO dropDetail = dropItr.next();
-                    System.out.println("LineIdList.get(count)" + LineIdList.get(count));
+                    logger.debug("LineIdList.get(count){}", LineIdList.get(count));
                     dropDetail.setLineId(LineIdList.get(count));
                     BinTransferTrackDropEO result = binTranTrackDropro.save(dropDetail);
-                    System.out.println("New Drop Id:" + result.getDropId());
+                    logger.debug("New Drop Id:{}", result.getDropId());
                     count++;
                 }
                 api.setStatus(HttpStatus.OK.value());
@@ -129,10 +133,10 @@ public class QuickDropSO {
         Iterator<BinTransferTrackHdrEO> hrIter = lshdr.iterator();
         while (hrIter.hasNext()) {
             BinTransferTrackHdrEO hdrdetail = hrIter.next();
-            System.out.println("Header info saved successfully: " + hdrdetail.getHeaderId());
+            logger.debug("Header info saved successfully: {}", hdrdetail.getHeaderId());
             headerId = hdrdetail.getHeaderId();
         }
-        System.out.println("Generated Header Id: " + headerId);
+        logger.debug("Generated Header Id: {}", headerId);
 
         // Pick Table insertion
         Iterator<BinTransferTrackPickEO> pickItr = bodydtl.getPick().iterator();
@@ -141,7 +145,7 @@ public class QuickDropSO {
             pickDetail.setHeaderId(headerId);
             BinTransferTrackPickEO result = binTransPickro.save(pickDetail);
             LineIdList.add(result.getLineId());
-            System.out.println("New Line Id:" + result.getLineId());
+            logger.debug("New Line Id:{}", result.getLineId());
         }
         int count = 0;
         // Drop Table insertion
@@ -149,10 +153,10 @@ public class QuickDropSO {
         while (dropItr.hasNext()) {
             LineIdList.get(count);
             BinTransferTrackDropEO dropDetail = dropItr.next();
-            System.out.println("LineIdList.get(count)" + LineIdList.get(count));
+            logger.debug("LineIdList.get(count){}", LineIdList.get(count));
             dropDetail.setLineId(LineIdList.get(count));
             BinTransferTrackDropEO result = binTranTrackDropro.save(dropDetail);
-            System.out.println("New Drop Id:" + result.getDropId());
+            logger.debug("New Drop Id:{}", result.getDropId());
             count++;
         }
         APIResponse api = new APIResponse();
@@ -0,0 +1,30 @@
+package com.mobile.integration.grandstores.Bootstrap.BootstrapCO;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import io.swagger.annotations.Api;
+import com.mobile.integration.grandstores.Bootstrap.BootstrapSO.BootstrapSO;
+import com.mobile.integration.grandstores.Utils.ResponseAPI.APIResponse;
+
+@RestController
+@RequestMapping(value = "/module/bootstrap/")
+@Api(
+    tags = {"Shift Start Bootstrap"}, 
+    description = "Startup dataset for Grandstores-WMS Mobile App in one call", 
+    produces = "application/json"
+    )
+public class BootstrapCO {
+
+    @Autowired
+    private BootstrapSO bootstrapSO;
+
+    // { "P_USER_ID": "..", "P_INVENTORY_ORG_ID": "..", "P_RESOURCE_ID": "..", "P_VERSIONS": { "INV_ORGS": ".." } }
+    @RequestMapping(value = "/shiftstart", method = RequestMethod.POST)
+    public ResponseEntity<APIResponse> shiftStart(@RequestBody  Map<String, Object> content){
+        return bootstrapSO.shiftStart(content);
+    }
+
+}
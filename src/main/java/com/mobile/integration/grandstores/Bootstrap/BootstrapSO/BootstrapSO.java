@@ -0,0 +1,222 @@
+package com.mobile.integration.grandstores.Bootstrap.BootstrapSO;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.annotation.PostConstruct;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mobile.integration.grandstores.IPDetails.IPRepository.IPRepo;
+import com.mobile.integration.grandstores.POJO.UserAccessSnapshot;
+import com.mobile.integration.grandstores.PackageCalling.DeliveryApps;
+import com.mobile.integration.grandstores.PackageCalling.PickOrderNumberPkg;
+import com.mobile.integration.grandstores.User.Services.UserAccessResolver;
+import com.mobile.integration.grandstores.Utils.Cache.RefreshAheadCache;
+import com.mobile.integration.grandstores.Utils.Cache.SingleFlight;
+import com.mobile.integration.grandstores.Utils.Projection.ProjectingJdbcTemplate;
+import com.mobile.integration.grandstores.Utils.ResponseAPI.APIResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Everything a handheld loads after login, in one request.
+ *
+ * Replaces the burst of org access, responsibility, inventory org, rejection code, vehicle,
+ * pick order and IP detail calls. Shared sections come from memory (UserAccessResolver and a
+ * refresh-ahead cache here), user and pick sections are loaded; all parts run concurrently
+ * on fanOutExecutor. Every section carries a VERSION (MD5 of its JSON). A client that sends
+ * P_VERSIONS gets UNCHANGED for sections it already holds, without the rows. A failing
+ * section is reported with STATUS ERROR and does not fail the others. Calls made for the
+ * request carry a query timeout of the time left to app.bootstrap.timeout-ms, so a section
+ * that is given up on does not keep its statement running in Oracle.
+ */
+@Service
+public class BootstrapSO {
+
+    private static final Logger logger = LoggerFactory.getLogger(BootstrapSO.class);
+
+    @Autowired
+    private UserAccessResolver userAccessResolver;
+
+    @Autowired
+    private DeliveryApps deliveryAppsPkg;
+
+    @Autowired
+    private PickOrderNumberPkg pickOrderNumberPkg;
+
+    @Autowired
+    private IPRepo ipRepo;
+
+    @Autowired
+    private SingleFlight singleFlight;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("fanOutExecutor")
+    private Executor fanOutExecutor;
+
+    @Autowired
+    @Qualifier("taskExecutor")
+    private Executor taskExecutor;
+
+    @Value("${app.bootstrap.refresh-after-ms:300000}")
+    private long refreshAfterMs;
+
+    @Value("${app.bootstrap.expire-after-ms:3600000}")
+    private long expireAfterMs;
+
+    @Value("${app.bootstrap.timeout-ms:30000}")
+    private long timeoutMs;
+
+    // Sections that are the same for every user, kept with their version
+    private RefreshAheadCache<String, Section> sharedSections;
+
+    @PostConstruct
+    public void init() {
+        sharedSections = new RefreshAheadCache<>("bootstrapSections", refreshAfterMs, expireAfterMs, taskExecutor,
+            new Function<String, Section>() {
+                @Override
+                public Section apply(String name) {
+                    return new Section(loadShared(name));
+                }
+            });
+    }
+
+    // module/bootstrap/shiftstart
+    public ResponseEntity<APIResponse> shiftStart(Map<String, Object> content) {
+        String P_USER_ID=content.get("P_USER_ID")==null?"":content.get("P_USER_ID").toString();
+        String P_INVENTORY_ORG_ID=content.get("P_INVENTORY_ORG_ID")==null?"":content.get("P_INVENTORY_ORG_ID").toString();
+        String P_RESOURCE_ID=content.get("P_RESOURCE_ID")==null?"":content.get("P_RESOURCE_ID").toString();
+        Map<?, ?> versions=content.get("P_VERSIONS") instanceof Map ? (Map<?, ?>) content.get("P_VERSIONS") : Collections.emptyMap();
+
+        if (P_USER_ID.trim().isEmpty()) {
+            APIResponse api=new APIResponse();
+            api.setError("P_USER_ID is required");
+            api.setStatus(HttpStatus.BAD_REQUEST.value());
+            return ResponseEntity.badRequest().body(api);
+        }
+
+        long deadline=System.currentTimeMillis() + timeoutMs;
+        Map<String, CompletableFuture<Section>> parts=new LinkedHashMap<>();
+        // Principal read here - the security context does not reach fanOutExecutor threads
+        String principal=UserAccessResolver.currentUser();
+        CompletableFuture<UserAccessSnapshot> access=
+            CompletableFuture.supplyAsync(bounded(deadline, () -> userAccessResolver.getSnapshot(P_USER_ID, principal)), fanOutExecutor);
+        parts.put("ORG_ACCESS", access.thenApply(snapshot -> new Section(snapshot.getOrgAccess())));
+        parts.put("RESP_ACCESS", access.thenApply(snapshot -> new Section(snapshot.getRespAccess())));
+        parts.put("ALL_RESP", access.thenApply(snapshot -> new Section(snapshot.getAllResp())));
+        for (String name : new String[] { "RESPONSIBILITIES", "INV_ORGS", "REJECTION_CODES", "VEHICLES", "IP_DETAILS" }) {
+            parts.put(name, CompletableFuture.supplyAsync(bounded(deadline, () -> sharedSections.get(name)), fanOutExecutor));
+        }
+        if (!P_INVENTORY_ORG_ID.isEmpty()) {
+            parts.put("PICK_ORDERS", CompletableFuture.supplyAsync(bounded(deadline, () -> new Section(singleFlight.execute(
+                SingleFlight.key("GET_PICK_ORDER_NUM", P_INVENTORY_ORG_ID, P_RESOURCE_ID),
+                () -> pickOrderNumberPkg.GET_PICK_ORDER_NUM(P_INVENTORY_ORG_ID, P_RESOURCE_ID)))), fanOutExecutor));
+            parts.put("PICK_MOVE_ORDERS", CompletableFuture.supplyAsync(bounded(deadline, () -> new Section(singleFlight.execute(
+                SingleFlight.key("GET_PICK_MOVE_ORDER", P_INVENTORY_ORG_ID, P_RESOURCE_ID),
+                () -> pickOrderNumberPkg.GET_PICK_MOVE_ORDER(P_INVENTORY_ORG_ID, P_RESOURCE_ID)))), fanOutExecutor));
+        }
+
+        Map<String, Object> sections=new LinkedHashMap<>();
+        for (Map.Entry<String, CompletableFuture<Section>> part : parts.entrySet()) {
+            Map<String, Object> section=new LinkedHashMap<>();
+            try {
+                Section loaded=part.getValue().get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+                section.put("STATUS", "OK");
+                section.put("VERSION", loaded.version);
+                if (loaded.version.equals(versions.get(part.getKey()))) {
+                    section.put("UNCHANGED", "Y");
+                } else {
+                    section.put("DATA", loaded.data);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(part.getKey(), section, e);
+            } catch (ExecutionException | TimeoutException e) {
+                part.getValue().cancel(false);
+                fail(part.getKey(), section, e);
+            }
+            sections.put(part.getKey(), section);
+        }
+
+        APIResponse api=new APIResponse();
+        api.setData(sections);
+        api.setStatus(HttpStatus.OK.value());
+        return ResponseEntity.ok().body(api);
+    }
+
+    // Query timeout = whole seconds left to the deadline when the task starts, at least one.
+    // Refresh-ahead reloads of the shared sections run on taskExecutor and are not bounded.
+    private static <T> Supplier<T> bounded(final long deadline, final Supplier<T> call) {
+        return () -> {
+            long left = deadline - System.currentTimeMillis();
+            if (left <= 0) {
+                throw new IllegalStateException("Bootstrap deadline passed before the section started");
+            }
+            return ProjectingJdbcTemplate.withQueryTimeout((int) Math.max(1, (left + 999) / 1000), call);
+        };
+    }
+
+    private Object loadShared(String name) {
+        switch (name) {
+            case "RESPONSIBILITIES":
+                return userAccessResolver.getResponsibilities(null);
+            case "INV_ORGS":
+                return userAccessResolver.getInvOrgs();
+            case "REJECTION_CODES":
+                return deliveryAppsPkg.GET_DEL_REJCODE_DTL();
+            case "VEHICLES":
+                return deliveryAppsPkg.GET_DEL_VEH_DTL();
+            case "IP_DETAILS":
+                return ipRepo.findAll();
+            default:
+                throw new IllegalArgumentException("Unknown bootstrap section " + name);
+        }
+    }
+
+    private void fail(String name, Map<String, Object> section, Exception e) {
+        Throwable cause=e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+        String message=e instanceof TimeoutException ? "Timed out after " + timeoutMs + " ms" : String.valueOf(cause.getMessage());
+        logger.warn("Bootstrap section {} failed: {}", name, message);
+        section.put("STATUS", "ERROR");
+        section.put("ERROR", message);
+    }
+
+    private class Section {
+        final Object data;
+        final String version;
+
+        Section(Object data) {
+            this.data = data;
+            this.version = version(data);
+        }
+    }
+
+    private String version(Object data) {
+        try {
+            return DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(data));
+        } catch (Exception e) {
+            logger.warn("Could not hash bootstrap section: {}", e.getMessage());
+            return String.valueOf(System.nanoTime());
+        }
+    }
+
+}
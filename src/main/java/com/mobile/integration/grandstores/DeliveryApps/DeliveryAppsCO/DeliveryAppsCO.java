@@ -7,11 +7,15 @@ import com.mobile.integration.grandstores.DeliveryApps.DeliveryAppsSO.DeliveryAp
 import com.mobile.integration.grandstores.Utils.ResponseAPI.APIResponse;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import io.swagger.annotations.Api;
 
@@ -58,4 +62,12 @@ public class DeliveryAppsCO {
        }
 
 
+       // Push channel for GET_DEL_INV_DTL + GET_DEL_LINE_DTL of one vehicle (server-sent events)
+       @RequestMapping(value = "/streamdeldtl", method = RequestMethod.GET, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+       public SseEmitter STREAM_DEL_DTL(@RequestParam("P_VEHICLE_NO") String P_VEHICLE_NO,
+               @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+           return deliveryAppsso.STREAM_DEL_DTL(P_VEHICLE_NO, lastEventId);
+       }
+
+
 }
\ No newline at end of file
@@ -1,14 +1,19 @@
 package com.mobile.integration.grandstores.DeliveryApps.DeliveryAppsSO;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import com.mobile.integration.grandstores.PackageCalling.DeliveryApps;
+import com.mobile.integration.grandstores.Utils.Cache.SingleFlight;
+import com.mobile.integration.grandstores.Utils.ConditionalGet.VersionedResponseCache;
+import com.mobile.integration.grandstores.Utils.Push.SnapshotPushService;
 import com.mobile.integration.grandstores.Utils.ResponseAPI.APIResponse;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcDaoSupport;
@@ -26,14 +31,24 @@ public class DeliveryAppsSO  extends NamedParameterJdbcDaoSupport{
     }
  
     
+    @Autowired
+    private SingleFlight singleFlight;
+
     @Autowired
     private DeliveryApps deliveryAppsPkg;
 
+    @Autowired
+    private VersionedResponseCache versionedResponseCache;
+
+    @Autowired
+    private SnapshotPushService snapshotPushService;
+
 
 
         // GET_DEL_VEH_DTL
         public ResponseEntity<APIResponse> GET_DEL_VEH_DTL() {
-            Map<String, Object> ls=deliveryAppsPkg.GET_DEL_VEH_DTL();
+            Map<String, Object> ls=singleFlight.execute(
+                SingleFlight.key("GET_DEL_VEH_DTL"), () -> deliveryAppsPkg.GET_DEL_VEH_DTL());
             APIResponse api=new APIResponse();
             api.setData(ls);
             api.setStatus(HttpStatus.OK.value());    
@@ -45,7 +60,8 @@ public class DeliveryAppsSO  extends NamedParameterJdbcDaoSupport{
         // GET_DEL_INV_DTL
         public ResponseEntity<APIResponse> GET_DEL_INV_DTL(Map<String, Object> content) {
             String P_VEHICLE_NO=content.get("P_VEHICLE_NO")==null?"":content.get("P_VEHICLE_NO").toString();
-            Map<String, Object> ls=deliveryAppsPkg.GET_DEL_INV_DTL(P_VEHICLE_NO);
+            Map<String, Object> ls=singleFlight.execute(
+                SingleFlight.key("GET_DEL_INV_DTL", P_VEHICLE_NO), () -> deliveryAppsPkg.GET_DEL_INV_DTL(P_VEHICLE_NO));
             APIResponse api=new APIResponse();
             api.setData(ls);
             api.setStatus(HttpStatus.OK.value());    
@@ -57,7 +73,8 @@ public class DeliveryAppsSO  extends NamedParameterJdbcDaoSupport{
         // GET_DEL_LINE_DTL
         public ResponseEntity<APIResponse> GET_DEL_LINE_DTL(Map<String, Object> content) {
             String P_VEHICLE_NO=content.get("P_VEHICLE_NO")==null?"":content.get("P_VEHICLE_NO").toString();
-            Map<String, Object> ls=deliveryAppsPkg.GET_DEL_LINE_DTL(P_VEHICLE_NO);
+            Map<String, Object> ls=singleFlight.execute(
+                SingleFlight.key("GET_DEL_LINE_DTL", P_VEHICLE_NO), () -> deliveryAppsPkg.GET_DEL_LINE_DTL(P_VEHICLE_NO));
             APIResponse api=new APIResponse();
             api.setData(ls);
             api.setStatus(HttpStatus.OK.value());    
@@ -67,13 +84,20 @@ public class DeliveryAppsSO  extends NamedParameterJdbcDaoSupport{
         
         // GET_DEL_REJCODE_DTL
         public ResponseEntity<APIResponse> GET_DEL_REJCODE_DTL() {
-            Map<String, Object> ls=deliveryAppsPkg.GET_DEL_REJCODE_DTL();
-            APIResponse api=new APIResponse();
-            api.setData(ls);
-            api.setStatus(HttpStatus.OK.value());    
-            return ResponseEntity.ok().body(api); 
-        }   
+            // Rejection codes rarely change - repeat opens get 304 against the cached ETag
+            return versionedResponseCache.respond(
+                SingleFlight.key("GET_DEL_REJCODE_DTL"), () -> deliveryAppsPkg.GET_DEL_REJCODE_DTL());
+        }
 
 
-}
+        // Vehicle work list pushed over SSE - one poll per vehicle however many devices listen
+        public SseEmitter STREAM_DEL_DTL(String P_VEHICLE_NO, String lastEventId) {
+            return snapshotPushService.subscribe(SingleFlight.key("GET_DEL_DTL", P_VEHICLE_NO), () -> {
+                Map<String, Object> ls = new LinkedHashMap<>(deliveryAppsPkg.GET_DEL_INV_DTL(P_VEHICLE_NO));
+                ls.putAll(deliveryAppsPkg.GET_DEL_LINE_DTL(P_VEHICLE_NO));
+                return ls;
+            }, lastEventId);
+        }
+
 
+}
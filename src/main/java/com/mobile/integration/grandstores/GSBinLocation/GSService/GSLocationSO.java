@@ -3,10 +3,18 @@ package com.mobile.integration.grandstores.GSBinLocation.GSService;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import com.mobile.integration.grandstores.PackageCalling.GsLocationPackage;
+import com.mobile.integration.grandstores.Utils.ConditionalGet.VersionedResponseCache;
+import com.mobile.integration.grandstores.Utils.Projection.FieldProjection;
+import com.mobile.integration.grandstores.Utils.Projection.ProjectingJdbcTemplate;
+import com.mobile.integration.grandstores.Utils.Projection.ViewColumns;
 import com.mobile.integration.grandstores.Utils.ResponseAPI.APIResponse;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -18,6 +26,11 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcDaoSupport;
 @Service
 public class GSLocationSO extends NamedParameterJdbcDaoSupport {
 
+    private static final Logger logger = LoggerFactory.getLogger(GSLocationSO.class);
+
+    // Cached org access lists, dropped when user org assignments change (UserOrgGroupSO)
+    public static final String ORG_ACCESS_KEY = "orgaccess|";
+
     @Autowired
     private JdbcTemplate jdbcTemplate;
     
@@ -28,19 +41,32 @@ public class GSLocationSO extends NamedParameterJdbcDaoSupport {
 
     @Autowired
     GsLocationPackage gsLocationPackage;
+
+    @Autowired
+    private ItemDescriptionIndex itemDescriptionIndex;
+
+    // Optional fields / P_FIELDS - only those columns are selected from the views
+    @Autowired
+    private ViewColumns viewColumns;
+
+    // ETag / since for the slowly changing org access and subinventory lists
+    @Autowired
+    private VersionedResponseCache versionedResponseCache;
  
     
         // getInvOrganization
         public ResponseEntity<APIResponse> getInvOrganization(Map<String, Object> content) {
             String P_USER_ID=content.get("USER_ID")==null?"":content.get("USER_ID").toString();
             String P_ORGANIZATION_CODE=content.get("ORGANIZATION_CODE")==null?"":content.get("ORGANIZATION_CODE").toString();
+            FieldProjection projection = FieldProjection.from(content);
 
             List<Map<String, Object>> items = null;
             Map<String, Object> params = new HashMap();
+            String select = viewColumns.selectList("XXGS_WMS_USER_ORG_ACCESS_V", projection);
             
             String poItemDtlQuery=
             "SELECT\n" +
-            " * \n" +
+            " " + select + " \n" +
             "FROM XXGS_WMS_USER_ORG_ACCESS_V \n" +
             "where\n" +
             "ORGANIZATION_CODE LIKE :P_ORGANIZATIONCODE||'%'\n" +  
@@ -51,9 +77,12 @@ public class GSLocationSO extends NamedParameterJdbcDaoSupport {
                 params.put("P_USERID", P_USER_ID);
                 // params.put("P_PO_RELEASE_ID", P_PO_RELEASE_ID);
                 // System.out.println("==>"+poItemDtlQuery);
-                items = getNamedParameterJdbcTemplate().queryForList(poItemDtlQuery, params);
+                // Cached and shared - narrowed by the select list only, never streamed
+                return versionedResponseCache.respond(
+                    ORG_ACCESS_KEY + P_USER_ID + "|" + P_ORGANIZATION_CODE + "|" + select,
+                    () -> getNamedParameterJdbcTemplate().queryForList(poItemDtlQuery, params));
             } catch (Exception exp) {
-                System.out.println(exp.toString());            
+                logger.error("getInvOrganization failed", exp);
             }
 
             APIResponse api=new APIResponse();
@@ -66,6 +95,7 @@ public class GSLocationSO extends NamedParameterJdbcDaoSupport {
         // getSecondaryInv
         public ResponseEntity<APIResponse> getSecondaryInv(Map<String, Object> content) {
             String P_ORG_ID=content.get("P_ORGID")==null?"":content.get("P_ORGID").toString();
+            FieldProjection projection = FieldProjection.from(content);
             // long totProcStartTime = System.currentTimeMillis();
             // Package calling 
             // Map<String, Object> ls=poDetailpk.calPOItemCrossRef(P_PO_HEADER_ID, P_PO_RELEASE_ID);
@@ -74,23 +104,39 @@ public class GSLocationSO extends NamedParameterJdbcDaoSupport {
 
             List<Map<String, Object>> items = null;
             Map<String, Object> params = new HashMap();
+            String select = viewColumns.selectList("XXGS_SECONDARY_INVENTORIES_V", projection);
             
             String poItemDtlQuery=
             "    select\n" +
-            "    * \n" +
+            "    " + select + " \n" +
             "    from\n" +
             "    XXGS_SECONDARY_INVENTORIES_V\n" +
             "    where\n" +
             "    ORGANIZATION_ID = :P_ORGID";
             // 
 
+            // Delta sync needs LAST_UPDATE_DATE in the view, otherwise only the ETag applies
+            Set<String> columns = viewColumns.get("XXGS_SECONDARY_INVENTORIES_V");
+            boolean syncable = columns != null && columns.contains("LAST_UPDATE_DATE");
+            String P_SINCE = VersionedResponseCache.since(content);
     
             try {
                 params.put("P_ORGID", P_ORG_ID);
+                if (syncable && P_SINCE != null) {
+                    String syncToken = versionedResponseCache.databaseSyncToken();
+                    params.put("P_SINCE", P_SINCE);
+                    // >= - rows updated in the token's own second come again, the handheld upserts by key
+                    items = getNamedParameterJdbcTemplate().queryForList(
+                        poItemDtlQuery + "\n    and LAST_UPDATE_DATE >= TO_DATE(:P_SINCE, 'YYYYMMDDHH24MISS')", params);
+                    return VersionedResponseCache.delta(items, syncToken);
+                }
                 // System.out.println("==>"+customerContactSQL);
-                items = getNamedParameterJdbcTemplate().queryForList(poItemDtlQuery, params);
+                // Cached and shared - narrowed by the select list only, never streamed
+                return versionedResponseCache.respond("secondaryinv|" + P_ORG_ID + "|" + select,
+                    () -> getNamedParameterJdbcTemplate().queryForList(poItemDtlQuery, params),
+                    syncable ? () -> versionedResponseCache.databaseSyncToken() : null);
             } catch (Exception exp) {
-                System.out.println(exp.toString());            
+                logger.error("getSecondaryInv failed", exp);
             }
 
             APIResponse api=new APIResponse();
@@ -104,6 +150,7 @@ public class GSLocationSO extends NamedParameterJdbcDaoSupport {
         public ResponseEntity<APIResponse> getMTLSystemItem(Map<String, Object> content) {
             String P_ORG_ID=content.get("P_ORGID")==null?"":content.get("P_ORGID").toString();
             String P_ITEM_SEGMENT=content.get("P_ITEM_SEGMENT")==null?"":content.get("P_ITEM_SEGMENT").toString();
+            FieldProjection projection = FieldProjection.from(content);
             
             
             // long totProcStartTime = System.currentTimeMillis();
@@ -118,7 +165,7 @@ public class GSLocationSO extends NamedParameterJdbcDaoSupport {
             String query=
 
             "   SELECT\n" +
-            "    * \n" +
+            "    " + viewColumns.selectList("XXGS_MTL_SYSYEM_ITEMS_V", projection) + " \n" +
             "    FROM\n" +
             "    XXGS_MTL_SYSYEM_ITEMS_V \n" +
             "    WHERE\n" +
@@ -130,9 +177,9 @@ public class GSLocationSO extends NamedParameterJdbcDaoSupport {
                 params.put("P_ORGID", P_ORG_ID);
                 params.put("P_ITEM_SEGMENT", P_ITEM_SEGMENT);
                 // System.out.println("==>"+query);
-                items = getNamedParameterJdbcTemplate().queryForList(query, params);
+                items = queryForList(projection, query, params);
             } catch (Exception exp) {
-                System.out.println(exp.toString());            
+                logger.error("getMTLSystemItem failed", exp);
             }
 
             APIResponse api=new APIResponse();
@@ -146,6 +193,7 @@ public class GSLocationSO extends NamedParameterJdbcDaoSupport {
         public ResponseEntity<APIResponse> getItemCrossRef(Map<String, Object> content) {
             String P_ORG_ID=content.get("P_ORGID")==null?"":content.get("P_ORGID").toString();
             String P_ITEM_SEGMENT=content.get("P_ITEM_SEGMENT")==null?"":content.get("P_ITEM_SEGMENT").toString();
+            FieldProjection projection = FieldProjection.from(content);
             // long totProcStartTime = System.currentTimeMillis();
             // Package calling 
             // Map<String, Object> ls=poDetailpk.calPOItemCrossRef(P_PO_HEADER_ID, P_PO_RELEASE_ID);
@@ -157,7 +205,7 @@ public class GSLocationSO extends NamedParameterJdbcDaoSupport {
             
             String poItemDtlQuery=
             "    SELECT\n" +
-            "    * \n" +
+            "    " + viewColumns.selectList("XXGS_ITEMS_CROSS_REF_V", projection) + " \n" +
             "    FROM \n" +
             "    XXGS_ITEMS_CROSS_REF_V \n" +
             "    WHERE \n" +
@@ -168,9 +216,9 @@ public class GSLocationSO extends NamedParameterJdbcDaoSupport {
                 params.put("P_ORGID", P_ORG_ID);
                 params.put("P_ITEM_SEGMENT", P_ITEM_SEGMENT);
                 // System.out.println("==>"+customerContactSQL);
-                items = getNamedParameterJdbcTemplate().queryForList(poItemDtlQuery, params);
+                items = queryForList(projection, poItemDtlQuery, params);
             } catch (Exception exp) {
-                System.out.println(exp.toString());            
+                logger.error("getItemCrossRef failed", exp);
             }
 
             APIResponse api=new APIResponse();
@@ -194,7 +242,7 @@ public class GSLocationSO extends NamedParameterJdbcDaoSupport {
                 // System.out.println("==>"+query);
                 items = getNamedParameterJdbcTemplate().queryForList(query, params);
             } catch (Exception exp) {
-                System.out.println(exp.toString());            
+                logger.error("getDepartment failed", exp);
             }
 
             APIResponse api=new APIResponse();
@@ -211,31 +259,33 @@ public class GSLocationSO extends NamedParameterJdbcDaoSupport {
             String P_ITEM_SEGMENT=content.get("P_ITEM_SEGMENT")==null?"":content.get("P_ITEM_SEGMENT").toString();
             String P_ITEM_CODE = null;
             String query= null;
+            FieldProjection projection = FieldProjection.from(content);
+            String select = viewColumns.selectList("XXGS_MTL_CROSS_REF_V", projection);
             List<Map<String, Object>> items = null;
             Map<String, Object> params = new HashMap();
             
             if(content.containsKey("P_ITEM_CODE")){
-                System.out.println("P_Itemcode is available");
+                logger.debug("P_Itemcode is available");
                 P_ITEM_CODE = content.get("P_ITEM_CODE")==null?"":content.get("P_ITEM_CODE").toString();
-                query = "SELECT * FROM XXGS_MTL_CROSS_REF_V WHERE ORGANIZATION_ID = :p_ORGANIZATION_ID AND ITEM_SEGMENT1 = :p_ITEM_SEGMENT AND ITEM_CODE = :p_ITEM_CODE"; 
+                query = "SELECT " + select + " FROM XXGS_MTL_CROSS_REF_V WHERE ORGANIZATION_ID = :p_ORGANIZATION_ID AND ITEM_SEGMENT1 = :p_ITEM_SEGMENT AND ITEM_CODE = :p_ITEM_CODE"; 
                 try {
                     params.put("p_ORGANIZATION_ID", P_ORGANIZATION_ID);
                     params.put("p_ITEM_SEGMENT", P_ITEM_SEGMENT);
                     params.put("p_ITEM_CODE", P_ITEM_CODE);
-                    items = getNamedParameterJdbcTemplate().queryForList(query, params);
-                    System.out.println("items with item_code: "+items); 
+                    items = queryForList(projection, query, params);
+                    logger.debug("items with item_code: {}", items);
                 } catch (Exception exp) {
-                    System.out.println(exp.toString());            
+                    logger.error("getmtscrossref failed", exp);
                 }
             }else{
-                query = "SELECT * FROM XXGS_MTL_CROSS_REF_V WHERE ORGANIZATION_ID = :p_ORGANIZATION_ID AND ITEM_SEGMENT1 = :p_ITEM_SEGMENT";
+                query = "SELECT " + select + " FROM XXGS_MTL_CROSS_REF_V WHERE ORGANIZATION_ID = :p_ORGANIZATION_ID AND ITEM_SEGMENT1 = :p_ITEM_SEGMENT";
                 try {
                     params.put("p_ORGANIZATION_ID", P_ORGANIZATION_ID);
                     params.put("p_ITEM_SEGMENT", P_ITEM_SEGMENT);
-                    items = getNamedParameterJdbcTemplate().queryForList(query, params);
-                    System.out.println("items without itemcode: "+items); 
+                    items = queryForList(projection, query, params);
+                    logger.debug("items without itemcode: {}", items);
                 } catch (Exception exp) {
-                    System.out.println(exp.toString());            
+                    logger.error("getmtscrossref failed", exp);
                 }
             }
 
@@ -250,16 +300,17 @@ public class GSLocationSO extends NamedParameterJdbcDaoSupport {
             String P_ORGANIZATION_ID = content.get("P_ORGANIZATION_ID")==null?"":content.get("P_ORGANIZATION_ID").toString();
             String P_ITEM_SEGMENT = content.get("P_ITEM_SEGMENT")==null?"":content.get("P_ITEM_SEGMENT").toString();
             
+            FieldProjection projection = FieldProjection.from(content);
             List<Map<String, Object>> items = null;
             Map<String, Object> params = new HashMap();
             
-            String query = "SELECT * FROM XXGS_MTL_SPOT_CHECK_V WHERE ORGANIZATION_ID = :p_ORGANIZATION_ID AND ITEM_SEGMENT1 = :p_ITEM_SEGMENT";
+            String query = "SELECT " + viewColumns.selectList("XXGS_MTL_SPOT_CHECK_V", projection) + " FROM XXGS_MTL_SPOT_CHECK_V WHERE ORGANIZATION_ID = :p_ORGANIZATION_ID AND ITEM_SEGMENT1 = :p_ITEM_SEGMENT";
             try {
                 params.put("p_ORGANIZATION_ID", P_ORGANIZATION_ID);
                 params.put("p_ITEM_SEGMENT", P_ITEM_SEGMENT);
-                items = getNamedParameterJdbcTemplate().queryForList(query, params);
+                items = queryForList(projection, query, params);
             } catch (Exception exp) {
-                System.out.println(exp.toString());            
+                logger.error("getmtsspotcheck failed", exp);
             }
             
             APIResponse api=new APIResponse();
@@ -271,18 +322,25 @@ public class GSLocationSO extends NamedParameterJdbcDaoSupport {
         // getmtldesccheck
         public ResponseEntity<APIResponse> getmtldesccheck(Map<String, Object> content) {
             String P_ITEM_SEGMENT=content.get("P_ITEM_SEGMENT")==null?"":content.get("P_ITEM_SEGMENT").toString();
+            // Optional free text - ranked description search from the in-memory index
+            String P_DESCRIPTION=content.get("P_DESCRIPTION")==null?"":content.get("P_DESCRIPTION").toString();
+            FieldProjection projection = FieldProjection.from(content);
             List<Map<String, Object>> items = null;
             Map<String, Object> params = new HashMap();
             
             String query=
-            "SELECT * FROM XXGS_GET_MTL_DESC_CROSS_V WHERE ITEM_SEGMENT1 = :p_ITEM_SEGMENT"; 
+            "SELECT " + viewColumns.selectList("XXGS_GET_MTL_DESC_CROSS_V", projection) + " FROM XXGS_GET_MTL_DESC_CROSS_V WHERE ITEM_SEGMENT1 = :p_ITEM_SEGMENT"; 
     
             try {
-                params.put("p_ITEM_SEGMENT", P_ITEM_SEGMENT);
-                // System.out.println("==>"+query);
-                items = getNamedParameterJdbcTemplate().queryForList(query, params);
+                if (!P_DESCRIPTION.isEmpty()) {
+                    items = projection.project(itemDescriptionIndex.search(P_ITEM_SEGMENT, P_DESCRIPTION));
+                } else {
+                    params.put("p_ITEM_SEGMENT", P_ITEM_SEGMENT);
+                    // System.out.println("==>"+query);
+                    items = queryForList(projection, query, params);
+                }
             } catch (Exception exp) {
-                System.out.println(exp.toString());            
+                logger.error("getmtldesccheck failed", exp);
             }
 
             APIResponse api=new APIResponse();
@@ -319,11 +377,22 @@ public class GSLocationSO extends NamedParameterJdbcDaoSupport {
             }*/
 
             
-            Map<String, Object> ls=gsLocationPackage.getItemCodeList(p_org_id, p_sub_inv_code);
+            Map<String, Object> ls=FieldProjection.from(content).streaming(new Supplier<Map<String, Object>>() {
+                @Override
+                public Map<String, Object> get() {
+                    return gsLocationPackage.getItemCodeList(p_org_id, p_sub_inv_code);
+                }
+            });
 
             APIResponse api=new APIResponse();
             api.setData(ls);
             api.setStatus(HttpStatus.OK.value());    
             return ResponseEntity.ok().body(api); 
         }  
+
+        // Uncached view lookups - rows carry only the requested columns even when the
+        // view's column list is unknown and the select list falls back to "*"
+        private List<Map<String, Object>> queryForList(FieldProjection projection, String query, Map<String, Object> params) {
+            return projection.streaming(() -> getNamedParameterJdbcTemplate().query(query, params, ProjectingJdbcTemplate.columnMapRows()));
+        }
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.mobile.integration.grandstores.GSBinLocation.GSService;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import com.mobile.integration.grandstores.Utils.Cache.RefreshAheadCache;
+import com.mobile.integration.grandstores.Utils.Search.TrigramIndex;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcDaoSupport;
+import org.springframework.stereotype.Component;
+
+/**
+ * Trigram indexes over XXGS_GET_MTL_DESC_CROSS_V, one per department (ITEM_SEGMENT1),
+ * for description search on mtldesccheck. Built from the same rows the endpoint
+ * already reads and refreshed in the background.
+ */
+@Component
+public class ItemDescriptionIndex extends NamedParameterJdbcDaoSupport {
+
+    private static final String DESC_SQL = "SELECT * FROM XXGS_GET_MTL_DESC_CROSS_V WHERE ITEM_SEGMENT1 = :p_ITEM_SEGMENT";
+
+    @Autowired
+    @Qualifier("taskExecutor")
+    private Executor taskExecutor;
+
+    @Value("${app.search.item-desc.column:DESCRIPTION}")
+    private String descriptionColumn;
+
+    @Value("${app.search.item-desc.refresh-after-ms:600000}")
+    private long refreshAfterMs;
+
+    @Value("${app.search.item-desc.expire-after-ms:3600000}")
+    private long expireAfterMs;
+
+    @Value("${app.search.item-desc.max-results:200}")
+    private int maxResults;
+
+    private RefreshAheadCache<String, TrigramIndex<Map<String, Object>>> indexes;
+
+    @Autowired
+    public void setDataSource(JdbcTemplate jdbcTemplate) {
+        super.setDataSource(jdbcTemplate.getDataSource());
+    }
+
+    @Override
+    protected void initDao() {
+        indexes = new RefreshAheadCache<>("itemDescriptions", refreshAfterMs, expireAfterMs, taskExecutor,
+            new Function<String, TrigramIndex<Map<String, Object>>>() {
+                @Override
+                public TrigramIndex<Map<String, Object>> apply(String segment) {
+                    return load(segment);
+                }
+            });
+    }
+
+    /** Rows of the department whose description contains text (case insensitive), best matches first. */
+    public List<Map<String, Object>> search(String segment, String text) {
+        return indexes.get(segment).search(text, maxResults);
+    }
+
+    private TrigramIndex<Map<String, Object>> load(String segment) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("p_ITEM_SEGMENT", segment);
+        List<Map<String, Object>> rows = getNamedParameterJdbcTemplate().queryForList(DESC_SQL, params);
+        return TrigramIndex.build(Collections.unmodifiableList(rows), new Function<Map<String, Object>, String>() {
+            @Override
+            public String apply(Map<String, Object> row) {
+                Object value = row.get(descriptionColumn);
+                return value == null ? null : value.toString();
+            }
+        });
+    }
+
+}
@@ -68,27 +68,27 @@ public class IOReceiptConfirmSO {
         APIResponse api=new APIResponse();
         while (iterator1.hasNext()) {
             IOReceiptConfirmEO current = iterator1.next();
-            System.out.println("current.getTransactionType().toString(): "+current.getTransactionType().toString());
+            logger.debug("current.getTransactionType().toString(): {}", current.getTransactionType().toString());
             if(current.getTransactionType().toString().equalsIgnoreCase("IO_RECEIPT")){
                 comb = current.getLineNum().toString() +
                     "-" +current.getItemId().toString()+ 
                     "-" +current.getShipmentHeaderId().toString()+
                     "-" +current.getStatus().toString()+    
                     "-" +current.getShipmentLineId().toString();
-                System.out.println("inside the iterator: "+comb);
+                logger.debug("inside the iterator: {}", comb);
                 if(myList.contains(comb)){
                     iterator1.remove();
-                    System.out.println("removed");
+                    logger.debug("removed");
                 }
                 else{
-                    System.out.println("else part");
+                    logger.debug("else part");
                     int countD = recordCheckforIoReceipt(current.getLineNum().toString(), 
                                             current.getItemId().toString(), current.getShipmentHeaderId().toString(),
                                             current.getStatus().toString(), 
                                             current.getShipmentLineId().toString());
-                    System.out.println("countD: "+countD);
+                    logger.debug("countD: {}", countD);
                     if(countD == 0){
-                        System.out.println("inside the countD = 0");
+                        logger.debug("inside the countD = 0");
                         ioReceiptConfirmro.save(current);
                        // listFromIterator.add(current);
                         myList.add(comb);
@@ -118,20 +118,20 @@ public class IOReceiptConfirmSO {
                             "-" +current.getStatus().toString()+    
                             "-" +current.getDelivLocator().toString()+
                             "-" +current.getShipmentLineId().toString();
-                        System.out.println("inside the iterator: "+comb);
+                        logger.debug("inside the iterator: {}", comb);
                         if(myList.contains(comb)){
                             iterator1.remove();
-                            System.out.println("removed");
+                            logger.debug("removed");
                         }
                         else{
-                            System.out.println("else part");
+                            logger.debug("else part");
                             int countD = recordCheckforIoDelivery(current.getLineNum().toString(), 
                                                     current.getItemId().toString(), current.getShipmentHeaderId().toString(),
                                                     current.getReceiptNum().toString(), current.getStatus().toString(), 
                                                     current.getDelivLocator().toString(), current.getShipmentLineId().toString());
-                            System.out.println("countD: "+countD);
+                            logger.debug("countD: {}", countD);
                             if(countD == 0){
-                                System.out.println("inside the countD = 0");
+                                logger.debug("inside the countD = 0");
                                 ioReceiptConfirmro.save(current);
                                 //listFromIterator.add(current);
                                 myList.add(comb);
@@ -157,14 +157,14 @@ public class IOReceiptConfirmSO {
 
     private int recordCheckforIoReceipt(String lineNum, String itemId, String supHdrId, String status, 
                                     String supLineId) {
-        System.out.println("inside IoReceipt");
+        logger.debug("inside IoReceipt");
         int c = ioReceiptConfirmro.recordCountIOReceiptConfirm(lineNum, itemId, supHdrId, status, supLineId);
         return c;
     }
 
     private int recordCheckforIoDelivery(String lineNum, String itemId, String supHdrId, String receiptNum, String status, 
                                     String delivLoc, String supLineId) {
-        System.out.println("inside IO Delivery");
+        logger.debug("inside IO Delivery");
         int c = ioReceiptConfirmro.recordCountIODeliveryConfirm(lineNum, itemId, supHdrId, receiptNum, status, delivLoc, supLineId);
         return c;
     }
@@ -215,8 +215,8 @@ public class IOReceiptConfirmSO {
                     String message = messageObj != null ? messageObj.toString() : "";
                     api.setStatus(statusCode); 
                     api.setError(message);
-                    System.out.println("Status Code: " + statusCode);
-                    System.out.println("Message: " + message);
+                    logger.debug("Status Code: {}", statusCode);
+                    logger.debug("Message: {}", message);
                 }
             }
         
@@ -261,8 +261,8 @@ public class IOReceiptConfirmSO {
                     String message = messageObj != null ? messageObj.toString() : "";
                     api.setStatus(statusCode); 
                     api.setError(message);
-                    System.out.println("Status Code: " + statusCode);
-                    System.out.println("Message: " + message);
+                    logger.debug("Status Code: {}", statusCode);
+                    logger.debug("Message: {}", message);
                 }
             }
         
@@ -52,7 +52,7 @@ public class InvCountConfirmSO {
         }catch(Exception e){
             logger.info("issue in inserting the mobile request payload: "+e.getMessage());
         }
-        System.out.println("==>+");
+        logger.debug("==>+");
         Iterable<InvCountConfirmEO> ls=invCountConfirmRo.saveAll(bodydtl);
         
         try{
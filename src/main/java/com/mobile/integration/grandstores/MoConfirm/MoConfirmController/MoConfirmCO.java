@@ -56,20 +56,20 @@ public class MoConfirmCO {
         while (iterator1.hasNext()) {
             MoConfirmEO current = iterator1.next();
             comb = current.getSourceLocationId().toString() + "-" + current.getDeliveryDetailId().toString() + "-" +current.getItemId().toString() + "-" +current.getMoNumber().toString()+ "-" +current.getMoLineNumber().toString() + "-" +current.getStatus().toString();
-            System.out.println("Combination: "+comb);
+            logger.debug("Combination: {}", comb);
             if(myList.contains(comb)){
                 iterator1.remove();
-                System.out.println("removed");
+                logger.debug("removed");
             }
             else{
-                 System.out.println("else part");
+                 logger.debug("else part");
                  int countR = moConfirmSO.recordCountService(current.getSourceLocationId().toString(), 
                                         current.getDeliveryDetailId().toString(), current.getItemId().toString(),
                                         current.getMoNumber().toString(), current.getMoLineNumber().toString(),
                                         current.getStatus().toString());
-                System.out.println("countR: "+countR);
+                logger.debug("countR: {}", countR);
                 if(countR == 0){
-                     System.out.println("inside the countR = 0");
+                     logger.debug("inside the countR = 0");
                     listFromIterator.add(current);
                     myList.add(comb);
                 }else{
@@ -78,12 +78,12 @@ public class MoConfirmCO {
                     mobTransLog.setProcessedTime(new java.sql.Date(new Date().getTime()));
                     mobTransLog.setAttributeCategory(comb);
                     mobTransLogSO.saveMobTransLog(mobTransLog);   
-                    System.out.println("mo failed : "+comb);
+                    logger.debug("mo failed : {}", comb);
                 }
             }
         }               
-        System.out.println("myL size: " +myList.size());
-        System.out.println("listFromIterator: " +listFromIterator.size());
+        logger.debug("myL size: {}", myList.size());
+        logger.debug("listFromIterator: {}", listFromIterator.size());
         return moConfirmSO.insertMoConfirmRO(listFromIterator);
     }
 
@@ -97,7 +97,7 @@ public class MoConfirmCO {
        //insertMoConfirm Services
        @RequestMapping(value = "/insertpick", method = RequestMethod.POST)
        public ResponseEntity<APIResponse> insertPickConfirm(@RequestBody Iterable<PickConfirmEO> bodydtl) throws ParseException{
-        System.out.println("insert Pick "+bodydtl);
+        logger.debug("insert Pick {}", bodydtl);
         List<String> myPoList = new ArrayList<>();
         String poComb = "";
         List<PickConfirmEO> poListFromIterator = new ArrayList<>();
@@ -105,25 +105,25 @@ public class MoConfirmCO {
         Iterator<PickConfirmEO> iterator2 = bodydtl.iterator();
         while (iterator2.hasNext()) {
             PickConfirmEO poCurrent = iterator2.next();
-            System.out.println("current.getFromSerialNumber.toString(): "+poCurrent.getFromSerialNumber().toString());
+            logger.debug("current.getFromSerialNumber.toString(): {}", poCurrent.getFromSerialNumber().toString());
             
-            System.out.println("current.getTrans.toString(): "+poCurrent.getTransactionType().toString());
+            logger.debug("current.getTrans.toString(): {}", poCurrent.getTransactionType().toString());
             if(poCurrent.getTransactionType().toString().equalsIgnoreCase("Out Bound Picking")){
                 poComb = poCurrent.getDeliveryDetailId().toString() + "-" +poCurrent.getFromSerialNumber().toString() + "-" +poCurrent.getAttribute1().toString() +"-" 
                         +poCurrent.getAttribute2().toString() +"-" +poCurrent.getAttribute3().toString() + "-" +poCurrent.getAttribute4().toString();
-                System.out.println("inside the po iterator: "+poComb);
+                logger.debug("inside the po iterator: {}", poComb);
                 if(myPoList.contains(poComb)){
                     iterator2.remove();
                 }
                 else{
-                    System.out.println("else part");
+                    logger.debug("else part");
                     int countR = pickConfirmso.poRecordCountService(poCurrent.getDeliveryDetailId().toString(), 
                     poCurrent.getFromSerialNumber().toString(), poCurrent.getAttribute1().toString(),
                     poCurrent.getAttribute2().toString(), poCurrent.getAttribute3().toString(),
                     poCurrent.getAttribute4().toString());
-                    System.out.println("countR: "+countR);
+                    logger.debug("countR: {}", countR);
                     if(countR == 0){
-                        System.out.println("inside the countR = 0 po");
+                        logger.debug("inside the countR = 0 po");
                         poListFromIterator.add(poCurrent);
                         myPoList.add(poComb);
                     }else{
@@ -133,31 +133,31 @@ public class MoConfirmCO {
                         mobTransLog.setProcessedTime(new java.sql.Date(new Date().getTime()));
                         mobTransLog.setAttributeCategory(poComb);
                         mobTransLogSO.saveMobTransLog(mobTransLog);   
-                        System.out.println("po failed : "+poComb);
+                        logger.debug("po failed : {}", poComb);
                     }
                 }
             }
             //RMA_DELIVERY
             if(poCurrent.getTransactionType().toString().equalsIgnoreCase("RMA_DELIVERY")){
-                System.out.println("inside the po RMA_DELIVERY iterator: ");
+                logger.debug("inside the po RMA_DELIVERY iterator: ");
                 poComb = poCurrent.getFromSerialNumber().toString() + 
                         "-" +poCurrent.getAttribute2().toString() +
                         "-" +poCurrent.getAttribute3().toString() + 
                         "-" +poCurrent.getTransactionType().toString();
-                System.out.println("inside the po RMA_DELIVERY iterator: "+poComb);
+                logger.debug("inside the po RMA_DELIVERY iterator: {}", poComb);
                 if(myPoList.contains(poComb)){
                     iterator2.remove();
                 }
                 else{
-                    System.out.println("else part");
+                    logger.debug("else part");
                     int countR = pickConfirmso.poRecordCountDelivery(
                         poCurrent.getFromSerialNumber().toString(), 
                         poCurrent.getAttribute2().toString(), 
                         poCurrent.getAttribute3().toString(),
                         poCurrent.getTransactionType().toString());
-                    System.out.println("countR: "+countR);
+                    logger.debug("countR: {}", countR);
                     if(countR == 0){
-                        System.out.println("inside the countR = 0 po");
+                        logger.debug("inside the countR = 0 po");
                         poListFromIterator.add(poCurrent);
                         myPoList.add(poComb);
                     }else{
@@ -167,14 +167,14 @@ public class MoConfirmCO {
                         mobTransLog.setProcessedTime(new java.sql.Date(new Date().getTime()));
                         mobTransLog.setAttributeCategory(poComb);
                         mobTransLogSO.saveMobTransLog(mobTransLog);   
-                        System.out.println("po failed : "+poComb);
+                        logger.debug("po failed : {}", poComb);
                     }
                 }
             }
             
         }   
-        System.out.println("poListFromIterator: " +poListFromIterator.size());
-        System.out.println("my po list failed size: " +poListFailed.size());
+        logger.debug("poListFromIterator: {}", poListFromIterator.size());
+        logger.debug("my po list failed size: {}", poListFailed.size());
         
         if(poListFromIterator.size() > 0){
             return pickConfirmso.insertPickConfirm(poListFromIterator);
@@ -209,7 +209,7 @@ public class MoConfirmCO {
         while (iterator1.hasNext()) {
             MoConfirmEO current = iterator1.next();
             comb = current.getSourceLocationId().toString() + "-" +current.getDeliveryDetailId().toString() + "-" +current.getItemId().toString();
-            System.out.println("inside the iterator: "+comb);
+            logger.debug("inside the iterator: {}", comb);
             if(current.getAttribute12().equalsIgnoreCase("Y")){
                 if(moMap.containsKey(current.getDeliveryDetailId().toString())){
                     BigDecimal sum = (moMap.get(current.getDeliveryDetailId().toString())).add(current.getPickedQuantity());
@@ -217,7 +217,7 @@ public class MoConfirmCO {
                 }else{
                     moMap.put(current.getDeliveryDetailId().toString(),current.getPickedQuantity());
                 }
-                System.out.println("moMap: "+moMap);
+                logger.debug("moMap: {}", moMap);
             }
             if(myList.contains(comb)){
                 iterator1.remove();
@@ -227,9 +227,9 @@ public class MoConfirmCO {
                                         current.getDeliveryDetailId().toString(), current.getItemId().toString(),
                                         current.getMoNumber().toString(), current.getMoLineNumber().toString(),
                                         current.getStatus().toString());
-                System.out.println("countR: "+countR);
+                logger.debug("countR: {}", countR);
                 if(countR == 0){
-                    System.out.println("inside the countR = 0");
+                    logger.debug("inside the countR = 0");
                     listFromIterator.add(current);
                     myList.add(comb);
                 }else{
@@ -239,12 +239,12 @@ public class MoConfirmCO {
                     mobTransLog.setProcessedTime(new java.sql.Date(new Date().getTime()));
                     mobTransLog.setAttributeCategory(comb);
                     mobTransLogSO.saveMobTransLog(mobTransLog);   
-                    System.out.println("mo failed : "+comb);
+                    logger.debug("mo failed : {}", comb);
                 }
             }
         }               
-        System.out.println("myL size: " +myList.size());
-        System.out.println("listFromIterator: " +listFromIterator.size());
+        logger.debug("myL size: {}", myList.size());
+        logger.debug("listFromIterator: {}", listFromIterator.size());
         if(listFromIterator.size() > 0){
             moConfirmSO.insertMoConfirmRO(listFromIterator);
         }
@@ -259,7 +259,7 @@ public class MoConfirmCO {
         while (iterator2.hasNext()) {
             BigDecimal init = new BigDecimal(1);
             PickConfirmEO poCurrent = iterator2.next();
-            System.out.println("current.getDelDetailId.toString(): "+poCurrent.getDeliveryDetailId().toString());
+            logger.debug("current.getDelDetailId.toString(): {}", poCurrent.getDeliveryDetailId().toString());
             
             if(poMap.containsKey(poCurrent.getDeliveryDetailId().toString())){
                 BigDecimal poSum = (poMap.get(poCurrent.getDeliveryDetailId().toString())).add(init);
@@ -267,27 +267,27 @@ public class MoConfirmCO {
             }else{
                 poMap.put(poCurrent.getDeliveryDetailId().toString(),init);
             }
-            System.out.println("poMap: "+poMap);  
+            logger.debug("poMap: {}", poMap);
             poComb = poCurrent.getDeliveryDetailId().toString() + "-" +poCurrent.getFromSerialNumber().toString() + "-" +poCurrent.getAttribute1().toString() +"-" 
                         +poCurrent.getAttribute2().toString() +"-" +poCurrent.getAttribute3().toString() + "-" +poCurrent.getAttribute4().toString();
-            System.out.println("inside the po iterator: "+poComb);
+            logger.debug("inside the po iterator: {}", poComb);
             
             if(myPoList.contains(poComb)){
                 iterator2.remove();
-                System.out.println("po removed: ");
+                logger.debug("po removed: ");
             }
             else{
                 int countR = pickConfirmso.poRecordCountService(poCurrent.getDeliveryDetailId().toString(), 
                 poCurrent.getFromSerialNumber().toString(), poCurrent.getAttribute1().toString(),
                 poCurrent.getAttribute2().toString(), poCurrent.getAttribute3().toString(),
                 poCurrent.getAttribute4().toString());
-                System.out.println("countR: "+countR);
+                logger.debug("countR: {}", countR);
                 
                 if(countR == 0){
-                    System.out.println("inside the countR = 0 po");
+                    logger.debug("inside the countR = 0 po");
                     poListFromIterator.add(poCurrent);
                     myPoList.add(poComb);
-                    System.out.println("myPoList: "+myPoList); 
+                    logger.debug("myPoList: {}", myPoList);
                 }else{
                     poListFailed.add(poComb);
                     mobTransLog = new MobTransLogEO();   
@@ -298,8 +298,8 @@ public class MoConfirmCO {
                 }
             }
         }   
-        System.out.println("poListFromIterator: " +poListFromIterator.size());
-        System.out.println("my po list failed size: " +poListFailed.size());  
+        logger.debug("poListFromIterator: {}", poListFromIterator.size());
+        logger.debug("my po list failed size: {}", poListFailed.size());
         if(poListFromIterator.size() > 0){
             pickConfirmso.insertPickConfirm(poListFromIterator);
         } 
@@ -310,7 +310,7 @@ public class MoConfirmCO {
         int badCount = 0;
         if(!moMap.isEmpty()){
             if(poMap.isEmpty()){
-                System.out.println("Either of the 2 validation is empty.");
+                logger.debug("Either of the 2 validation is empty.");
                 api.setStatus(HttpStatus.BAD_REQUEST.value());
                 api.setError("Data insertion issue");
             }else{
@@ -319,12 +319,12 @@ public class MoConfirmCO {
                     BigDecimal matchCount = new BigDecimal(num);
                     logger.info("Matching count: "+matchCount);
                     if(moMap.get(moKey).compareTo(matchCount) == 0){
-                        System.out.println("inside OK content. ");
+                        logger.debug("inside OK content. ");
                         api.setStatus(HttpStatus.OK.value()); 
                         api.setError("Created");
                     }
                     else{
-                        System.out.println("inside BAD_REQUEST. ");
+                        logger.debug("inside BAD_REQUEST. ");
                         api.setStatus(HttpStatus.BAD_REQUEST.value());
                         api.setError("Data insertion issue");
                         badCount++;
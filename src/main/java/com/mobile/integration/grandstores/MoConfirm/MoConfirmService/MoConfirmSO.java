@@ -10,6 +10,8 @@ import com.mobile.integration.grandstores.MoConfirm.MoConfirmRepository.MoConfir
 import com.mobile.integration.grandstores.PackageCalling.MoveOrderPackage;
 import com.mobile.integration.grandstores.Utils.ResponseAPI.APIResponse;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -18,6 +20,8 @@ import org.springframework.stereotype.Service;
 @Service
 public class MoConfirmSO {
 
+    private static final Logger logger = LoggerFactory.getLogger(MoConfirmSO.class);
+
     @Autowired
     private MoConfirmRO moConfirmro;
 
@@ -40,7 +44,7 @@ public class MoConfirmSO {
     }
     // duplicate line filtration - 18/12/23
     public int recordCountService(String s, String d, String i, String moNumber, String moLineNumber, String status){
-        System.out.println("inside recordCountService");
+        logger.debug("inside recordCountService");
         int c = moConfirmro.recordCount(s, d, i, moNumber, moLineNumber, status);
         return c;
     }
@@ -64,20 +68,20 @@ public class MoConfirmSO {
             String key = entry.getKey();
             String value = entry.getValue().toString();
             co++;
-            System.out.println("co : "+co);
-            System.out.println("value1: "+value);
+            logger.debug("co : {}", co);
+            logger.debug("value1: {}", value);
             List<String> desc = null;
             StringBuilder errorMsg = new StringBuilder();
             String finalString = null;
             if(co == 2){
                 String[] descriptions = value.substring(20, value.length() - 1).split("\\}, \\{ERROR_DESCRIPTION=");
                 desc = Arrays.asList(descriptions);
-                System.out.println("output: "+desc);
+                logger.debug("output: {}", desc);
                 for (String item : desc) {
                     errorMsg.append(item).append("~"); 
-                    System.out.println("item: "+item);
+                    logger.debug("item: {}", item);
                     finalString = item + "~" +finalString;
-                    System.out.println("finalString: "+finalString);
+                    logger.debug("finalString: {}", finalString);
                     
                 }
             }
@@ -90,7 +94,7 @@ public class MoConfirmSO {
             }
             if(api.getStatus() == 400 && co == 2){
                 String f = finalString.replace("}", "").substring(0, finalString.length() - 6);
-                System.out.println(" F: "+f);
+                logger.debug(" F: {}", f);
                 api.setError("BAD REQUEST~"+f);
             }
         }
@@ -12,6 +12,8 @@ import com.mobile.integration.grandstores.Utils.Generic.DateUtils;
 import com.mobile.integration.grandstores.Utils.ResponseAPI.APIResponse;
 
 import org.json.JSONArray;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +21,8 @@ import org.springframework.stereotype.Service;
 
 @Service
 public class PickConfirmSO {
+
+    private static final Logger logger = LoggerFactory.getLogger(PickConfirmSO.class);
     
     @Autowired
     private PickConfirmRO pickConfirmro;
@@ -48,14 +52,14 @@ public class PickConfirmSO {
     // duplicate line filtration - 18/12/23
     public int poRecordCountService(String delDetialId, String fromSerialNum, String att1, 
                                         String att2, String att3, String att4){
-        System.out.println("inside poRecordCountService");
+        logger.debug("inside poRecordCountService");
         int c = pickConfirmro.recordCountPickConfirm(delDetialId, fromSerialNum, att1, att2, att3, att4);
         return c;
     }
 
     // 
     public int poMatchCountService(String delDetialId){
-        System.out.println("inside poRecordCountService");
+        logger.debug("inside poRecordCountService");
         int c = pickConfirmro.poMatchCount(delDetialId);
         return c;
     }
@@ -72,7 +76,7 @@ public class PickConfirmSO {
 
 
     public int poRecordCountDelivery(String serialNo, String att2, String att3, String trans) {
-        System.out.println("inside poRecordCountDelivery");
+        logger.debug("inside poRecordCountDelivery");
         int c = pickConfirmro.recordCountDelivery(serialNo, att2, att3, trans);
         return c;
     }
@@ -70,6 +70,12 @@ public class MoveOrderCO {
             return moveOrderso.getMoItemDetail(content);
     }
 
+    //get items, lots and cross refs for several move orders in one call
+    @RequestMapping(value = "/getmobatch", method = RequestMethod.POST)
+    public ResponseEntity<APIResponse> getMoBatch(@RequestBody  Map<String, Object> content){
+            return moveOrderso.getMoBatch(content);
+    }
+
     //get GET_MO_ITEM_DETAILS Services
     @RequestMapping(value = "/jsonpost", method = RequestMethod.POST)
     public ResponseEntity<APIResponse> getJsonPost(@RequestBody String payload) {
@@ -5,16 +5,33 @@ import org.springframework.stereotype.Service;
 import java.math.BigDecimal;
 import java.sql.SQLException;
 // import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 import javax.sql.rowset.serial.SerialException;
 
 import com.mobile.integration.grandstores.PackageCalling.MoveOrderPackage;
 // import com.mobile.integration.grandstores.POJO.UserPoJo;
 import com.mobile.integration.grandstores.PackageCalling.MoveOrderPkg;
+import com.mobile.integration.grandstores.PackageCalling.Showroompkg;
+import com.mobile.integration.grandstores.Utils.Cache.SingleFlight;
+import com.mobile.integration.grandstores.Utils.Projection.ProjectingJdbcTemplate;
 import com.mobile.integration.grandstores.Utils.ResponseAPI.APIResponse;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 // -----------
@@ -24,12 +41,34 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcDaoSupport;
 
 @Service
 public class MoveOrderSO extends NamedParameterJdbcDaoSupport{
+
+    private static final Logger logger = LoggerFactory.getLogger(MoveOrderSO.class);
  
     @Autowired
     private MoveOrderPkg moveOrderpkg;
     
+    @Autowired
+    private SingleFlight singleFlight;
+
     @Autowired
     private MoveOrderPackage mopkg;
+
+    @Autowired
+    private Showroompkg showroompkg;
+
+    @Autowired
+    @Qualifier("fanOutExecutor")
+    private Executor fanOutExecutor;
+
+    @Value("${app.mo-batch.max-orders:50}")
+    private int maxBatchOrders;
+
+    @Value("${app.mo-batch.timeout-ms:60000}")
+    private long batchTimeoutMs;
+
+    // Column of the GET_MO_DETAILS cursor carrying the move order header id
+    @Value("${app.mo-batch.header-column:HEADER_ID}")
+    private String headerColumn;
     
 
 
@@ -103,8 +142,9 @@ public class MoveOrderSO extends NamedParameterJdbcDaoSupport{
         // long totProcStartTime = System.currentTimeMillis();
         // System.out.println("Start Time :: " + totProcStartTime + " ms");
         // 
-        Map<String, Object> ls=mopkg.
-        getmodetailPkg(new BigDecimal(p_ORGANIZATION_ID),p_MOVE_ORDER_NUM); 
+        Map<String, Object> ls=singleFlight.execute(
+            SingleFlight.key("GET_MO_DETAILS", p_ORGANIZATION_ID, p_MOVE_ORDER_NUM),
+            () -> mopkg.getmodetailPkg(new BigDecimal(p_ORGANIZATION_ID),p_MOVE_ORDER_NUM));
         // 
         // long totProcEndTime = System.currentTimeMillis();
         // System.out.println("End Time :: " + totProcEndTime + " ms");
@@ -214,15 +254,134 @@ public class MoveOrderSO extends NamedParameterJdbcDaoSupport{
         return ResponseEntity.ok().body(api); 
     }
 
-    
-
-
-
 
+    /**
+     * Items, lots and cross references for several move orders in one round trip.
+     * P_MOVE_ORDER_NUMS is resolved to header ids through GET_MO_DETAILS, then the detail
+     * procedures run concurrently on fanOutExecutor. P_SOURCE=SRM switches to the showroom
+     * package, which has no lot procedure. Each order carries its own STATUS / ERROR so one
+     * bad order does not fail the rest. Every call runs with a query timeout of the time left
+     * to app.mo-batch.timeout-ms, so a call the request stopped waiting for is also stopped
+     * in Oracle instead of holding its connection.
+     */
+    public ResponseEntity<APIResponse> getMoBatch(Map<String, Object> content) {
+        String p_ORGANIZATION_ID=content.get("P_ORGANIZATION_ID")==null ? "0" : String.valueOf(content.get("P_ORGANIZATION_ID"));
+        boolean srm="SRM".equalsIgnoreCase(content.get("P_SOURCE")==null ? "" : String.valueOf(content.get("P_SOURCE")));
 
+        APIResponse api=new APIResponse();
+        List<String> moveOrders=new ArrayList<>();
+        if (content.get("P_MOVE_ORDER_NUMS") instanceof List) {
+            for (Object mo : new LinkedHashSet<>((List<?>) content.get("P_MOVE_ORDER_NUMS"))) {
+                if (mo != null && !String.valueOf(mo).trim().isEmpty()) {
+                    moveOrders.add(String.valueOf(mo).trim());
+                }
+            }
+        }
+        if (moveOrders.isEmpty() || moveOrders.size() > maxBatchOrders) {
+            api.setError("P_MOVE_ORDER_NUMS must hold 1 to " + maxBatchOrders + " move orders");
+            api.setStatus(HttpStatus.BAD_REQUEST.value());
+            return ResponseEntity.badRequest().body(api);
+        }
+
+        long deadline=System.currentTimeMillis() + batchTimeoutMs;
+        Map<String, Map<String, Object>> orders=new LinkedHashMap<>();
+
+        // Phase 1 - header id per move order
+        Map<String, CompletableFuture<Map<String, Object>>> headers=new LinkedHashMap<>();
+        for (String mo : moveOrders) {
+            orders.put(mo, new LinkedHashMap<>());
+            headers.put(mo, CompletableFuture.supplyAsync(bounded(deadline, () -> srm
+                    ? showroompkg.GET_MO_DETAILS(p_ORGANIZATION_ID, mo, "")
+                    : mopkg.getmodetailPkg(new BigDecimal(p_ORGANIZATION_ID), mo)), fanOutExecutor));
+        }
+
+        // Phase 2 - detail procedures for every resolved header, all in flight together
+        Map<String, Map<String, CompletableFuture<Map<String, Object>>>> details=new LinkedHashMap<>();
+        for (String mo : moveOrders) {
+            Map<String, Object> order=orders.get(mo);
+            String headerId;
+            try {
+                headerId=headerId(awaitBatch(headers.get(mo), deadline));
+            } catch (Exception e) {
+                fail(mo, order, e);
+                continue;
+            }
+            if (headerId == null) {
+                order.put("STATUS", "NOT_FOUND");
+                continue;
+            }
+            order.put("HEADER_ID", headerId);
+
+            Map<String, CompletableFuture<Map<String, Object>>> calls=new LinkedHashMap<>();
+            calls.put("ITEMS", CompletableFuture.supplyAsync(bounded(deadline, () -> srm
+                    ? showroompkg.GET_MO_ITEM_DETAILS(headerId)
+                    : mopkg.getmoItemDetailPkg(new BigDecimal(headerId))), fanOutExecutor));
+            if (!srm) {
+                calls.put("LOTS", CompletableFuture.supplyAsync(bounded(deadline,
+                        () -> mopkg.getmoItemLotDtl(new BigDecimal(headerId), "", "")), fanOutExecutor));
+            }
+            calls.put("CROSS_REFS", CompletableFuture.supplyAsync(bounded(deadline, () -> srm
+                    ? showroompkg.GET_MO_ITEM_CROSS_REF_DTLS(headerId)
+                    : mopkg.getmoItemCrossRefPkg(new BigDecimal(headerId))), fanOutExecutor));
+            details.put(mo, calls);
+        }
+
+        for (Map.Entry<String, Map<String, CompletableFuture<Map<String, Object>>>> entry : details.entrySet()) {
+            Map<String, Object> order=orders.get(entry.getKey());
+            try {
+                for (Map.Entry<String, CompletableFuture<Map<String, Object>>> call : entry.getValue().entrySet()) {
+                    Map<String, Object> result=awaitBatch(call.getValue(), deadline);
+                    order.put(call.getKey(), result == null ? null : result.get("P_RECORDSET"));
+                }
+                order.put("STATUS", "OK");
+            } catch (Exception e) {
+                for (CompletableFuture<Map<String, Object>> call : entry.getValue().values()) {
+                    call.cancel(false);
+                }
+                order.keySet().removeAll(entry.getValue().keySet());
+                fail(entry.getKey(), order, e);
+            }
+        }
+
+        api.setData(orders);
+        api.setStatus(HttpStatus.OK.value());
+        return ResponseEntity.ok().body(api);
+    }
 
+    // Query timeout = whole seconds left to the deadline when the task starts, at least one
+    private static Supplier<Map<String, Object>> bounded(final long deadline, final Supplier<Map<String, Object>> call) {
+        return () -> {
+            long left = deadline - System.currentTimeMillis();
+            if (left <= 0) {
+                throw new IllegalStateException("MO batch deadline passed before the call started");
+            }
+            return ProjectingJdbcTemplate.withQueryTimeout((int) Math.max(1, (left + 999) / 1000), call);
+        };
+    }
 
+    private Map<String, Object> awaitBatch(CompletableFuture<Map<String, Object>> future, long deadline)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        return future.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+    }
 
+    private String headerId(Map<String, Object> moDetails) {
+        Object rows=moDetails == null ? null : moDetails.get("P_RECORDSET");
+        if (rows instanceof List && !((List<?>) rows).isEmpty() && ((List<?>) rows).get(0) instanceof Map) {
+            Object id=((Map<?, ?>) ((List<?>) rows).get(0)).get(headerColumn);
+            return id == null ? null : String.valueOf(id);
+        }
+        return null;
+    }
 
+    private void fail(String mo, Map<String, Object> order, Exception e) {
+        if (e instanceof InterruptedException) {
+            Thread.currentThread().interrupt();
+        }
+        Throwable cause=e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+        String message=e instanceof TimeoutException ? "Timed out after " + batchTimeoutMs + " ms" : String.valueOf(cause.getMessage());
+        logger.warn("MO batch fetch failed for {}: {}", mo, message);
+        order.put("STATUS", "ERROR");
+        order.put("ERROR", message);
+    }
 
-}
\ No newline at end of file
+}
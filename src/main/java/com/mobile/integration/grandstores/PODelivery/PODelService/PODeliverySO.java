@@ -1,9 +1,11 @@
 package com.mobile.integration.grandstores.PODelivery.PODelService;
 
 import java.util.Map;
+import java.util.function.Function;
 
 import com.mobile.integration.grandstores.PackageCalling.PODeliveryPackage;
 import com.mobile.integration.grandstores.Utils.ResponseAPI.APIResponse;
+import com.mobile.integration.grandstores.Utils.Search.PrefixResultCache;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -28,6 +30,9 @@ public class PODeliverySO extends NamedParameterJdbcDaoSupport {
     
     @Autowired
     private PODeliveryPackage poDeliveryPkg;
+
+    @Autowired
+    private PrefixResultCache prefixResultCache;
     
 
         // getPOReceiptDetails
@@ -36,7 +41,13 @@ public class PODeliverySO extends NamedParameterJdbcDaoSupport {
             String P_RECEIPT_NUM=content.get("P_RECEIPT_NUM")==null?"":content.get("P_RECEIPT_NUM").toString();
             String P_LIKE_COND_FLAG=content.get("P_LIKE_COND_FLAG")==null?"":content.get("P_LIKE_COND_FLAG").toString();
 
-            Map<String, Object> ls=poDeliveryPkg.poReceiptDetails(P_INVENTORY_ORG_ID, P_RECEIPT_NUM, P_LIKE_COND_FLAG);
+            Map<String, Object> ls=prefixResultCache.search("GET_RECEIPT_NUM", P_INVENTORY_ORG_ID, P_RECEIPT_NUM, P_LIKE_COND_FLAG,
+                "P_PO_DELIVERY_RS", "RECEIPT_NUM", new Function<String, Map<String, Object>>() {
+                    @Override
+                    public Map<String, Object> apply(String receiptNum) {
+                        return poDeliveryPkg.poReceiptDetails(P_INVENTORY_ORG_ID, receiptNum, P_LIKE_COND_FLAG);
+                    }
+                });
 
             APIResponse api=new APIResponse();
             api.setData(ls);
@@ -52,7 +63,13 @@ public class PODeliverySO extends NamedParameterJdbcDaoSupport {
             String P_SHIPMENT_NUM=content.get("P_SHIPMENT_NUM")==null?"":content.get("P_SHIPMENT_NUM").toString();
             String P_LIKE_COND_FLAG=content.get("P_LIKE_COND_FLAG")==null?"":content.get("P_LIKE_COND_FLAG").toString();
 
-            Map<String, Object> ls=poDeliveryPkg.poShipmentDetails(P_INVENTORY_ORG_ID, P_SHIPMENT_NUM, P_LIKE_COND_FLAG);
+            Map<String, Object> ls=prefixResultCache.search("GET_SHIPMENT_NUM", P_INVENTORY_ORG_ID, P_SHIPMENT_NUM, P_LIKE_COND_FLAG,
+                "P_PO_DELIVERY_RS", "SHIPMENT_NUM", new Function<String, Map<String, Object>>() {
+                    @Override
+                    public Map<String, Object> apply(String shipmentNum) {
+                        return poDeliveryPkg.poShipmentDetails(P_INVENTORY_ORG_ID, shipmentNum, P_LIKE_COND_FLAG);
+                    }
+                });
 
             APIResponse api=new APIResponse();
             api.setData(ls);
@@ -68,7 +85,13 @@ public class PODeliverySO extends NamedParameterJdbcDaoSupport {
             String P_PO_NUMBER=content.get("P_PO_NUMBER")==null?"":content.get("P_PO_NUMBER").toString();
             String P_LIKE_COND_FLAG=content.get("P_LIKE_COND_FLAG")==null?"":content.get("P_LIKE_COND_FLAG").toString();
 
-            Map<String, Object> ls=poDeliveryPkg.poReleaseDetails(P_INVENTORY_ORG_ID, P_PO_NUMBER, P_LIKE_COND_FLAG);
+            Map<String, Object> ls=prefixResultCache.search("GET_PO_NUM", P_INVENTORY_ORG_ID, P_PO_NUMBER, P_LIKE_COND_FLAG,
+                "P_PO_DELIVERY_RS", "PO_NUMBER", new Function<String, Map<String, Object>>() {
+                    @Override
+                    public Map<String, Object> apply(String poNumber) {
+                        return poDeliveryPkg.poReleaseDetails(P_INVENTORY_ORG_ID, poNumber, P_LIKE_COND_FLAG);
+                    }
+                });
 
             APIResponse api=new APIResponse();
             api.setData(ls);
@@ -0,0 +1,55 @@
+package com.mobile.integration.grandstores.POJO;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable view of what a user may access - org access, responsibility access and
+ * all responsibilities assigned - loaded together from the EBS security views.
+ */
+public class UserAccessSnapshot {
+
+    private final String userId;
+    private final List<Map<String, Object>> orgAccess;
+    private final List<Map<String, Object>> respAccess;
+    private final List<Map<String, Object>> allResp;
+    private final long loadedAt;
+
+    public UserAccessSnapshot(String userId, List<Map<String, Object>> orgAccess,
+            List<Map<String, Object>> respAccess, List<Map<String, Object>> allResp) {
+        this.userId = userId;
+        this.orgAccess = readOnlyRows(orgAccess);
+        this.respAccess = readOnlyRows(respAccess);
+        this.allResp = readOnlyRows(allResp);
+        this.loadedAt = System.currentTimeMillis();
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+    public List<Map<String, Object>> getOrgAccess() {
+        return orgAccess;
+    }
+    public List<Map<String, Object>> getRespAccess() {
+        return respAccess;
+    }
+    public List<Map<String, Object>> getAllResp() {
+        return allResp;
+    }
+    public long getLoadedAt() {
+        return loadedAt;
+    }
+
+    /** Read-only copy of query rows - list and row maps - safe to share from a cache. */
+    public static List<Map<String, Object>> readOnlyRows(List<Map<String, Object>> rows) {
+        List<Map<String, Object>> copy = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            copy.add(Collections.unmodifiableMap(new LinkedHashMap<>(row)));
+        }
+        return Collections.unmodifiableList(copy);
+    }
+
+}
@@ -4,6 +4,8 @@ import java.sql.Types;
 import java.util.Map;
 
 import org.hibernate.dialect.OracleTypesHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.SqlOutParameter;
@@ -19,6 +21,8 @@ import org.springframework.stereotype.Component;
 @Component
 public class MobileUtilsPK {
 
+    private static final Logger logger = LoggerFactory.getLogger(MobileUtilsPK.class);
+
     private final JdbcTemplate jdbcTemplate;
 
     @Autowired
@@ -29,6 +33,34 @@ public class MobileUtilsPK {
     @Value("${spring.application.schemaName}")
     private String schemaName;
 
+    // Compiled once - SimpleJdbcCall is thread safe after compile()
+    private volatile SimpleJdbcCall userAuthCall;
+
+    private SimpleJdbcCall getUserAuthCall() {
+        SimpleJdbcCall call = userAuthCall;
+        if (call == null) {
+            synchronized (this) {
+                call = userAuthCall;
+                if (call == null) {
+                    call = new SimpleJdbcCall(this.jdbcTemplate)
+                            .withSchemaName(schemaName)
+                            .withCatalogName("XXGS_MOB_UTIL_PKG")
+                            .withProcedureName("GET_USER_AUTH_P")
+                            .withoutProcedureColumnMetaDataAccess();
+                    call.declareParameters(
+                        new SqlParameter("P_USER_NAME",  Types.VARCHAR),
+                        new SqlParameter("P_PASSWORD",  Types.VARCHAR)
+                        // out param
+                        ,new SqlOutParameter("P_RECORDSET", Types.REF_CURSOR)
+                        );
+                    call.compile();
+                    userAuthCall = call;
+                }
+            }
+        }
+        return call;
+    }
+
 
     public Map<String, Object> submitPackage(
                                 String P_USER_NAME, 
@@ -36,19 +68,7 @@ public class MobileUtilsPK {
                                 ){
 
    long totProcStartTime = System.currentTimeMillis();
-    SimpleJdbcCall simpleJdbcCall;
-    // Map<String, Object> inParamMap = null;        
-    simpleJdbcCall=new SimpleJdbcCall(this.jdbcTemplate)
-                    .withSchemaName(schemaName)                
-                    .withCatalogName("XXGS_MOB_UTIL_PKG")
-                    .withProcedureName("GET_USER_AUTH_P");
-    simpleJdbcCall.declareParameters(
-        new SqlParameter("P_USER_NAME",  Types.VARCHAR),
-        new SqlParameter("P_PASSWORD",  Types.VARCHAR)
-        // out param
-        ,new SqlOutParameter("P_RECORDSET", Types.REF_CURSOR)
-        // ,new SqlOutParameter("P_RECORDSET", OracleTypesHelper.INSTANCE.getOracleCursorTypeSqlType())
-       ).compile();
+    SimpleJdbcCall simpleJdbcCall=getUserAuthCall();
 
     SqlParameterSource param=new MapSqlParameterSource()
        .addValue("P_USER_NAME", P_USER_NAME)
@@ -57,8 +77,8 @@ public class MobileUtilsPK {
        long totProcStartTime2 = System.currentTimeMillis();
        Map<String, Object> simpleJdbcCallResult =  simpleJdbcCall.execute(param);
        long totProcEndTime = System.currentTimeMillis();
-       System.out.println("total time taken all: " + (totProcEndTime - totProcStartTime) + " ms");
-       System.out.println("total time taken exe: " + (totProcEndTime - totProcStartTime2) + " ms");
+       logger.debug("total time taken all: {} ms", (totProcEndTime - totProcStartTime));
+       logger.debug("total time taken exe: {} ms", (totProcEndTime - totProcStartTime2));
        return simpleJdbcCallResult;
    }
 
@@ -4,6 +4,8 @@ import java.sql.Types;
 import java.util.Map;
 
 import org.hibernate.dialect.OracleTypesHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.SqlOutParameter;
@@ -19,6 +21,8 @@ import org.springframework.stereotype.Component;
 @Component
 public class MoveOrderPkg {
 
+    private static final Logger logger = LoggerFactory.getLogger(MoveOrderPkg.class);
+
     private final JdbcTemplate jdbcTemplate;
 
     @Autowired
@@ -57,8 +61,8 @@ public class MoveOrderPkg {
             long totProcStartTime2 = System.currentTimeMillis();
             Map<String, Object> simpleJdbcCallResult =  simpleJdbcCall.execute(param);
             long totProcEndTime = System.currentTimeMillis();
-            System.out.println("total time taken all: " + (totProcEndTime - totProcStartTime) + " ms");
-            System.out.println("total time taken exe: " + (totProcEndTime - totProcStartTime2) + " ms");
+            logger.debug("total time taken all: {} ms", (totProcEndTime - totProcStartTime));
+            logger.debug("total time taken exe: {} ms", (totProcEndTime - totProcStartTime2));
             return simpleJdbcCallResult;
 }
 
@@ -3,12 +3,15 @@ import java.sql.CallableStatement;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.CallableStatementCreator;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.SqlOutParameter;
 import org.springframework.jdbc.core.SqlParameter;
@@ -54,6 +57,55 @@ public class PickOrderNumberPkg {
             }, parameters);
        }
 
+        /*
+         * UPDATE_DELIVERY_DETAILS for many lines over one connection, with the call prepared once.
+         * Each line is a map of the six P_ parameters. Every line is its own call in its own
+         * transaction, exactly as the single-line endpoint runs it: the driver does not batch
+         * CallableStatements (each call is a round trip anyway), and whether the procedure commits
+         * internally cannot be seen from here, so no rollback across lines is attempted. What this
+         * saves is the connection open per line. Returns one result per line, in order.
+         */
+        public List<Map<String, Object>> UPDATE_DELIVERY_DETAILS_BATCH(final List<Map<String, String>> lines) {
+
+            return jdbcTemplate.execute(new ConnectionCallback<List<Map<String, Object>>>() {
+            @Override
+            public List<Map<String, Object>> doInConnection(Connection con) throws SQLException {
+                List<Map<String, Object>> results = new ArrayList<>();
+                try (CallableStatement cs = con.prepareCall("{call XXGS_MOB_UTIL_PKG.UPDATE_DELIVERY_DETAILS(?,?,?,?,?,?)}")) {
+                    for (Map<String, String> line : lines) {
+                        try {
+                            bindDeliveryLine(cs, line);
+                            cs.execute();
+                            results.add(deliveryLineResult(line, null));
+                        } catch (SQLException lineError) {
+                            results.add(deliveryLineResult(line, lineError.getMessage()));
+                        }
+                    }
+                }
+                return results;
+            }
+            });
+       }
+
+        private static void bindDeliveryLine(CallableStatement cs, Map<String, String> line) throws SQLException {
+            cs.setString(1, line.get("P_DEL_LINE_ID"));
+            cs.setString(2, line.get("P_ACTUAL_DATE"));
+            cs.setString(3, line.get("P_ACTUAL_TIME"));
+            cs.setString(4, line.get("P_STATUS"));
+            cs.setString(5, line.get("P_REJ_CODE"));
+            cs.setString(6, line.get("P_REJ_MARKS"));
+        }
+
+        private static Map<String, Object> deliveryLineResult(Map<String, String> line, String error) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("P_DEL_LINE_ID", line.get("P_DEL_LINE_ID"));
+            result.put("STATUS", error == null ? "OK" : "ERROR");
+            if (error != null) {
+                result.put("ERROR", error);
+            }
+            return result;
+        }
+
 // GET_PICK_ORDER_NUM
 
         /* Calling Stored Procedure using JdbcTemplate-GET_PICK_ORDER_NUM */
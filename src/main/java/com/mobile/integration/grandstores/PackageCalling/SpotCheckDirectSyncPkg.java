@@ -3,11 +3,14 @@ package com.mobile.integration.grandstores.PackageCalling;
 import java.util.*;
 import java.sql.CallableStatement;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.CallableStatementCreator;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.SqlOutParameter;
 import org.springframework.jdbc.core.SqlParameter;
@@ -41,4 +44,50 @@ public class SpotCheckDirectSyncPkg {
     }, parameters);
   }
 
+  /*
+   * SPOT_CHECK_DIRECT_SYNC for every line of a closed spot-check session, over one connection
+   * with the call prepared once. Each line is { barcode, bin } and is called scans[i] times -
+   * the procedure takes no quantity, each call records one scan, as the single-scan endpoint
+   * does. Returns per line the X_RETURN_FLAG rows of its last call, or a map with the error
+   * message under ERROR and the calls that went through under SYNCED.
+   */
+  public List<Object> syncSpotCheckLines(final String p_organization_id, final List<String[]> lines, final int[] scans) {
+    return jdbcTemplate.execute(new ConnectionCallback<List<Object>>() {
+      @Override
+      public List<Object> doInConnection(Connection con) throws SQLException {
+        List<Object> results = new ArrayList<>();
+        ColumnMapRowMapper rowMapper = new ColumnMapRowMapper();
+        try (CallableStatement cs = con.prepareCall("{call XXGS_MOB_UTIL_PKG.SPOT_CHECK_DIRECT_SYNC(?,?,?,?)}")) {
+          cs.registerOutParameter(4, Types.REF_CURSOR);
+          for (int i = 0; i < lines.size(); i++) {
+            String[] line = lines.get(i);
+            List<Map<String, Object>> rows = new ArrayList<>();
+            int synced = 0;
+            try {
+              cs.setString(1, p_organization_id);
+              cs.setString(2, line[0]);
+              cs.setString(3, line[1]);
+              for (; synced < scans[i]; synced++) {
+                cs.execute();
+                rows = new ArrayList<>();
+                try (ResultSet rs = (ResultSet) cs.getObject(4)) {
+                  while (rs != null && rs.next()) {
+                    rows.add(rowMapper.mapRow(rs, rows.size()));
+                  }
+                }
+              }
+              results.add(rows);
+            } catch (SQLException e) {
+              Map<String, Object> failed = new LinkedHashMap<>();
+              failed.put("ERROR", e.getMessage());
+              failed.put("SYNCED", synced);
+              results.add(failed);
+            }
+          }
+        }
+        return results;
+      }
+    });
+  }
+
 }
@@ -1,4 +1,5 @@
 package com.mobile.integration.grandstores.PhysicalCounting.PhysicalCountingController;
+import java.io.IOException;
 import java.text.ParseException;
 import java.util.Map;
 import com.mobile.integration.grandstores.PhysicalCounting.PhysicalCountingService.PhysicalCountingSO;
@@ -9,6 +10,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.annotations.Api;
@@ -61,5 +63,24 @@ public class PhysicalCountingCO {
             return physicalCountingso.GET_PHYINV_CNT_ITEM_CR(content);
      }
 
+    // GET_PHYINV_CNT_ITEM_DTLS - resumable download: manifest here, chunks from /snapshotchunk
+    @RequestMapping(value = "/getphyinvcntitemdtlssnapshot", method = RequestMethod.POST)
+    public ResponseEntity<APIResponse> GET_PHYINV_CNT_ITEM_DTLS_SNAPSHOT(@RequestBody  Map<String, Object> content) throws ParseException{
+           return physicalCountingso.GET_PHYINV_CNT_ITEM_DTLS_SNAPSHOT(content);
+    }
+
+    // GET_PHYINV_CNT_ITEM_CR - resumable download
+    @RequestMapping(value = "/getphyinvcntitemcrsnapshot", method = RequestMethod.POST)
+    public ResponseEntity<APIResponse> GET_PHYINV_CNT_ITEM_CR_SNAPSHOT(@RequestBody  Map<String, Object> content) throws ParseException{
+           return physicalCountingso.GET_PHYINV_CNT_ITEM_CR_SNAPSHOT(content);
+    }
+
+    // Chunk P_CHUNK (0-based) of a snapshot, gzip'd JSON bytes
+    @RequestMapping(value = "/snapshotchunk", method = RequestMethod.GET)
+    public ResponseEntity<byte[]> getSnapshotChunk(@RequestParam("P_SNAPSHOT_ID") String P_SNAPSHOT_ID,
+            @RequestParam("P_CHUNK") int P_CHUNK) throws IOException{
+           return physicalCountingso.getSnapshotChunk(P_SNAPSHOT_ID, P_CHUNK);
+    }
+
         
 }
\ No newline at end of file
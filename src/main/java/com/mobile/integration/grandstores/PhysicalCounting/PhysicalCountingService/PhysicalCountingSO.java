@@ -1,12 +1,18 @@
 package com.mobile.integration.grandstores.PhysicalCounting.PhysicalCountingService;
 
+import java.io.IOException;
 import java.util.Map;
 
 import com.mobile.integration.grandstores.PackageCalling.PhysicalCountingPkg;
+import com.mobile.integration.grandstores.Utils.Cache.SingleFlight;
+import com.mobile.integration.grandstores.Utils.ConditionalGet.VersionedResponseCache;
 import com.mobile.integration.grandstores.Utils.ResponseAPI.APIResponse;
+import com.mobile.integration.grandstores.Utils.Snapshot.SnapshotManifest;
+import com.mobile.integration.grandstores.Utils.Snapshot.SnapshotStore;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
@@ -25,6 +31,12 @@ public class PhysicalCountingSO extends NamedParameterJdbcDaoSupport{
         super.setDataSource(jdbcTemplate.getDataSource());
     }
  
+    @Autowired
+    private VersionedResponseCache versionedResponseCache;
+
+    @Autowired
+    private SnapshotStore snapshotStore;
+
     @Autowired
     private PhysicalCountingPkg physicalCountingPkg;
 
@@ -32,11 +44,10 @@ public class PhysicalCountingSO extends NamedParameterJdbcDaoSupport{
         // GET_PHYSICAL_INVENTORIES
         public ResponseEntity<APIResponse> GET_PHYSICAL_INVENTORIES(Map<String, Object> content) {
             String P_INVENTORY_ORG_ID=content.get("P_INVENTORY_ORG_ID")==null?"":content.get("P_INVENTORY_ORG_ID").toString();
-            Map<String, Object> ls=physicalCountingPkg.GET_PHYSICAL_INVENTORIES(P_INVENTORY_ORG_ID);
-            APIResponse api=new APIResponse();
-            api.setData(ls);
-            api.setStatus(HttpStatus.OK.value());    
-            return ResponseEntity.ok().body(api); 
+            // Headers change rarely - repeat opens get 304 against the cached ETag
+            return versionedResponseCache.respond(
+                SingleFlight.key("GET_PHYSICAL_INVENTORIES", P_INVENTORY_ORG_ID),
+                () -> physicalCountingPkg.GET_PHYSICAL_INVENTORIES(P_INVENTORY_ORG_ID));
         }   
     
         // GET_PHY_INV_SUBINV_DTLS
@@ -84,6 +95,53 @@ public class PhysicalCountingSO extends NamedParameterJdbcDaoSupport{
             return ResponseEntity.ok().body(api); 
         }
 
+        // GET_PHYINV_CNT_ITEM_DTLS as a chunked snapshot - returns the manifest, chunks via getSnapshotChunk
+        public ResponseEntity<APIResponse> GET_PHYINV_CNT_ITEM_DTLS_SNAPSHOT(Map<String, Object> content) {
+            String P_INVENTORY_ORG_ID=content.get("P_INVENTORY_ORG_ID")==null?"":content.get("P_INVENTORY_ORG_ID").toString();
+            String P_PHYSICAL_INVENTORY_ID=content.get("P_PHYSICAL_INVENTORY_ID")==null?"":content.get("P_PHYSICAL_INVENTORY_ID").toString();
+            String P_WITH_LOT_DTLS_FLAG=content.get("P_WITH_LOT_DTLS_FLAG")==null?"":content.get("P_WITH_LOT_DTLS_FLAG").toString();
+            String P_WITH_SERIAL_DTLS_FLAG=content.get("P_WITH_SERIAL_DTLS_FLAG")==null?"":content.get("P_WITH_SERIAL_DTLS_FLAG").toString();
+
+            SnapshotManifest manifest=snapshotStore.snapshot(
+                SingleFlight.key("GET_PHYINV_CNT_ITEM_DTLS", P_INVENTORY_ORG_ID, P_PHYSICAL_INVENTORY_ID, P_WITH_LOT_DTLS_FLAG, P_WITH_SERIAL_DTLS_FLAG),
+                () -> physicalCountingPkg.GET_PHYINV_CNT_ITEM_DTLS(P_INVENTORY_ORG_ID, P_PHYSICAL_INVENTORY_ID, P_WITH_LOT_DTLS_FLAG, P_WITH_SERIAL_DTLS_FLAG));
+            APIResponse api=new APIResponse();
+            api.setData(manifest);
+            api.setStatus(HttpStatus.OK.value());    
+            return ResponseEntity.ok().body(api); 
+        }
+
+        // GET_PHYINV_CNT_ITEM_CR as a chunked snapshot
+        public ResponseEntity<APIResponse> GET_PHYINV_CNT_ITEM_CR_SNAPSHOT(Map<String, Object> content) {
+            String P_INVENTORY_ORG_ID=content.get("P_INVENTORY_ORG_ID")==null?"":content.get("P_INVENTORY_ORG_ID").toString();
+            String P_PHYSICAL_INVENTORY_ID=content.get("P_PHYSICAL_INVENTORY_ID")==null?"":content.get("P_PHYSICAL_INVENTORY_ID").toString();
+
+            SnapshotManifest manifest=snapshotStore.snapshot(
+                SingleFlight.key("GET_PHYINV_CNT_ITEM_CR", P_INVENTORY_ORG_ID, P_PHYSICAL_INVENTORY_ID),
+                () -> physicalCountingPkg.GET_PHYINV_CNT_ITEM_CR(P_INVENTORY_ORG_ID, P_PHYSICAL_INVENTORY_ID));
+            APIResponse api=new APIResponse();
+            api.setData(manifest);
+            api.setStatus(HttpStatus.OK.value());    
+            return ResponseEntity.ok().body(api); 
+        }
+
+        // One chunk of a snapshot; 410 once it expired so the client asks for a new snapshot
+        public ResponseEntity<byte[]> getSnapshotChunk(String P_SNAPSHOT_ID, int P_CHUNK) throws IOException {
+            SnapshotManifest manifest=snapshotStore.get(P_SNAPSHOT_ID);
+            if (manifest == null) {
+                return ResponseEntity.status(HttpStatus.GONE).build();
+            }
+            byte[] chunk=snapshotStore.chunk(P_SNAPSHOT_ID, P_CHUNK);
+            if (chunk == null) {
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE).build();
+            }
+            return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header("X-Chunk-Sha256", manifest.getChunkSha256().get(P_CHUNK))
+                .header("X-Chunk-Count", String.valueOf(manifest.getChunkCount()))
+                .body(chunk);
+        }
+
 
 
 
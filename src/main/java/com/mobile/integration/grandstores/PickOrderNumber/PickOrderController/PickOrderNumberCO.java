@@ -7,11 +7,15 @@ import com.mobile.integration.grandstores.PickOrderNumber.PickOrderService.PickO
 import com.mobile.integration.grandstores.Utils.ResponseAPI.APIResponse;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import io.swagger.annotations.Api;
 
@@ -35,6 +39,12 @@ public class PickOrderNumberCO {
             return pickOrderNumberSO.UPDATE_DELIVERY_DETAILS(content);
      }
 
+     //UPDATE_DELIVERY_DETAILS for many lines in one call
+     @RequestMapping(value = "/updatedeliverydtlbatch", method = RequestMethod.POST)
+        public ResponseEntity<APIResponse> UPDATE_DELIVERY_DETAILS_BATCH(@RequestBody  Map<String, Object> content) throws ParseException{
+            return pickOrderNumberSO.UPDATE_DELIVERY_DETAILS_BATCH(content);
+     }
+
      //GET_PICK_ORDER_NUM
      @RequestMapping(value = "/pickordernumber", method = RequestMethod.POST)
         public ResponseEntity<APIResponse> GET_PICK_ORDER_NUM(@RequestBody  Map<String, Object> content) throws ParseException{
@@ -66,6 +76,15 @@ public class PickOrderNumberCO {
         }
 
 
+    // Push channel for GET_PICK_ORDER_NUM + GET_PICK_MOVE_ORDER of one picker (server-sent events)
+    @RequestMapping(value = "/streampickdtl", method = RequestMethod.GET, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter STREAM_PICK_DTL(@RequestParam("P_INVENTORY_ORG_ID") String P_INVENTORY_ORG_ID,
+            @RequestParam(value = "P_RESOURCE_ID", required = false, defaultValue = "") String P_RESOURCE_ID,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return pickOrderNumberSO.STREAM_PICK_DTL(P_INVENTORY_ORG_ID, P_RESOURCE_ID, lastEventId);
+    }
+
+
 
 
 
@@ -1,14 +1,21 @@
 package com.mobile.integration.grandstores.PickOrderNumber.PickOrderService;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import com.mobile.integration.grandstores.PackageCalling.PickOrderNumberPkg;
+import com.mobile.integration.grandstores.Utils.Cache.SingleFlight;
+import com.mobile.integration.grandstores.Utils.Push.SnapshotPushService;
 import com.mobile.integration.grandstores.Utils.ResponseAPI.APIResponse;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcDaoSupport;
@@ -25,9 +32,18 @@ public class PickOrderNumberSO  extends NamedParameterJdbcDaoSupport{
         super.setDataSource(jdbcTemplate.getDataSource());
     }
     
+    @Autowired
+    private SingleFlight singleFlight;
+
     @Autowired
     private PickOrderNumberPkg pickOrderNumberPkg;
 
+    @Autowired
+    private SnapshotPushService snapshotPushService;
+
+    @Value("${app.delivery-batch.max-lines:500}")
+    private int maxBatchLines;
+
     // UPDATE_DELIVERY_DETAILS
     public ResponseEntity<APIResponse> UPDATE_DELIVERY_DETAILS(Map<String, Object> content) {
         String P_DEL_LINE_ID=content.get("P_DEL_LINE_ID")==null?"":content.get("P_DEL_LINE_ID").toString();
@@ -43,12 +59,43 @@ public class PickOrderNumberSO  extends NamedParameterJdbcDaoSupport{
             return ResponseEntity.ok().body(api); 
     }   
 
+    // UPDATE_DELIVERY_DETAILS for a whole drop - { "P_LINES": [ { "P_DEL_LINE_ID": .., "P_STATUS": .. }, .. ] }
+    public ResponseEntity<APIResponse> UPDATE_DELIVERY_DETAILS_BATCH(Map<String, Object> content) {
+        APIResponse api=new APIResponse();
+        List<Map<String, String>> lines=new ArrayList<>();
+        if (content.get("P_LINES") instanceof List) {
+            for (Object item : (List<?>) content.get("P_LINES")) {
+                if (!(item instanceof Map)) {
+                    continue;
+                }
+                Map<?, ?> line=(Map<?, ?>) item;
+                Map<String, String> params=new LinkedHashMap<>();
+                for (String name : new String[] { "P_DEL_LINE_ID", "P_ACTUAL_DATE", "P_ACTUAL_TIME", "P_STATUS", "P_REJ_CODE", "P_REJ_MARKS" }) {
+                    params.put(name, line.get(name)==null?"":line.get(name).toString());
+                }
+                lines.add(params);
+            }
+        }
+        if (lines.isEmpty() || lines.size() > maxBatchLines) {
+            api.setError("P_LINES must hold 1 to " + maxBatchLines + " delivery lines");
+            api.setStatus(HttpStatus.BAD_REQUEST.value());
+            return ResponseEntity.badRequest().body(api);
+        }
+
+        List<Map<String, Object>> ls=pickOrderNumberPkg.UPDATE_DELIVERY_DETAILS_BATCH(lines);
+        api.setData(ls);
+        api.setStatus(HttpStatus.OK.value());
+        return ResponseEntity.ok().body(api);
+    }
+
         // GET_PICK_ORDER_NUM
         public ResponseEntity<APIResponse> GET_PICK_ORDER_NUM(Map<String, Object> content) {
             String P_INVENTORY_ORG_ID=content.get("P_INVENTORY_ORG_ID")==null?"":content.get("P_INVENTORY_ORG_ID").toString();
             String P_RESOURCE_ID=content.get("P_RESOURCE_ID")==null?"":content.get("P_RESOURCE_ID").toString();
 
-            Map<String, Object> ls=pickOrderNumberPkg.GET_PICK_ORDER_NUM(P_INVENTORY_ORG_ID, P_RESOURCE_ID);
+            Map<String, Object> ls=singleFlight.execute(
+                SingleFlight.key("GET_PICK_ORDER_NUM", P_INVENTORY_ORG_ID, P_RESOURCE_ID),
+                () -> pickOrderNumberPkg.GET_PICK_ORDER_NUM(P_INVENTORY_ORG_ID, P_RESOURCE_ID));
                 APIResponse api=new APIResponse();
                 api.setData(ls);
                 api.setStatus(HttpStatus.OK.value());    
@@ -60,7 +107,9 @@ public class PickOrderNumberSO  extends NamedParameterJdbcDaoSupport{
             String P_INVENTORY_ORG_ID=content.get("P_INVENTORY_ORG_ID")==null?"":content.get("P_INVENTORY_ORG_ID").toString();
             String P_RESOURCE_ID=content.get("P_RESOURCE_ID")==null?"":content.get("P_RESOURCE_ID").toString();
         
-                    Map<String, Object> ls=pickOrderNumberPkg.GET_PICK_MOVE_ORDER(P_INVENTORY_ORG_ID, P_RESOURCE_ID);
+                    Map<String, Object> ls=singleFlight.execute(
+                        SingleFlight.key("GET_PICK_MOVE_ORDER", P_INVENTORY_ORG_ID, P_RESOURCE_ID),
+                        () -> pickOrderNumberPkg.GET_PICK_MOVE_ORDER(P_INVENTORY_ORG_ID, P_RESOURCE_ID));
                         APIResponse api=new APIResponse();
                         api.setData(ls);
                         api.setStatus(HttpStatus.OK.value());    
@@ -112,8 +161,18 @@ public class PickOrderNumberSO  extends NamedParameterJdbcDaoSupport{
                 return ResponseEntity.ok().body(api); 
             }
 
+            // Picker work list pushed over SSE - one poll per org / resource however many devices listen
+            public SseEmitter STREAM_PICK_DTL(String P_INVENTORY_ORG_ID, String P_RESOURCE_ID, String lastEventId) {
+                return snapshotPushService.subscribe(
+                    SingleFlight.key("GET_PICK_DTL", P_INVENTORY_ORG_ID, P_RESOURCE_ID), () -> {
+                        Map<String, Object> ls = new LinkedHashMap<>(pickOrderNumberPkg.GET_PICK_ORDER_NUM(P_INVENTORY_ORG_ID, P_RESOURCE_ID));
+                        ls.putAll(pickOrderNumberPkg.GET_PICK_MOVE_ORDER(P_INVENTORY_ORG_ID, P_RESOURCE_ID));
+                        return ls;
+                    }, lastEventId);
+            }
+
 
 
 
 
-}
\ No newline at end of file
+}
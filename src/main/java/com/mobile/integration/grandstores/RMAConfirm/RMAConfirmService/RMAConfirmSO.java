@@ -73,7 +73,7 @@ public class RMAConfirmSO {
         Iterator<RMAConfirmEO> iterator1 = bodydtl.iterator();
         while (iterator1.hasNext()) {
             RMAConfirmEO current = iterator1.next();
-            System.out.println("current.getTransactionType().toString(): "+current.getTransactionType().toString());
+            logger.debug("current.getTransactionType().toString(): {}", current.getTransactionType().toString());
           if(current.getTransactionType().toString().equalsIgnoreCase("RMA_DELIVERY")){
                 String p_subinv = null;
                 String p_loc = null;
@@ -97,21 +97,21 @@ public class RMAConfirmSO {
                             "-" +current.getAttribute10().toString()+
                             "-" +current.getItemId().toString()+
                             "-" +current.getStatus().toString();
-                        System.out.println("inside the iterator: "+comb);
+                        logger.debug("inside the iterator: {}", comb);
                         if(myList.contains(comb)){
                             iterator1.remove();
-                            System.out.println("removed");
+                            logger.debug("removed");
                         }
                         else{
-                            System.out.println("else part");
+                            logger.debug("else part");
                             int countD = recordCheckforDelivery(current.getTransactionType().toString(), 
                                                     current.getReceiptNumber().toString(), current.getLineNumber().toString(),
                                                     current.getOrderHeaderId().toString(), current.getOrderlineId().toString(),
                                                     current.getAttribute3().toString(),current.getAttribute10().toString(),
                                                     current.getItemId().toString(),current.getStatus().toString());
-                            System.out.println("countD: "+countD);
+                            logger.debug("countD: {}", countD);
                             if(countD == 0){
-                                System.out.println("inside the countD = 0");
+                                logger.debug("inside the countD = 0");
                                 listFromIterator.add(current);
                                 myList.add(comb);
                             }
@@ -135,21 +135,21 @@ public class RMAConfirmSO {
                 "-" +current.getAttribute3().toString()+
                 "-" +current.getItemId().toString()+
                 "-" +current.getStatus().toString();
-                System.out.println("inside the iterator: "+comb);
+                logger.debug("inside the iterator: {}", comb);
                 if(myList.contains(comb)){
                     iterator1.remove();
-                    System.out.println("removed");
+                    logger.debug("removed");
                 }
                 else{
-                    System.out.println("else part");
+                    logger.debug("else part");
                     int countR = recordCheckforReceipt(current.getTransactionType().toString(), 
                                             current.getLineNumber().toString(),
                                             current.getOrderHeaderId().toString(), current.getOrderlineId().toString(),
                                             current.getAttribute3().toString(), current.getItemId().toString(),
                                             current.getStatus().toString());
-                    System.out.println("countR: "+countR);
+                    logger.debug("countR: {}", countR);
                     if(countR == 0){
-                        System.out.println("inside the countR = 0");
+                        logger.debug("inside the countR = 0");
                         listFromIterator.add(current);
                         myList.add(comb);
                     }
@@ -160,8 +160,8 @@ public class RMAConfirmSO {
              
             
         }               
-        System.out.println("myL size: " +myList.size());
-        System.out.println("listFromIterator: " +listFromIterator.size());
+        logger.debug("myL size: {}", myList.size());
+        logger.debug("listFromIterator: {}", listFromIterator.size());
         //moConfirmSO.insertMoConfirmRO(listFromIterator);
         Iterable<RMAConfirmEO> ls=rmaConfirmro.saveAll(listFromIterator);
         try{
@@ -177,13 +177,13 @@ public class RMAConfirmSO {
     }
 
     public int recordCheckforReceipt(String t, String l, String oh, String ol, String att3, String itemId, String status){
-        System.out.println("inside recordCheckforReceipt method: ");
+        logger.debug("inside recordCheckforReceipt method: ");
         int c = rmaConfirmro.recordCountForReceipt(t, l, oh, ol, att3, itemId, status);
         return c;
     }
 
     public int recordCheckforDelivery(String t, String d, String i, String oh, String o, String att3, String att10, String itemId, String status){
-        System.out.println("inside recordCheckforDelivery method: ");
+        logger.debug("inside recordCheckforDelivery method: ");
         int c = rmaConfirmro.recordCountForDelivery(t, d, i, oh, o, att3, att10, itemId, status);
         return c;
     }
@@ -214,7 +214,7 @@ public class RMAConfirmSO {
         List<RMAConfirmEO> listFromIterator = new ArrayList<>();
         while (rmaIterator.hasNext()) {
             RMAConfirmEO current = rmaIterator.next();
-            System.out.println("current.getTransactionType().toString(): "+current.getTransactionType().toString());
+            logger.debug("current.getTransactionType().toString(): {}", current.getTransactionType().toString());
             if(current.getTransactionType().toString().equalsIgnoreCase("RMA_DELIVERY")){
                 comb = current.getTransactionType().toString() + 
                     "-" +current.getReceiptNumber().toString() + 
@@ -225,21 +225,21 @@ public class RMAConfirmSO {
                     "-" +current.getAttribute10().toString()+
                     "-" +current.getItemId().toString()+
                     "-" +current.getStatus().toString();
-                System.out.println("inside the iterator: "+comb);
+                logger.debug("inside the iterator: {}", comb);
                 if(myList.contains(comb)){
                     rmaIterator.remove();
-                    System.out.println("removed");
+                    logger.debug("removed");
                 }
                 else{
-                    System.out.println("else part");
+                    logger.debug("else part");
                     int countD = recordCheckforDelivery(current.getTransactionType().toString(), 
                                             current.getReceiptNumber().toString(), current.getLineNumber().toString(),
                                             current.getOrderHeaderId().toString(), current.getOrderlineId().toString(),
                                             current.getAttribute3().toString(),current.getAttribute10().toString(),
                                             current.getItemId().toString(),current.getStatus().toString());
-                    System.out.println("countD: "+countD);
+                    logger.debug("countD: {}", countD);
                     if(countD == 0){
-                        System.out.println("inside the countD = 0");
+                        logger.debug("inside the countD = 0");
                         listFromIterator.add(current);
                         myList.add(comb);
                     }
@@ -254,21 +254,21 @@ public class RMAConfirmSO {
                 "-" +current.getAttribute3().toString()+
                 "-" +current.getItemId().toString()+
                 "-" +current.getStatus().toString();
-                System.out.println("inside the iterator: "+comb);
+                logger.debug("inside the iterator: {}", comb);
                 if(myList.contains(comb)){
                     rmaIterator.remove();
-                    System.out.println("removed");
+                    logger.debug("removed");
                 }
                 else{
-                    System.out.println("else part");
+                    logger.debug("else part");
                     int countR = recordCheckforReceipt(current.getTransactionType().toString(), 
                                             current.getLineNumber().toString(),
                                             current.getOrderHeaderId().toString(), current.getOrderlineId().toString(),
                                             current.getAttribute3().toString(), current.getItemId().toString(),
                                             current.getStatus().toString());
-                    System.out.println("countR: "+countR);
+                    logger.debug("countR: {}", countR);
                     if(countR == 0){
-                        System.out.println("inside the countR = 0");
+                        logger.debug("inside the countR = 0");
                         listFromIterator.add(current);
                         myList.add(comb);
                     }
@@ -289,66 +289,66 @@ public class RMAConfirmSO {
         List<String> poListFailed = new ArrayList<>();
         while (pickIterator.hasNext()) {
             PickConfirmEO poCurrent = pickIterator.next();
-            System.out.println("current.getFromSerialNumber.toString(): "+poCurrent.getFromSerialNumber().toString());
+            logger.debug("current.getFromSerialNumber.toString(): {}", poCurrent.getFromSerialNumber().toString());
             
-            System.out.println("current.getTrans.toString(): "+poCurrent.getTransactionType().toString());
+            logger.debug("current.getTrans.toString(): {}", poCurrent.getTransactionType().toString());
             if(poCurrent.getTransactionType().toString().equalsIgnoreCase("Out Bound Picking")){
                 poComb = poCurrent.getDeliveryDetailId().toString() + "-" +poCurrent.getFromSerialNumber().toString() + "-" +poCurrent.getAttribute1().toString() +"-" 
                         +poCurrent.getAttribute2().toString() +"-" +poCurrent.getAttribute3().toString() + "-" +poCurrent.getAttribute4().toString();
-                System.out.println("inside the po iterator: "+poComb);
+                logger.debug("inside the po iterator: {}", poComb);
                 if(myPoList.contains(poComb)){
                     pickIterator.remove();
                 }
                 else{
-                    System.out.println("else part");
+                    logger.debug("else part");
                     int countR = pickConfirmso.poRecordCountService(poCurrent.getDeliveryDetailId().toString(), 
                     poCurrent.getFromSerialNumber().toString(), poCurrent.getAttribute1().toString(),
                     poCurrent.getAttribute2().toString(), poCurrent.getAttribute3().toString(),
                     poCurrent.getAttribute4().toString());
-                    System.out.println("countR: "+countR);
+                    logger.debug("countR: {}", countR);
                     if(countR == 0){
-                        System.out.println("inside the countR = 0 po");
+                        logger.debug("inside the countR = 0 po");
                         poListFromIterator.add(poCurrent);
                         myPoList.add(poComb);
                     }else{
                         poListFailed.add(poComb); 
-                        System.out.println("po failed : "+poComb);
+                        logger.debug("po failed : {}", poComb);
                     }
                 }
             }
             //RMA_DELIVERY
             if(poCurrent.getTransactionType().toString().equalsIgnoreCase("RMA_DELIVERY")){
-                System.out.println("inside the po RMA_DELIVERY iterator: ");
+                logger.debug("inside the po RMA_DELIVERY iterator: ");
                 poComb = poCurrent.getFromSerialNumber().toString() + 
                         "-" +poCurrent.getAttribute2().toString() +
                         "-" +poCurrent.getAttribute3().toString() + 
                         "-" +poCurrent.getTransactionType().toString();
-                System.out.println("inside the po RMA_DELIVERY iterator: "+poComb);
+                logger.debug("inside the po RMA_DELIVERY iterator: {}", poComb);
                 if(myPoList.contains(poComb)){
                     pickIterator.remove();
                 }
                 else{
-                    System.out.println("else part");
+                    logger.debug("else part");
                     int countR = pickConfirmso.poRecordCountDelivery(
                         poCurrent.getFromSerialNumber().toString(), 
                         poCurrent.getAttribute2().toString(), 
                         poCurrent.getAttribute3().toString(),
                         poCurrent.getTransactionType().toString());
-                    System.out.println("countR: "+countR);
+                    logger.debug("countR: {}", countR);
                     if(countR == 0){
-                        System.out.println("inside the countR = 0 po");
+                        logger.debug("inside the countR = 0 po");
                         poListFromIterator.add(poCurrent);
                         myPoList.add(poComb);
                     }else{
                         poListFailed.add(poComb); 
-                        System.out.println("po failed : "+poComb);
+                        logger.debug("po failed : {}", poComb);
                     }
                 }
             }
             
         }   
-        System.out.println("poListFromIterator: " +poListFromIterator.size());
-        System.out.println("my po list failed size: " +poListFailed.size());
+        logger.debug("poListFromIterator: {}", poListFromIterator.size());
+        logger.debug("my po list failed size: {}", poListFailed.size());
         
         if(poListFromIterator.size() > 0){
             return pickConfirmso.insertPickConfirm(poListFromIterator);
@@ -35,7 +35,7 @@ public class RTVConfirmationSO {
         Iterator<RTVConfirmationEO> iterator1 = bodydtl.iterator();
         while (iterator1.hasNext()) {
             RTVConfirmationEO current = iterator1.next();
-            System.out.println("current.getLineId().toString(): "+current.getLineId().toString());
+            logger.debug("current.getLineId().toString(): {}", current.getLineId().toString());
             rtvConfirmationro.delete(current.getLineId().toString());
         }
         Iterable<RTVConfirmationEO> ls=rtvConfirmationro.saveAll(bodydtl);
@@ -48,11 +48,11 @@ public class RTVConfirmationSO {
     public ResponseEntity<APIResponse> updateRtvReqLines(Iterable<RTVConfirmationDto> bodydtl) {
         String P_REQUEST_ID, P_LINE_ID, P_ITEM_ID, P_PICKED_QTY, P_PICKED_BY = null;
         Iterator<RTVConfirmationDto> iterator1 = bodydtl.iterator();
-        System.out.println("inside UPDATE_RTV_REQ_LINES SO" +iterator1);
+        logger.debug("inside UPDATE_RTV_REQ_LINES SO{}", iterator1);
         while (iterator1.hasNext()) {
 
             RTVConfirmationDto current = iterator1.next();
-            System.out.println("inside UPDATE_RTV_REQ_LINES SO: " +current.toString());
+            logger.debug("inside UPDATE_RTV_REQ_LINES SO: {}", current.toString());
             P_REQUEST_ID = current.getRequestId().toString();
             P_LINE_ID = current.getLineId().toString();
             P_ITEM_ID = current.getItemId().toString();
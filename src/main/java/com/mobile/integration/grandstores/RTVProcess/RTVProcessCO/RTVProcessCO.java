@@ -3,6 +3,8 @@ package com.mobile.integration.grandstores.RTVProcess.RTVProcessCO;
 
 import java.text.ParseException;
 import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -19,6 +21,8 @@ import com.mobile.integration.grandstores.Utils.ResponseAPI.APIResponse;
     produces = "application/json"
     )
 public class RTVProcessCO {
+
+    private static final Logger logger = LoggerFactory.getLogger(RTVProcessCO.class);
     
     @Autowired
     private RTVProcessSO rtvProcessSO;
@@ -26,21 +30,21 @@ public class RTVProcessCO {
     //GET_RTV_REQUEST_NUM
      @RequestMapping(value = "/getrtvrequestnum", method = RequestMethod.POST)
         public ResponseEntity<APIResponse> GET_RTV_REQUEST_NUM(@RequestBody  Map<String, Object> content) throws ParseException{
-            System.out.println("inside getrtvrequestnum co");
+            logger.debug("inside getrtvrequestnum co");
             return rtvProcessSO.getRTVRequestNum(content);
      }
 
      //GET_RTV_DTLS
      @RequestMapping(value = "/getrtcdtls", method = RequestMethod.POST)
         public ResponseEntity<APIResponse> GET_RTV_DTLS(@RequestBody  Map<String, Object> content) throws ParseException{
-            System.out.println("inside GET_RTV_DTLS co");
+            logger.debug("inside GET_RTV_DTLS co");
             return rtvProcessSO.getRTVDtls(content);
      }
 
      //GET_RTV_ITEM_DTLS
      @RequestMapping(value = "/getrtcitemdtls", method = RequestMethod.POST)
         public ResponseEntity<APIResponse> GET_RTV_ITEMS_DTLS(@RequestBody  Map<String, Object> content) throws ParseException{
-            System.out.println("inside GET_RTV_ITEMS_DTLS co");
+            logger.debug("inside GET_RTV_ITEMS_DTLS co");
             return rtvProcessSO.getRTVItemDtls(content);
      }
 }
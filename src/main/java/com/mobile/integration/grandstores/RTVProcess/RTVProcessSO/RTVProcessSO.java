@@ -1,5 +1,7 @@
 package com.mobile.integration.grandstores.RTVProcess.RTVProcessSO;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import java.util.Map;
 import com.mobile.integration.grandstores.PackageCalling.RtvProcessPkg;
@@ -14,6 +16,8 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcDaoSupport;
 
 @Service
 public class RTVProcessSO extends NamedParameterJdbcDaoSupport{
+
+    private static final Logger logger = LoggerFactory.getLogger(RTVProcessSO.class);
     @Autowired
     private JdbcTemplate jdbcTemplate;
     
@@ -28,11 +32,11 @@ public class RTVProcessSO extends NamedParameterJdbcDaoSupport{
     // GET_RTV_REQUEST_NUM
     public ResponseEntity<APIResponse> getRTVRequestNum(Map<String, Object> content) {
         
-        System.out.println("inside getRTVRequestNum so");
+        logger.debug("inside getRTVRequestNum so");
         String p_inventory_org_id = content.get("P_INVENTORY_ORG_ID")==null?"":content.get("P_INVENTORY_ORG_ID").toString();
         String p_request_num = content.get("P_REQUEST_NUM")==null?"":content.get("P_REQUEST_NUM").toString();
         
-        System.out.println("P_INVENTORY_ORG_ID: " +p_inventory_org_id+" p_request_num: "+p_request_num);
+        logger.debug("P_INVENTORY_ORG_ID: {} p_request_num: {}", p_inventory_org_id, p_request_num);
         Map<String, Object> ls=rtvProcessPkg.getRtvRequestNumPkg(p_inventory_org_id, p_request_num);
             APIResponse api=new APIResponse();
             api.setData(ls);
@@ -42,11 +46,11 @@ public class RTVProcessSO extends NamedParameterJdbcDaoSupport{
 
     // GET_RTV_DTLS
     public ResponseEntity<APIResponse> getRTVDtls(Map<String, Object> content) {
-        System.out.println("inside getRTVDtls so");
+        logger.debug("inside getRTVDtls so");
         String p_request_id=content.get("P_REQUEST_ID")==null?"":content.get("P_REQUEST_ID").toString();
         String p_inventory_org_id=content.get("P_INVENTORY_ORG_ID")==null?"":content.get("P_INVENTORY_ORG_ID").toString();
-        System.out.println("p_request_id: " +p_request_id);
-        System.out.println("P_INVENTORY_ORG_ID: " +p_inventory_org_id);
+        logger.debug("p_request_id: {}", p_request_id);
+        logger.debug("P_INVENTORY_ORG_ID: {}", p_inventory_org_id);
         Map<String, Object> ls=rtvProcessPkg.getRtvDtls(p_request_id, p_inventory_org_id);
             APIResponse api=new APIResponse();
             api.setData(ls);
@@ -56,11 +60,11 @@ public class RTVProcessSO extends NamedParameterJdbcDaoSupport{
 
     // GET_RTV_ITEM_DTLS
     public ResponseEntity<APIResponse> getRTVItemDtls(Map<String, Object> content) {
-        System.out.println("inside getRTVItemDtls so");
+        logger.debug("inside getRTVItemDtls so");
         String p_request_id=content.get("P_REQUEST_ID")==null?"":content.get("P_REQUEST_ID").toString();
         String p_inventory_org_id=content.get("P_INVENTORY_ORG_ID")==null?"":content.get("P_INVENTORY_ORG_ID").toString();
-        System.out.println("p_request_id: " +p_request_id);
-        System.out.println("P_INVENTORY_ORG_ID: " +p_inventory_org_id);
+        logger.debug("p_request_id: {}", p_request_id);
+        logger.debug("P_INVENTORY_ORG_ID: {}", p_inventory_org_id);
         Map<String, Object> ls=rtvProcessPkg.getRtvItemDtls(p_request_id, p_inventory_org_id);
             APIResponse api=new APIResponse();
             api.setData(ls);
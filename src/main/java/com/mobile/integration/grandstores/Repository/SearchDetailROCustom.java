@@ -0,0 +1,12 @@
+package com.mobile.integration.grandstores.Repository;
+
+import java.util.List;
+
+import com.mobile.integration.grandstores.Entity.SearchDetailEO;
+
+public interface SearchDetailROCustom {
+
+    // Null / blank arguments are left out of the WHERE clause altogether
+    List<SearchDetailEO> rawsearchDtlQuery(String docNum, String piNum, String shipRef);
+
+}
@@ -0,0 +1,38 @@
+package com.mobile.integration.grandstores.Repository;
+
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+
+import com.mobile.integration.grandstores.Entity.SearchDetailEO;
+import com.mobile.integration.grandstores.Utils.OracleDBUtils.ShapedQuery;
+
+/**
+ * Builds the search with only the supplied filters instead of (col LIKE :p || '%' OR :p IS NULL),
+ * so a document / PI / shipment prefix gets its own cursor and can use an index.
+ */
+public class SearchDetailROImpl implements SearchDetailROCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<SearchDetailEO> rawsearchDtlQuery(String docNum, String piNum, String shipRef) {
+        ShapedQuery shaped = new ShapedQuery(
+            " Select distinct SHIPMENT_REF, DOCUMENT_NUMBER, PI_NUMBER from XXGS_GET_SEARCH_DETAILS_V where 1 = 1")
+            .filter("DOCUMENT_NUMBER LIKE :docNum || '%'", "docNum", docNum)
+            .filter("UPPER (PI_NUMBER) LIKE UPPER (:piNum) || '%'", "piNum", piNum)
+            .filter("UPPER (SHIPMENT_REF) LIKE UPPER (:shipRef) || '%'", "shipRef", shipRef);
+
+        Query query = entityManager.createNativeQuery(shaped.getSql(), SearchDetailEO.class);
+        for (Map.Entry<String, Object> param : shaped.getParams().entrySet()) {
+            query.setParameter(param.getKey(), param.getValue());
+        }
+        return query.getResultList();
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.mobile.integration.grandstores.Services;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 // import java.text.ParseException;
 import java.util.Map;
@@ -8,12 +9,16 @@ import com.mobile.integration.grandstores.PackageCalling.AuthenticationPackage;
 // import com.mobile.integration.grandstores.POJO.UserPoJo;
 import com.mobile.integration.grandstores.PackageCalling.MobileUtilsPK;
 import com.mobile.integration.grandstores.PackageCalling.UpdatePackage;
+import com.mobile.integration.grandstores.User.Services.LastLogonWriteBehind;
+import com.mobile.integration.grandstores.User.Services.UserAccessResolver;
 import com.mobile.integration.grandstores.User.Services.UserSO;
 import com.mobile.integration.grandstores.Utils.JsonUtils.JsonUtils;
 import com.mobile.integration.grandstores.Utils.JwtWebSecure.JwtUtil;
 import com.mobile.integration.grandstores.Utils.JwtWebSecure.MyUserDetailsService;
 import com.mobile.integration.grandstores.Utils.ResponseAPI.APIResponse;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
@@ -31,6 +36,8 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcDaoSupport;
 @Service
 public class AuthenticationSO   extends NamedParameterJdbcDaoSupport{
 
+    private static final Logger logger = LoggerFactory.getLogger(AuthenticationSO.class);
+
 
     @Autowired
     private MobileUtilsPK mobileUtilspk;
@@ -53,6 +60,12 @@ public class AuthenticationSO   extends NamedParameterJdbcDaoSupport{
     @Autowired
     private UserSO userso;
 
+    @Autowired
+    private LastLogonWriteBehind lastLogonWriteBehind;
+
+    @Autowired
+    private UserAccessResolver userAccessResolver;
+
     @Autowired
     private AuthenticationPackage authPkg;
 
@@ -80,10 +93,10 @@ public class AuthenticationSO   extends NamedParameterJdbcDaoSupport{
         Map<String, Object> ls=mobileUtilspk.submitPackage(P_USER_NAME, P_PASS_WORD);
 
         long totProcEndTime = System.currentTimeMillis();
-        System.out.println("total time taken for proc execution for all item :: " + (totProcEndTime - totProcStartTime) + " ms");
+        logger.debug("total time taken for proc execution for all item :: {} ms", (totProcEndTime - totProcStartTime));
 
         //Json Array Data retrive 
-        Map<String, Object> singlels=jsonUtils.getJsonArrayChildValue(ls, "P_RECORDSET");        
+        Map<String, Object> singlels=firstRow(ls.get("P_RECORDSET"));
         String UserId=singlels.get("USER_ID")==null ? "-1" : singlels.get("USER_ID").toString();
         String UserName=singlels.get("DISP_NAME")==null ? "-1" : singlels.get("DISP_NAME").toString();
         String PersonId=singlels.get("PERSON_ID")==null ? "-1" : singlels.get("PERSON_ID").toString();
@@ -175,7 +188,7 @@ public class AuthenticationSO   extends NamedParameterJdbcDaoSupport{
     
         }
         long totProcEndTime = System.currentTimeMillis();
-        System.out.println("total time taken for proc execution for all item :: " + (totProcEndTime - totProcStartTime) + " ms");
+        logger.debug("total time taken for proc execution for all item :: {} ms", (totProcEndTime - totProcStartTime));
         // System.out.println("USER_ID=>"+UserId);
         // System.out.println("DISP_NAME=>"+UserName);
                 
@@ -212,7 +225,7 @@ public class AuthenticationSO   extends NamedParameterJdbcDaoSupport{
             // System.out.println("==>"+customerContactSQL);
             items = getNamedParameterJdbcTemplate().queryForList(customerContactSQL, params);
         } catch (Exception exp) {
-            System.out.println(exp.toString());            
+            logger.error("getAuthenticationView failed", exp);
         }
 
         // String UserId=items.get(0)==null?"0":items.get(0).toString();
@@ -244,8 +257,7 @@ public class AuthenticationSO   extends NamedParameterJdbcDaoSupport{
             final UserDetails userDetails = userDetailsService
 			.loadUserByUsername(UserId);
             //
-            String res=userso.updateUserLogin(UserId); 
-            // System.err.println("res==>"+res);
+            lastLogonWriteBehind.record(UserId);
             String TOKEN=jwtTokenUtil.generateToken(userDetails, UserName, PersonId);
             String REFRESH_TOKEN=jwtTokenUtil.generateToken(userDetails, UserName, PersonId);
             items.get(0).put("P_TOKEN", TOKEN);
@@ -265,25 +277,15 @@ public class AuthenticationSO   extends NamedParameterJdbcDaoSupport{
 
         String P_USER_NAME=(String) content.get("P_USERNAME");
         String P_PASS_WORD=(String) content.get("P_PASSWORD");
-        // System.out.println("P_USER_NAME=>"+P_USER_NAME);
-        // System.out.println("P_PASS_WORD=>"+P_PASS_WORD);
-
-        Map<String, Object> items=new HashMap<String, Object>();
-
-        items=authPkg.getAuthPkg(P_USER_NAME, P_PASS_WORD);
 
-        // System.out.println("items==>"+items);
+        // Single round trip - GET_USER_AUTH returns the user row and the menu together
+        Map<String, Object> items=authPkg.getAuthPkg(P_USER_NAME, P_PASS_WORD);
 
-        //Json Array Data retrive 
-        Map<String, Object> singlels=jsonUtils.getJsonArrayChildValue(items, "P_GET_USER_AUTH");        
+        Map<String, Object> singlels=firstRow(items.get("P_GET_USER_AUTH"));
         String UserId=singlels.get("USER_ID")==null ? "-1" : singlels.get("USER_ID").toString();
         String UserName=singlels.get("DISP_NAME")==null ? "-1" : singlels.get("DISP_NAME").toString();
         String PersonId=singlels.get("USER_ID")==null ? "-1" : singlels.get("USER_ID").toString();
 
-        // System.out.println("UserId==>"+UserId);
-        // System.out.println("UserName==>"+UserName);
-        // System.out.println("PersonId==>"+PersonId);
-
         APIResponse api=new APIResponse();
         if(UserId.equalsIgnoreCase("-1")){
             items.put("P_TOKEN", "-1"); 
@@ -291,35 +293,33 @@ public class AuthenticationSO   extends NamedParameterJdbcDaoSupport{
             api.setError("Invalid Token");
             api.setStatus(HttpStatus.BAD_REQUEST.value());
         }else{
-                // new UserPoJo(UserName, PersonId);
-                try {
-                    authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(UserName,PersonId)
-                );
-                } catch (Exception e) {
-                    items.put("P_TOKEN", "-1"); 
-                    items.put("P_REFRESH_TOKEN", "-1"); 
-                }
-        //************************* */ 
-            final UserDetails userDetails = userDetailsService
-			.loadUserByUsername(UserId);
-        //************************* */
-            String res=userso.updateUserLogin(UserId); 
-            // System.err.println("res==>"+res);
-            String TOKEN=jwtTokenUtil.generateToken(userDetails, UserName, PersonId);
-            String REFRESH_TOKEN=jwtTokenUtil.generateToken(userDetails, UserName, PersonId);
+            // EBS has already authenticated the user - token is built once and used for both
+            String TOKEN=jwtTokenUtil.generateToken(UserId, UserName, PersonId);
+            lastLogonWriteBehind.record(UserId);
+            userAccessResolver.prefetch(UserId);
+
             items.put("P_TOKEN", TOKEN);
-            items.put("P_REFRESH_TOKEN", REFRESH_TOKEN);
+            items.put("P_REFRESH_TOKEN", TOKEN);
             items.put("DB_INSTANCE", instanceName);
             items.put("APP_VERSION", "V5");
             api.setData(items);
             api.setStatus(HttpStatus.OK.value());
-    
         }
-        // System.out.println("USER_ID=>"+UserId);
-        // System.out.println("DISP_NAME=>"+UserName);
         return ResponseEntity.ok().body(api);
     }    
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> rows(Object cursor) {
+        if (cursor instanceof List) {
+            return (List<Map<String, Object>>) cursor;
+        }
+        return new ArrayList<>();
+    }
+
+    private Map<String, Object> firstRow(Object cursor) {
+        List<Map<String, Object>> rows = rows(cursor);
+        return rows.isEmpty() ? new HashMap<String, Object>() : rows.get(0);
+    }
     
 
 
@@ -1,22 +1,20 @@
 package com.mobile.integration.grandstores.Services;
 
+import com.mobile.integration.grandstores.Utils.Health.DependencyProbe;
+import com.mobile.integration.grandstores.Utils.Health.DependencySnapshot;
+
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
 @Service
 public class DatabaseService {
 
     @Autowired
-    private JdbcTemplate jdbcTemplate;
+    private DependencyProbe dependencyProbe;
 
     public boolean checkConnection() {
-        try {
-            // Test the connection by running a simple query
-            jdbcTemplate.queryForObject("SELECT 1 FROM DUAL", Integer.class);
-            return true;  // Connection successful
-        } catch (Exception e) {
-            return false; // Connection failed
-        }
+        // Result of the last background SELECT 1 FROM DUAL, no round trip per call
+        DependencySnapshot snapshot = dependencyProbe.getSnapshot();
+        return snapshot != null && snapshot.isDatabaseUp();
     }
 }
@@ -0,0 +1,216 @@
+package com.mobile.integration.grandstores.Services;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.mobile.integration.grandstores.Utils.Search.PrefixIndex;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcDaoSupport;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory per-org prefix index of open, approved PO numbers for the po/ponumber
+ * type-ahead (PODetailSO.getPONumber).
+ *
+ * Loaded once, then kept current from the LAST_UPDATE_DATE of PO_HEADERS_ALL,
+ * PO_LINE_LOCATIONS_ALL and the suppliers / supplier sites on them: only headers changed
+ * since the last refresh are re-read and replaced. The window reaches
+ * app.search.po-index.overlap-seconds behind the last refresh, so rows stamped before it
+ * but committed after it are still seen. A full rebuild runs periodically to pick up
+ * anything the timestamps miss (deletes).
+ */
+@Component
+public class OpenPoNumberIndex extends NamedParameterJdbcDaoSupport {
+
+    private static final Logger logger = LoggerFactory.getLogger(OpenPoNumberIndex.class);
+
+    private static final String OPEN_PO_SQL =
+        "SELECT DISTINCT\n" +
+        "PHA.PO_HEADER_ID,\n" +
+        "PHA.SEGMENT1 PO_NUMBER,\n" +
+        "PHA.TYPE_LOOKUP_CODE,\n" +
+        "APS.VENDOR_ID,\n" +
+        "APS.SEGMENT1 VENDOR_NUMBER,\n" +
+        "APS.VENDOR_NAME,\n" +
+        "APSS.VENDOR_SITE_ID,\n" +
+        "APSS.VENDOR_SITE_CODE,\n" +
+        "PLLA.SHIP_TO_ORGANIZATION_ID ORGANIZATION_ID\n"+
+        "FROM PO_HEADERS_ALL PHA, AP_SUPPLIERS APS, AP_SUPPLIER_SITES_ALL APSS, PO_LINE_LOCATIONS_ALL PLLA\n" +
+        "WHERE PHA.VENDOR_ID = APS.VENDOR_ID(+)\n" +
+        "AND APS.VENDOR_ID = APSS.VENDOR_ID(+)\n" +
+        "AND PHA.VENDOR_SITE_ID = APSS.VENDOR_SITE_ID(+)\n" +
+        "AND PLLA.PO_HEADER_ID = PHA.PO_HEADER_ID\n"+
+        "AND UPPER(PHA.AUTHORIZATION_STATUS) = 'APPROVED'\n" +
+        "AND PHA.APPROVED_FLAG = 'Y'\n" +
+        "AND NVL(PHA.CANCEL_FLAG,'N') = 'N'\n" +
+        "AND (UPPER (PHA.CLOSED_CODE) = 'OPEN' OR PHA.CLOSED_CODE IS NULL)\n";
+
+    private static final String CHANGED_SINCE = "> :SINCE - NUMTODSINTERVAL(:OVERLAP_SECONDS, 'SECOND')";
+
+    private static final String CHANGED_HEADERS_SQL =
+        "SELECT PO_HEADER_ID FROM PO_HEADERS_ALL WHERE LAST_UPDATE_DATE " + CHANGED_SINCE + "\n" +
+        "UNION\n" +
+        "SELECT PO_HEADER_ID FROM PO_LINE_LOCATIONS_ALL WHERE LAST_UPDATE_DATE " + CHANGED_SINCE + "\n" +
+        "UNION\n" +
+        "SELECT PHA.PO_HEADER_ID FROM PO_HEADERS_ALL PHA, AP_SUPPLIERS APS\n" +
+        "WHERE PHA.VENDOR_ID = APS.VENDOR_ID AND APS.LAST_UPDATE_DATE " + CHANGED_SINCE + "\n" +
+        "UNION\n" +
+        "SELECT PHA.PO_HEADER_ID FROM PO_HEADERS_ALL PHA, AP_SUPPLIER_SITES_ALL APSS\n" +
+        "WHERE PHA.VENDOR_SITE_ID = APSS.VENDOR_SITE_ID AND APSS.LAST_UPDATE_DATE " + CHANGED_SINCE;
+
+    @Value("${app.search.po-index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.search.po-index.rebuild-ms:3600000}")
+    private long rebuildMs;
+
+    @Value("${app.search.po-index.overlap-seconds:120}")
+    private long overlapSeconds;
+
+    // Rows of every open PO, by PO_HEADER_ID - the source the org indexes are built from
+    private final Map<String, List<Map<String, Object>>> rowsByHeader = new HashMap<>();
+
+    private volatile Map<String, PrefixIndex> byOrg = Collections.emptyMap();
+    private volatile boolean loaded;
+    private Object lastRefresh;
+    private long lastRebuild;
+
+    @Autowired
+    public void setDataSource(JdbcTemplate jdbcTemplate) {
+        super.setDataSource(jdbcTemplate.getDataSource());
+    }
+
+    public boolean isReady() {
+        return enabled && loaded;
+    }
+
+    /**
+     * Same rows as the PO number LIKE query: PO_NUMBER LIKE poNumber || '%' and
+     * ORGANIZATION_ID LIKE orgId || '%', ordered by PO number.
+     */
+    public List<Map<String, Object>> search(String poNumber, String orgId) {
+        Map<String, PrefixIndex> indexes = byOrg;
+        List<Map<String, Object>> result = new ArrayList<>();
+        int orgs = 0;
+        for (Map.Entry<String, PrefixIndex> e : indexes.entrySet()) {
+            if (e.getKey().startsWith(orgId)) {
+                result.addAll(e.getValue().search(poNumber));
+                orgs++;
+            }
+        }
+        if (orgs > 1) {
+            Collections.sort(result, new Comparator<Map<String, Object>>() {
+                @Override
+                public int compare(Map<String, Object> a, Map<String, Object> b) {
+                    return a.get("PO_NUMBER").toString().compareTo(b.get("PO_NUMBER").toString());
+                }
+            });
+        }
+        return result;
+    }
+
+    @Scheduled(initialDelayString = "${app.search.po-index.initial-delay-ms:0}",
+               fixedDelayString = "${app.search.po-index.refresh-ms:60000}")
+    public synchronized void refresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Object now = getJdbcTemplate().queryForObject("SELECT SYSDATE FROM DUAL", Object.class);
+            if (!loaded || System.currentTimeMillis() - lastRebuild > rebuildMs) {
+                rebuild();
+            } else {
+                applyChanges();
+            }
+            lastRefresh = now;
+            loaded = true;
+        } catch (Exception exp) {
+            logger.warn("Open PO index refresh failed: {}", exp.toString());
+        }
+    }
+
+    private void rebuild() {
+        List<Map<String, Object>> rows = getNamedParameterJdbcTemplate().queryForList(OPEN_PO_SQL, new HashMap<String, Object>());
+        rowsByHeader.clear();
+        for (Map<String, Object> row : rows) {
+            add(row);
+        }
+        lastRebuild = System.currentTimeMillis();
+        publish();
+        logger.info("Open PO index built - {} rows, {} orgs", rows.size(), byOrg.size());
+    }
+
+    private void applyChanges() {
+        Map<String, Object> params = new HashMap<>();
+        params.put("SINCE", lastRefresh);
+        params.put("OVERLAP_SECONDS", overlapSeconds);
+        List<Map<String, Object>> changed = getNamedParameterJdbcTemplate().queryForList(CHANGED_HEADERS_SQL, params);
+        if (changed.isEmpty()) {
+            return;
+        }
+        Set<String> headerIds = new HashSet<>();
+        for (Map<String, Object> row : changed) {
+            headerIds.add(String.valueOf(row.get("PO_HEADER_ID")));
+        }
+        List<Map<String, Object>> rows = getNamedParameterJdbcTemplate().queryForList(
+            OPEN_PO_SQL + "AND PHA.PO_HEADER_ID IN (" + CHANGED_HEADERS_SQL + ")", params);
+
+        // Changed headers that are no longer open simply do not come back
+        for (String headerId : headerIds) {
+            rowsByHeader.remove(headerId);
+        }
+        for (Map<String, Object> row : rows) {
+            add(row);
+        }
+        publish();
+        logger.debug("Open PO index - {} changed headers, {} rows re-read", headerIds.size(), rows.size());
+    }
+
+    private void add(Map<String, Object> row) {
+        String headerId = String.valueOf(row.get("PO_HEADER_ID"));
+        List<Map<String, Object>> list = rowsByHeader.get(headerId);
+        if (list == null) {
+            list = new ArrayList<>();
+            rowsByHeader.put(headerId, list);
+        }
+        list.add(Collections.unmodifiableMap(row));
+    }
+
+    // Rebuilds the per-org sorted arrays and swaps them in for readers
+    private void publish() {
+        Map<String, List<Map<String, Object>>> rowsByOrg = new HashMap<>();
+        for (List<Map<String, Object>> rows : rowsByHeader.values()) {
+            for (Map<String, Object> row : rows) {
+                Object org = row.get("ORGANIZATION_ID");
+                if (org == null) {
+                    continue;
+                }
+                List<Map<String, Object>> list = rowsByOrg.get(org.toString());
+                if (list == null) {
+                    list = new ArrayList<>();
+                    rowsByOrg.put(org.toString(), list);
+                }
+                list.add(row);
+            }
+        }
+        Map<String, PrefixIndex> indexes = new ConcurrentHashMap<>();
+        for (Map.Entry<String, List<Map<String, Object>>> e : rowsByOrg.entrySet()) {
+            indexes.put(e.getKey(), PrefixIndex.build(e.getValue(), "PO_NUMBER"));
+        }
+        byOrg = indexes;
+    }
+
+}
@@ -12,7 +12,10 @@ import com.mobile.integration.grandstores.Repository.PoNumberRO;
 import com.mobile.integration.grandstores.Repository.ReleaseNumberRO;
 import com.mobile.integration.grandstores.Utils.JsonUtils.JsonUtils;
 import com.mobile.integration.grandstores.Utils.ResponseAPI.APIResponse;
+import com.mobile.integration.grandstores.Utils.Search.PrefixIndex;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -25,6 +28,8 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcDaoSupport;
 @Service
 public class PODetailSO  extends NamedParameterJdbcDaoSupport {
 
+    private static final Logger logger = LoggerFactory.getLogger(PODetailSO.class);
+
     @Autowired
     private JdbcTemplate jdbcTemplate;
     
@@ -55,6 +60,9 @@ public class PODetailSO  extends NamedParameterJdbcDaoSupport {
     @Autowired
     private POServicePkg poServicepkg;
 
+    @Autowired
+    private OpenPoNumberIndex openPoNumberIndex;
+
     // po/ponumber
     public ResponseEntity<APIResponse> getPONumber(Map<String, Object> content) {
         String P_PO_NUMBER=content.get("P_PO_NUMBER")==null?"":content.get("P_PO_NUMBER").toString();
@@ -92,13 +100,19 @@ public class PODetailSO  extends NamedParameterJdbcDaoSupport {
         "ORDER BY PO_NUMBER";
 
         try {
-            params.put("P_PO_NUMBER", P_PO_NUMBER);
-            params.put("P_ORG_ID", P_ORG_ID);
-            
-            // System.out.println("==>"+poNumberQuery);
-            items = getNamedParameterJdbcTemplate().queryForList(poNumberQuery, params);
+            // Type-ahead served from the in-memory index, the query is the fallback
+            if (openPoNumberIndex.isReady()
+                    && !PrefixIndex.hasWildcards(P_PO_NUMBER) && !PrefixIndex.hasWildcards(P_ORG_ID)) {
+                items = openPoNumberIndex.search(P_PO_NUMBER, P_ORG_ID);
+            } else {
+                params.put("P_PO_NUMBER", P_PO_NUMBER);
+                params.put("P_ORG_ID", P_ORG_ID);
+
+                // System.out.println("==>"+poNumberQuery);
+                items = getNamedParameterJdbcTemplate().queryForList(poNumberQuery, params);
+            }
         } catch (Exception exp) {
-            System.out.println(exp.toString());            
+            logger.error("getPONumber failed", exp);
         }
 
         APIResponse api=new APIResponse();
@@ -143,7 +157,7 @@ public class PODetailSO  extends NamedParameterJdbcDaoSupport {
                 // System.out.println("==>"+customerContactSQL);
                 items = getNamedParameterJdbcTemplate().queryForList(poNumberQuery, params);
             } catch (Exception exp) {
-                System.out.println(exp.toString());            
+                logger.error("getPOReleaseNumber failed", exp);
             }
     
             APIResponse api=new APIResponse();
@@ -223,7 +237,7 @@ public class PODetailSO  extends NamedParameterJdbcDaoSupport {
                         // System.out.println("==>"+customerContactSQL);
                         items = getNamedParameterJdbcTemplate().queryForList(poItemDtlQuery, params);
                     } catch (Exception exp) {
-                        System.out.println(exp.toString());            
+                        logger.error("getPOItemDetails failed", exp);
                     }
 
                     APIResponse api=new APIResponse();
@@ -313,7 +327,7 @@ public class PODetailSO  extends NamedParameterJdbcDaoSupport {
                 // System.out.println("==>"+customerContactSQL);
                 items = getNamedParameterJdbcTemplate().queryForList(poItemDtlQuery, params);
             } catch (Exception exp) {
-                System.out.println(exp.toString());            
+                logger.error("getPOItemCrossRef failed", exp);
             }
 
             APIResponse api=new APIResponse();
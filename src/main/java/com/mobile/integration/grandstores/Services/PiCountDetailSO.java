@@ -1,10 +1,10 @@
 package com.mobile.integration.grandstores.Services;
 
-import java.util.HashMap;
-
 import java.util.List;
 import java.util.Map;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcDaoSupport;
@@ -20,6 +20,7 @@ import com.mobile.integration.grandstores.Repository.PiCountDetailRO;
 import com.mobile.integration.grandstores.Repository.SearchDetailRO;
 // import com.mobile.integration.grandstores.Utils.JwtUtils;
 // import com.mobile.integration.grandstores.Utils.JsonUtils.JsonUtils;
+import com.mobile.integration.grandstores.Utils.OracleDBUtils.ShapedQuery;
 import com.mobile.integration.grandstores.Utils.ResponseAPI.APIResponse;
 
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcDaoSupport;
@@ -32,6 +33,8 @@ import org.springframework.stereotype.Service;
 @Service
 public class PiCountDetailSO  extends NamedParameterJdbcDaoSupport{
 
+    private static final Logger logger = LoggerFactory.getLogger(PiCountDetailSO.class);
+
     @Autowired
     private PiCountDetailRO piCountDetailro;
 
@@ -90,7 +93,7 @@ public class PiCountDetailSO  extends NamedParameterJdbcDaoSupport{
         // Map<String, Object> ls=proformaInvoicepk.calldocumentNumber(docNumber);
 
         long totProcEndTime = System.currentTimeMillis();
-        System.out.println("total time taken for proc execution for all item :: " + (totProcEndTime - totProcStartTime) + " ms");
+        logger.debug("total time taken for proc execution for all item :: {} ms", (totProcEndTime - totProcStartTime));
 
         APIResponse api=new APIResponse();
         api.setData(ls);
@@ -102,9 +105,9 @@ public class PiCountDetailSO  extends NamedParameterJdbcDaoSupport{
         String P_DOC_NUMBER=content.get("P_DOC_NUMBER")==""?null:content.get("P_DOC_NUMBER").toString();
         String P_SHIPMENT_REF=content.get("P_SHIPMENT_REF")==""?null:content.get("P_SHIPMENT_REF").toString();
         String P_PI_NUMBER=content.get("P_PI_NUMBER")==""?null:content.get("P_PI_NUMBER").toString();
-        System.out.println("P_DOC_NUMBER=>"+P_DOC_NUMBER);
-        System.out.println("P_SHIPMENT_REF=>"+P_SHIPMENT_REF);
-        System.out.println("P_PI_NUMBER==>"+P_PI_NUMBER);
+        logger.debug("P_DOC_NUMBER=>{}", P_DOC_NUMBER);
+        logger.debug("P_SHIPMENT_REF=>{}", P_SHIPMENT_REF);
+        logger.debug("P_PI_NUMBER==>{}", P_PI_NUMBER);
         // long totProcStartTime = System.currentTimeMillis();
         // Package calling 
         Map<String, Object> ls=proformaInvoicepk.callGetTotalQty(P_DOC_NUMBER,P_SHIPMENT_REF,P_PI_NUMBER);
@@ -149,10 +152,11 @@ public class PiCountDetailSO  extends NamedParameterJdbcDaoSupport{
         String P_PI_NUMBER=content.get("P_PI_NUMBER")==""?null:content.get("P_PI_NUMBER").toString();
 
         List<Map<String, Object>> items = null;
-        Map<String, Object> params = new HashMap();
-        
-        String customerContactSQL=
 
+        // Only the supplied filters are emitted, so each combination gets its own cursor
+        // and plan instead of one NVL plan that full scans for every combination.
+        // An absent filter keeps the NVL behaviour of skipping rows where the column is NULL.
+        ShapedQuery query = new ShapedQuery(
         "SELECT DISTINCT\n" +
         "    xpmh.pi_number    shipment_ref,\n" +
         "    xpmh.document_number,\n" +
@@ -163,21 +167,16 @@ public class PiCountDetailSO  extends NamedParameterJdbcDaoSupport{
         "WHERE\n" +
         "    xpmh.header_id = xpml.header_id\n" +
         "    AND xpml.group_code IS NOT NULL\n" +
-        "    AND upper(xpmh.status) <> 'C'\n" +
-        "    AND xpmh.pi_number = nvl(:p_shipment_ref, xpmh.pi_number)\n" +
-        "    AND xpml.group_code = nvl(:p_pi_number, xpml.group_code)\n" +
-        "    AND xpmh.document_number = nvl(:p_doc_number, xpmh.document_number)";
-
+        "    AND upper(xpmh.status) <> 'C'", "")
+            .filter("xpmh.pi_number = :p_shipment_ref", "xpmh.pi_number IS NOT NULL", "p_shipment_ref", P_SHIPMENT_REF)
+            .filter("xpml.group_code = :p_pi_number", "p_pi_number", P_PI_NUMBER)
+            .filter("xpmh.document_number = :p_doc_number", "xpmh.document_number IS NOT NULL", "p_doc_number", P_DOC_NUMBER);
 
-        // System.out.println("customerSiteSQL=>"+customerContactSQL);    
         try {
-            params.put("p_shipment_ref", P_SHIPMENT_REF);
-            params.put("p_pi_number", P_PI_NUMBER);
-            params.put("p_doc_number", P_DOC_NUMBER);
-            // System.out.println("==>"+customerContactSQL);
-            items = getNamedParameterJdbcTemplate().queryForList(customerContactSQL, params);
+            logger.debug("getSearchDetail shape {}", query.getShape());
+            items = getNamedParameterJdbcTemplate().queryForList(query.getSql(), query.getParams());
         } catch (Exception exp) {
-            System.out.println(exp.toString());            
+            logger.error("getSearchDetail failed", exp);
         }
 
         APIResponse api=new APIResponse();
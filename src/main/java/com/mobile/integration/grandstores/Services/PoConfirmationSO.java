@@ -9,6 +9,8 @@ import com.mobile.integration.grandstores.PackageCalling.POServicePkg;
 import com.mobile.integration.grandstores.Repository.PoConfirmationRO;
 import com.mobile.integration.grandstores.Utils.ResponseAPI.APIResponse;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 
 import java.sql.Clob;
@@ -32,8 +34,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 @Service
 public class PoConfirmationSO {
 
@@ -83,7 +83,7 @@ public class PoConfirmationSO {
                     "-" +current.getSupInvDate().toString()+
                     "-" +current.getStatus().toString()+
                     "-" +current.getAttribute8().toString();
-                System.out.println("inside the iterator: "+comb);
+                logger.debug("inside the iterator: {}", comb);
                 if(myList.contains(comb)){
                     iterator1.remove();
                 }
@@ -195,7 +195,7 @@ public class PoConfirmationSO {
         Iterator<PoConfirmationEO> iterator1 = bodyCountDetail.iterator();
         while (iterator1.hasNext()) {
             PoConfirmationEO current = iterator1.next();
-            System.out.println("current.getTransactionType().toString(): "+current.getTransactionType().toString());
+            logger.debug("current.getTransactionType().toString(): {}", current.getTransactionType().toString());
             if(current.getTransactionType().toString().equalsIgnoreCase("PO_RECEIPT")){
                 comb = current.getPoHeaderId().toString() + 
                     "-" +current.getReleaseNum().toString() + 
@@ -204,20 +204,20 @@ public class PoConfirmationSO {
                     "-" +current.getSupInvDate().toString()+
                     "-" +current.getStatus().toString()+
                     "-" +current.getAttribute8().toString();
-                System.out.println("inside the iterator: "+comb);
+                logger.debug("inside the iterator: {}", comb);
                 if(myList.contains(comb)){
                     iterator1.remove();
-                    System.out.println("removed");
+                    logger.debug("removed");
                 }
                 else{
-                    System.out.println("else part");
+                    logger.debug("else part");
                     int countD = recordCheckforReceipt(current.getPoHeaderId().toString(), 
                                             current.getReleaseNum().toString(), current.getItemId().toString(),
                                             current.getSupInvNum().toString(), current.getSupInvDate(),
                                             current.getStatus().toString(), current.getAttribute8().toString());
-                    System.out.println("countD: "+countD);
+                    logger.debug("countD: {}", countD);
                     if(countD == 0){
-                        System.out.println("inside the countD = 0");
+                        logger.debug("inside the countD = 0");
                         listFromIterator.add(current);
                         myList.add(comb);
                     }
@@ -232,13 +232,13 @@ public class PoConfirmationSO {
                     "-" +current.getStatus().toString()+
                     "-" +current.getReceiptNum().toString()+
                     "-" +current.getAttribute8().toString();
-                System.out.println("inside the iterator: "+comb);
+                logger.debug("inside the iterator: {}", comb);
                 if(myList.contains(comb)){
                     iterator1.remove();
-                    System.out.println("removed");
+                    logger.debug("removed");
                 }
                 else{
-                    System.out.println("else part");
+                    logger.debug("else part");
                     /*int countD = recordCheckforDelivery(current.getPoHeaderId().toString(), 
                                             current.getReleaseNum().toString(), current.getItemId().toString(),
                                             current.getDelivLocator().toString(), current.getStatus().toString(),
@@ -271,8 +271,8 @@ public class PoConfirmationSO {
             }
                 
         }               
-        System.out.println("myL size: " +myList.size());
-        System.out.println("listFromIterator: " +listFromIterator.size());
+        logger.debug("myL size: {}", myList.size());
+        logger.debug("listFromIterator: {}", listFromIterator.size());
         Iterable<PoConfirmationEO> ls=poConfirmationro.saveAll(listFromIterator);
         APIResponse api=new APIResponse();
         api.setData(ls);
@@ -281,27 +281,27 @@ public class PoConfirmationSO {
     }
 
     private String getDelvQuantityCount(String attr8) {
-        System.out.println("inside getDelvQuantityCount service");
+        logger.debug("inside getDelvQuantityCount service");
         String c = poConfirmationro.getDelvQuantityCount(attr8);
         return c;  
     }
 
     private String getTotalQuantityCount(String hdrId, String attr8) {
-        System.out.println("inside getTotalQuantityCount service");
+        logger.debug("inside getTotalQuantityCount service");
         String c = poConfirmationro.getTotalQuantityCount(hdrId, attr8);
         return c;  
     }
 
     private int recordCheckforDelivery(String hdrId, String relNum, String itemId, String delivloc, String status,
             String receiptNum, String attr8) {
-        System.out.println("inside recordCheckforDelivery service");
+        logger.debug("inside recordCheckforDelivery service");
         int c = poConfirmationro.recordCountPODelivery(hdrId, relNum, itemId, delivloc, status, receiptNum, attr8);
         return c;  
     }
 
     private int recordCheckforReceipt(String hdrId, String relNum, String itemId, String supInvNum, Date supInvDate,
             String status, String att8) {
-        System.out.println("inside recordCheckforReceipt");
+        logger.debug("inside recordCheckforReceipt");
         int c = poConfirmationro.recordCountPOReceipt(hdrId, relNum, itemId, supInvNum, supInvDate, status, att8);
         return c;  
     }
@@ -19,6 +19,8 @@ import com.mobile.integration.grandstores.Repository.ShipmentRefRO;
 // import com.mobile.integration.grandstores.Utils.JwtUtils;
 import com.mobile.integration.grandstores.Utils.ResponseAPI.APIResponse;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcDaoSupport;
 
@@ -31,6 +33,8 @@ import org.springframework.stereotype.Service;
 @Service
 public class ProformaInvoiceSO extends NamedParameterJdbcDaoSupport {
 
+    private static final Logger logger = LoggerFactory.getLogger(ProformaInvoiceSO.class);
+
     @Autowired
     private JdbcTemplate jdbcTemplate;
     
@@ -56,6 +60,9 @@ public class ProformaInvoiceSO extends NamedParameterJdbcDaoSupport {
 
     @Autowired
     private PiSupplierRO piSupplierro;
+
+    @Autowired
+    private SupplierSearchIndex supplierSearchIndex;
     
     @Autowired
     private ShipmentRefRO shipmentRefro;
@@ -72,7 +79,9 @@ public class ProformaInvoiceSO extends NamedParameterJdbcDaoSupport {
         // long totProcStartTime = System.currentTimeMillis();
         // Package Calling
         // Map<String, Object> ls=proformaInvoicepk.callPISupplier();
-        List<PiSupplierEO> ls= piSupplierro.filterBySupplierName(P_SUPPLIER_NAME);
+        List<PiSupplierEO> ls= supplierSearchIndex.isReady()
+            ? supplierSearchIndex.search(P_SUPPLIER_NAME)
+            : piSupplierro.filterBySupplierName(P_SUPPLIER_NAME);
         // long totProcEndTime = System.currentTimeMillis();
         // System.out.println("total time taken for proc execution for all item :: " + (totProcEndTime - totProcStartTime) + " ms");
         // 
@@ -199,7 +208,7 @@ public class ProformaInvoiceSO extends NamedParameterJdbcDaoSupport {
             // System.out.println("==>"+customerContactSQL);
             items = getNamedParameterJdbcTemplate().queryForList(itemDtlQuery, params);
         } catch (Exception exp) {
-            System.out.println(exp.toString());            
+            logger.error("getPIItemDetail failed", exp);
         }
 
         APIResponse api=new APIResponse();
@@ -285,7 +294,7 @@ public class ProformaInvoiceSO extends NamedParameterJdbcDaoSupport {
             // System.out.println("==>"+customerContactSQL);
             items = getNamedParameterJdbcTemplate().queryForList(itemCrossRefQuery, params);
         } catch (Exception exp) {
-            System.out.println(exp.toString());            
+            logger.error("getPIItemCrossRef failed", exp);
         }
 
         APIResponse api=new APIResponse();
@@ -0,0 +1,79 @@
+package com.mobile.integration.grandstores.Services;
+
+import java.util.List;
+import java.util.function.Function;
+
+import com.mobile.integration.grandstores.Entity.PiSupplierEO;
+import com.mobile.integration.grandstores.Repository.PiSupplierRO;
+import com.mobile.integration.grandstores.Utils.Search.TrigramIndex;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Trigram index over XXGS_GET_PI_SUPPLIERS_V for the pisupplier name search, which
+ * was a leading-wildcard LIKE on every keystroke.
+ *
+ * The view is only re-read when the AP_SUPPLIERS change token (row count and latest
+ * LAST_UPDATE_DATE) moves.
+ */
+@Component
+public class SupplierSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(SupplierSearchIndex.class);
+
+    private static final String CHANGE_TOKEN_SQL =
+        "SELECT COUNT(*) || '|' || TO_CHAR(MAX(LAST_UPDATE_DATE), 'YYYYMMDDHH24MISS') FROM AP_SUPPLIERS";
+
+    @Autowired
+    private PiSupplierRO piSupplierro;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.search.supplier-index.enabled:true}")
+    private boolean enabled;
+
+    private volatile TrigramIndex<PiSupplierEO> index;
+    private String changeToken;
+
+    public boolean isReady() {
+        return enabled && index != null;
+    }
+
+    /** Same suppliers as UPPER(SUPPLIER_NAME) LIKE '%' || UPPER(:name) || '%', ranked. */
+    public List<PiSupplierEO> search(String supplierName) {
+        return index.search(supplierName, Integer.MAX_VALUE);
+    }
+
+    @Scheduled(initialDelayString = "${app.search.supplier-index.initial-delay-ms:0}",
+               fixedDelayString = "${app.search.supplier-index.refresh-ms:300000}")
+    public synchronized void refresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            String token = jdbcTemplate.queryForObject(CHANGE_TOKEN_SQL, String.class);
+            if (index != null && token != null && token.equals(changeToken)) {
+                return;
+            }
+            List<PiSupplierEO> suppliers = piSupplierro.findAll();
+            index = TrigramIndex.build(suppliers, new Function<PiSupplierEO, String>() {
+                @Override
+                public String apply(PiSupplierEO supplier) {
+                    return supplier.getSupplierName();
+                }
+            });
+            changeToken = token;
+            logger.info("Supplier search index built - {} suppliers", index.size());
+        } catch (Exception exp) {
+            logger.warn("Supplier search index refresh failed: {}", exp.toString());
+        }
+    }
+
+}
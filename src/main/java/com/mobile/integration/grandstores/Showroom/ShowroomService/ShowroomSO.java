@@ -7,9 +7,10 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
-import javax.sql.rowset.serial.SerialClob;
 import javax.sql.rowset.serial.SerialException;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -25,11 +26,15 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.mobile.integration.grandstores.Logs.mobTransLog.MobTransLogEO;
 import com.mobile.integration.grandstores.Logs.mobTransLog.MobTransLogSO;
 import com.mobile.integration.grandstores.PackageCalling.Showroompkg;
+import com.mobile.integration.grandstores.Utils.Cache.SingleFlight;
+import com.mobile.integration.grandstores.Utils.JsonUtils.JsonUtils;
 import com.mobile.integration.grandstores.Utils.ResponseAPI.APIResponse;
 
 @Service
 public class ShowroomSO extends NamedParameterJdbcDaoSupport{
 
+    private static final Logger logger = LoggerFactory.getLogger(ShowroomSO.class);
+
     
     @Autowired
     public void setDataSource(JdbcTemplate jdbcTemplate) {
@@ -39,6 +44,12 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
     @Autowired
     private Showroompkg showroompkg;
 
+    @Autowired
+    private SingleFlight singleFlight;
+
+    @Autowired
+    private JsonUtils jsonUtils;
+
     @Autowired
     private MobTransLogSO mobTransLogSO;
 
@@ -48,7 +59,7 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
             //logging
             mobTransLog = new MobTransLogEO();   
             mobTransLog.setModuleName("Showroom - getInvOrg");
-            Clob clobRequest = new SerialClob(new ObjectMapper().writeValueAsString(content).toCharArray());
+            Clob clobRequest = jsonUtils.toClob(content);
             mobTransLog.setRequest(clobRequest);
             mobTransLog.setProcessedTime(new java.sql.Date(new Date().getTime()));
             mobTransLogSO.saveMobTransLog(mobTransLog); 
@@ -63,7 +74,7 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
         
         Map<String, Object> ls=showroompkg.GET_INV_ORG(P_USER_ID, P_ORGANIZATION_CODE, P_ORGANIZATION_NAME);
 
-        Clob clobResponse = new SerialClob(new ObjectMapper().writeValueAsString(ls).toCharArray());
+        Clob clobResponse = jsonUtils.toClob(ls);
         mobTransLog.setResponse(clobResponse);
         mobTransLogSO.saveMobTransLog(mobTransLog); 
 
@@ -78,7 +89,7 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
                 //logging
             mobTransLog = new MobTransLogEO();   
             mobTransLog.setModuleName("Showroom - getSaleOrderNum");
-            Clob clobRequest = new SerialClob(new ObjectMapper().writeValueAsString(content).toCharArray());
+            Clob clobRequest = jsonUtils.toClob(content);
             mobTransLog.setRequest(clobRequest);
             mobTransLog.setProcessedTime(new java.sql.Date(new Date().getTime()));
             mobTransLogSO.saveMobTransLog(mobTransLog); 
@@ -102,7 +113,7 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
             //logging
             mobTransLog = new MobTransLogEO();   
             mobTransLog.setModuleName("Showroom - getSaleOrderDetails");
-            Clob clobRequest = new SerialClob(new ObjectMapper().writeValueAsString(content).toCharArray());
+            Clob clobRequest = jsonUtils.toClob(content);
             mobTransLog.setRequest(clobRequest);
             mobTransLog.setProcessedTime(new java.sql.Date(new Date().getTime()));
             mobTransLogSO.saveMobTransLog(mobTransLog); 
@@ -130,7 +141,7 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
             //logging
             mobTransLog = new MobTransLogEO();   
             mobTransLog.setModuleName("Showroom - getSaleOrderDetailsCr");
-            Clob clobRequest = new SerialClob(new ObjectMapper().writeValueAsString(content).toCharArray());
+            Clob clobRequest = jsonUtils.toClob(content);
             mobTransLog.setRequest(clobRequest);
             mobTransLog.setProcessedTime(new java.sql.Date(new Date().getTime()));
             mobTransLogSO.saveMobTransLog(mobTransLog); 
@@ -157,7 +168,7 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
                 //logging
                 mobTransLog = new MobTransLogEO();   
                 mobTransLog.setModuleName("Showroom - getMoDetails");
-                Clob clobRequest = new SerialClob(new ObjectMapper().writeValueAsString(content).toCharArray());
+                Clob clobRequest = jsonUtils.toClob(content);
                 mobTransLog.setRequest(clobRequest);
                 mobTransLog.setProcessedTime(new java.sql.Date(new Date().getTime()));
                 mobTransLogSO.saveMobTransLog(mobTransLog); 
@@ -168,7 +179,9 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
         String P_MOVE_ORDER_NUM=content.get("P_MOVE_ORDER_NUM")==null?"":content.get("P_MOVE_ORDER_NUM").toString();
         String P_DELIVERY_NUM=content.get("P_DELIVERY_NUM")==null?"":content.get("P_DELIVERY_NUM").toString();
         
-        Map<String, Object> ls=showroompkg.GET_MO_DETAILS(P_ORGANIZATION_ID, P_MOVE_ORDER_NUM, P_DELIVERY_NUM);
+        Map<String, Object> ls=singleFlight.execute(
+            SingleFlight.key("SRM.GET_MO_DETAILS", P_ORGANIZATION_ID, P_MOVE_ORDER_NUM, P_DELIVERY_NUM),
+            () -> showroompkg.GET_MO_DETAILS(P_ORGANIZATION_ID, P_MOVE_ORDER_NUM, P_DELIVERY_NUM));
 
         
         APIResponse api=new APIResponse();
@@ -182,7 +195,7 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
             //logging
             mobTransLog = new MobTransLogEO();   
             mobTransLog.setModuleName("Showroom - getMoItemDetails");
-            Clob clobRequest = new SerialClob(new ObjectMapper().writeValueAsString(content).toCharArray());
+            Clob clobRequest = jsonUtils.toClob(content);
             mobTransLog.setRequest(clobRequest);
             mobTransLog.setProcessedTime(new java.sql.Date(new Date().getTime()));
             mobTransLogSO.saveMobTransLog(mobTransLog); 
@@ -204,7 +217,7 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
             //logging
             mobTransLog = new MobTransLogEO();   
             mobTransLog.setModuleName("Showroom - getMoItemCrossRefDtls");
-            Clob clobRequest = new SerialClob(new ObjectMapper().writeValueAsString(content).toCharArray());
+            Clob clobRequest = jsonUtils.toClob(content);
             mobTransLog.setRequest(clobRequest);
             mobTransLog.setProcessedTime(new java.sql.Date(new Date().getTime()));
             mobTransLogSO.saveMobTransLog(mobTransLog); 
@@ -226,7 +239,7 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
             //logging
             mobTransLog = new MobTransLogEO();   
             mobTransLog.setModuleName("Showroom - getPoNumber");
-            Clob clobRequest = new SerialClob(new ObjectMapper().writeValueAsString(content).toCharArray());
+            Clob clobRequest = jsonUtils.toClob(content);
             mobTransLog.setRequest(clobRequest);
             mobTransLog.setProcessedTime(new java.sql.Date(new Date().getTime()));
             mobTransLogSO.saveMobTransLog(mobTransLog); 
@@ -251,7 +264,7 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
             //logging
             mobTransLog = new MobTransLogEO();   
             mobTransLog.setModuleName("Showroom - getReleaseNumber");
-            Clob clobRequest = new SerialClob(new ObjectMapper().writeValueAsString(content).toCharArray());
+            Clob clobRequest = jsonUtils.toClob(content);
             mobTransLog.setRequest(clobRequest);
             mobTransLog.setProcessedTime(new java.sql.Date(new Date().getTime()));
             mobTransLogSO.saveMobTransLog(mobTransLog); 
@@ -275,7 +288,7 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
             //logging
             mobTransLog = new MobTransLogEO();   
             mobTransLog.setModuleName("Showroom - getPoItemDtls");
-            Clob clobRequest = new SerialClob(new ObjectMapper().writeValueAsString(content).toCharArray());
+            Clob clobRequest = jsonUtils.toClob(content);
             mobTransLog.setRequest(clobRequest);
             mobTransLog.setProcessedTime(new java.sql.Date(new Date().getTime()));
             mobTransLogSO.saveMobTransLog(mobTransLog); 
@@ -300,7 +313,7 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
             //logging
             mobTransLog = new MobTransLogEO();   
             mobTransLog.setModuleName("Showroom - getPoItemCrossRef");
-            Clob clobRequest = new SerialClob(new ObjectMapper().writeValueAsString(content).toCharArray());
+            Clob clobRequest = jsonUtils.toClob(content);
             mobTransLog.setRequest(clobRequest);
             mobTransLog.setProcessedTime(new java.sql.Date(new Date().getTime()));
             mobTransLogSO.saveMobTransLog(mobTransLog); 
@@ -323,7 +336,7 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
         try{    //logging
             mobTransLog = new MobTransLogEO();   
             mobTransLog.setModuleName("Showroom - getRTVPoNum");
-            Clob clobRequest = new SerialClob(new ObjectMapper().writeValueAsString(content).toCharArray());
+            Clob clobRequest = jsonUtils.toClob(content);
             mobTransLog.setRequest(clobRequest);
             mobTransLog.setProcessedTime(new java.sql.Date(new Date().getTime()));
             mobTransLogSO.saveMobTransLog(mobTransLog); 
@@ -347,7 +360,7 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
         try{    //logging
             mobTransLog = new MobTransLogEO();   
             mobTransLog.setModuleName("Showroom - getRTVRequestNum");
-            Clob clobRequest = new SerialClob(new ObjectMapper().writeValueAsString(content).toCharArray());
+            Clob clobRequest = jsonUtils.toClob(content);
             mobTransLog.setRequest(clobRequest);
             mobTransLog.setProcessedTime(new java.sql.Date(new Date().getTime()));
             mobTransLogSO.saveMobTransLog(mobTransLog); 
@@ -372,7 +385,7 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
                 //logging
             mobTransLog = new MobTransLogEO();   
             mobTransLog.setModuleName("Showroom - getRTVItemDtls");
-            Clob clobRequest = new SerialClob(new ObjectMapper().writeValueAsString(content).toCharArray());
+            Clob clobRequest = jsonUtils.toClob(content);
             mobTransLog.setRequest(clobRequest);
             mobTransLog.setProcessedTime(new java.sql.Date(new Date().getTime()));
             mobTransLogSO.saveMobTransLog(mobTransLog); 
@@ -400,7 +413,7 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
         try{    //logging
             mobTransLog = new MobTransLogEO();   
             mobTransLog.setModuleName("Showroom - getRTVItemDtlsCr");
-            Clob clobRequest = new SerialClob(new ObjectMapper().writeValueAsString(content).toCharArray());
+            Clob clobRequest = jsonUtils.toClob(content);
             mobTransLog.setRequest(clobRequest);
             mobTransLog.setProcessedTime(new java.sql.Date(new Date().getTime()));
             mobTransLogSO.saveMobTransLog(mobTransLog); 
@@ -429,7 +442,7 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
         try{    //logging
             mobTransLog = new MobTransLogEO();   
             mobTransLog.setModuleName("Showroom - getPhyInvQueryDtls");
-            Clob clobRequest = new SerialClob(new ObjectMapper().writeValueAsString(content).toCharArray());
+            Clob clobRequest = jsonUtils.toClob(content);
             mobTransLog.setRequest(clobRequest);
             mobTransLog.setProcessedTime(new java.sql.Date(new Date().getTime()));
             mobTransLogSO.saveMobTransLog(mobTransLog); 
@@ -453,7 +466,7 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
             //logging
             mobTransLog = new MobTransLogEO();   
             mobTransLog.setModuleName("Showroom - getPhyInvCntItemDtls");
-            Clob clobRequest = new SerialClob(new ObjectMapper().writeValueAsString(content).toCharArray());
+            Clob clobRequest = jsonUtils.toClob(content);
             mobTransLog.setRequest(clobRequest);
             mobTransLog.setProcessedTime(new java.sql.Date(new Date().getTime()));
             mobTransLogSO.saveMobTransLog(mobTransLog); 
@@ -476,7 +489,7 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
         try{ //logging
             mobTransLog = new MobTransLogEO();   
             mobTransLog.setModuleName("Showroom - getPhyInvCntItemCr");
-            Clob clobRequest = new SerialClob(new ObjectMapper().writeValueAsString(content).toCharArray());
+            Clob clobRequest = jsonUtils.toClob(content);
             mobTransLog.setRequest(clobRequest);
             mobTransLog.setProcessedTime(new java.sql.Date(new Date().getTime()));
             mobTransLogSO.saveMobTransLog(mobTransLog); 
@@ -498,7 +511,7 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
         try{    //logging
             mobTransLog = new MobTransLogEO();   
             mobTransLog.setModuleName("Showroom - getPhysicalInventories");
-            Clob clobRequest = new SerialClob(new ObjectMapper().writeValueAsString(content).toCharArray());
+            Clob clobRequest = jsonUtils.toClob(content);
             mobTransLog.setRequest(clobRequest);
             mobTransLog.setProcessedTime(new java.sql.Date(new Date().getTime()));
             mobTransLogSO.saveMobTransLog(mobTransLog); 
@@ -507,7 +520,9 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
         }
         String P_INVENTORY_ORG_ID=content.get("P_INVENTORY_ORG_ID")==null?"":content.get("P_INVENTORY_ORG_ID").toString();
         
-        Map<String, Object> ls=showroompkg.GET_PHYSICAL_INVENTORIES(P_INVENTORY_ORG_ID);
+        Map<String, Object> ls=singleFlight.execute(
+            SingleFlight.key("SRM.GET_PHYSICAL_INVENTORIES", P_INVENTORY_ORG_ID),
+            () -> showroompkg.GET_PHYSICAL_INVENTORIES(P_INVENTORY_ORG_ID));
 
         APIResponse api=new APIResponse();
         api.setData(ls);
@@ -522,7 +537,7 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
         try{    //logging
             mobTransLog = new MobTransLogEO();   
             mobTransLog.setModuleName("Showroom - getPhyInvSubInvDtls");
-            Clob clobRequest = new SerialClob(new ObjectMapper().writeValueAsString(content).toCharArray());
+            Clob clobRequest = jsonUtils.toClob(content);
             mobTransLog.setRequest(clobRequest);
             mobTransLog.setProcessedTime(new java.sql.Date(new Date().getTime()));
             mobTransLogSO.saveMobTransLog(mobTransLog); 
@@ -544,7 +559,7 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
         try{    //logging
             mobTransLog = new MobTransLogEO();   
             mobTransLog.setModuleName("Showroom - getIoShipmentNo");
-            Clob clobRequest = new SerialClob(new ObjectMapper().writeValueAsString(content).toCharArray());
+            Clob clobRequest = jsonUtils.toClob(content);
             mobTransLog.setRequest(clobRequest);
             mobTransLog.setProcessedTime(new java.sql.Date(new Date().getTime()));
             mobTransLogSO.saveMobTransLog(mobTransLog); 
@@ -568,7 +583,7 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
         try{    //logging
             mobTransLog = new MobTransLogEO();   
             mobTransLog.setModuleName("Showroom - getIoRcptItemDtls");
-            Clob clobRequest = new SerialClob(new ObjectMapper().writeValueAsString(content).toCharArray());
+            Clob clobRequest = jsonUtils.toClob(content);
             mobTransLog.setRequest(clobRequest);
             mobTransLog.setProcessedTime(new java.sql.Date(new Date().getTime()));
             mobTransLogSO.saveMobTransLog(mobTransLog); 
@@ -590,7 +605,7 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
         try{    //logging
             mobTransLog = new MobTransLogEO();   
             mobTransLog.setModuleName("Showroom - getIoRcptItemDtlsCr");
-            Clob clobRequest = new SerialClob(new ObjectMapper().writeValueAsString(content).toCharArray());
+            Clob clobRequest = jsonUtils.toClob(content);
             mobTransLog.setRequest(clobRequest);
             mobTransLog.setProcessedTime(new java.sql.Date(new Date().getTime()));
             mobTransLogSO.saveMobTransLog(mobTransLog); 
@@ -612,7 +627,7 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
         try{    //logging
             mobTransLog = new MobTransLogEO();   
             mobTransLog.setModuleName("Showroom - moConfirm");
-            Clob clobRequest = new SerialClob(new ObjectMapper().writeValueAsString(content).toCharArray());
+            Clob clobRequest = jsonUtils.toClob(content);
             mobTransLog.setRequest(clobRequest);
             mobTransLog.setProcessedTime(new java.sql.Date(new Date().getTime()));
             mobTransLogSO.saveMobTransLog(mobTransLog); 
@@ -629,12 +644,12 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
             try {
                 // Proper JSON serialization
                 P_INPUT = mapper.writeValueAsString(content.get("P_INPUT"));
-                System.out.println("P_INPUT ===> " + P_INPUT);
+                logger.debug("P_INPUT ===> {}", P_INPUT);
             } catch (Exception e) {
-                System.err.println("Failed to convert P_INPUT to JSON: " + e.getMessage());
+                logger.error("Failed to convert P_INPUT to JSON", e);
             }
         } else {
-            System.out.println("P_INPUT is null");
+            logger.debug("P_INPUT is null");
         }
         
         Map<String, Object> ls=showroompkg.MO_CONFIRM(P_INPUT);
@@ -660,8 +675,8 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
                     String message = messageObj != null ? messageObj.toString() : "";
                     api.setStatus(statusCode); 
                     api.setError(message);
-                    System.out.println("Status Code: " + statusCode);
-                    System.out.println("Message: " + message);
+                    logger.debug("Status Code: {}", statusCode);
+                    logger.debug("Message: {}", message);
                 }
             }
         
@@ -678,7 +693,7 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
         try{    //logging
             mobTransLog = new MobTransLogEO();   
             mobTransLog.setModuleName("Showroom - stockConfirm");
-            Clob clobRequest = new SerialClob(new ObjectMapper().writeValueAsString(content).toCharArray());
+            Clob clobRequest = jsonUtils.toClob(content);
             mobTransLog.setRequest(clobRequest);
             mobTransLog.setProcessedTime(new java.sql.Date(new Date().getTime()));
             mobTransLogSO.saveMobTransLog(mobTransLog); 
@@ -695,12 +710,12 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
             try {
                 // Proper JSON serialization
                 P_INPUT = mapper.writeValueAsString(content.get("P_INPUT"));
-                System.out.println("P_INPUT ===> " + P_INPUT);
+                logger.debug("P_INPUT ===> {}", P_INPUT);
             } catch (Exception e) {
-                System.err.println("Failed to convert P_INPUT to JSON: " + e.getMessage());
+                logger.error("Failed to convert P_INPUT to JSON", e);
             }
         } else {
-            System.out.println("P_INPUT is null");
+            logger.debug("P_INPUT is null");
         }
         
         Map<String, Object> ls=showroompkg.STOCK_CONFIRM(P_INPUT);
@@ -726,8 +741,8 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
                     String message = messageObj != null ? messageObj.toString() : "";
                     api.setStatus(statusCode); 
                     api.setError(message);
-                    System.out.println("Status Code: " + statusCode);
-                    System.out.println("Message: " + message);
+                    logger.debug("Status Code: {}", statusCode);
+                    logger.debug("Message: {}", message);
                 }
             }
         
@@ -744,7 +759,7 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
         try{    //logging
             mobTransLog = new MobTransLogEO();   
             mobTransLog.setModuleName("Showroom - rtvConfirm");
-            Clob clobRequest = new SerialClob(new ObjectMapper().writeValueAsString(content).toCharArray());
+            Clob clobRequest = jsonUtils.toClob(content);
             mobTransLog.setRequest(clobRequest);
             mobTransLog.setProcessedTime(new java.sql.Date(new Date().getTime()));
             mobTransLogSO.saveMobTransLog(mobTransLog); 
@@ -761,12 +776,12 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
             try {
                 // Proper JSON serialization
                 P_INPUT = mapper.writeValueAsString(content.get("P_INPUT"));
-                System.out.println("P_INPUT ===> " + P_INPUT);
+                logger.debug("P_INPUT ===> {}", P_INPUT);
             } catch (Exception e) {
-                System.err.println("Failed to convert P_INPUT to JSON: " + e.getMessage());
+                logger.error("Failed to convert P_INPUT to JSON", e);
             }
         } else {
-            System.out.println("P_INPUT is null");
+            logger.debug("P_INPUT is null");
         }
         
         Map<String, Object> ls=showroompkg.RTV_CONFIRM(P_INPUT);
@@ -792,8 +807,8 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
                     String message = messageObj != null ? messageObj.toString() : "";
                     api.setStatus(statusCode); 
                     api.setError(message);
-                    System.out.println("Status Code: " + statusCode);
-                    System.out.println("Message: " + message);
+                    logger.debug("Status Code: {}", statusCode);
+                    logger.debug("Message: {}", message);
                 }
             }
         
@@ -809,7 +824,7 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
         try{    //logging
             mobTransLog = new MobTransLogEO();   
             mobTransLog.setModuleName("Showroom - poConfirm");
-            Clob clobRequest = new SerialClob(new ObjectMapper().writeValueAsString(content).toCharArray());
+            Clob clobRequest = jsonUtils.toClob(content);
             mobTransLog.setRequest(clobRequest);
             mobTransLog.setProcessedTime(new java.sql.Date(new Date().getTime()));
             mobTransLogSO.saveMobTransLog(mobTransLog); 
@@ -826,12 +841,12 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
             try {
                 // Proper JSON serialization
                 P_INPUT = mapper.writeValueAsString(content.get("P_INPUT"));
-                System.out.println("P_INPUT ===> " + P_INPUT);
+                logger.debug("P_INPUT ===> {}", P_INPUT);
             } catch (Exception e) {
-                System.err.println("Failed to convert P_INPUT to JSON: " + e.getMessage());
+                logger.error("Failed to convert P_INPUT to JSON", e);
             }
         } else {
-            System.out.println("P_INPUT is null");
+            logger.debug("P_INPUT is null");
         }
         
         Map<String, Object> ls=showroompkg.PO_CONFIRM(P_INPUT);
@@ -857,8 +872,8 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
                     String message = messageObj != null ? messageObj.toString() : "";
                     api.setStatus(statusCode); 
                     api.setError(message);
-                    System.out.println("Status Code: " + statusCode);
-                    System.out.println("Message: " + message);
+                    logger.debug("Status Code: {}", statusCode);
+                    logger.debug("Message: {}", message);
                 }
             }
         
@@ -874,7 +889,7 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
         try{    //logging
             mobTransLog = new MobTransLogEO();   
             mobTransLog.setModuleName("Showroom - ioConfirm");
-            Clob clobRequest = new SerialClob(new ObjectMapper().writeValueAsString(content).toCharArray());
+            Clob clobRequest = jsonUtils.toClob(content);
             mobTransLog.setRequest(clobRequest);
             mobTransLog.setProcessedTime(new java.sql.Date(new Date().getTime()));
             mobTransLogSO.saveMobTransLog(mobTransLog); 
@@ -891,12 +906,12 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
             try {
                 // Proper JSON serialization
                 P_INPUT = mapper.writeValueAsString(content.get("P_INPUT"));
-                System.out.println("P_INPUT ===> " + P_INPUT);
+                logger.debug("P_INPUT ===> {}", P_INPUT);
             } catch (Exception e) {
-                System.err.println("Failed to convert P_INPUT to JSON: " + e.getMessage());
+                logger.error("Failed to convert P_INPUT to JSON", e);
             }
         } else {
-            System.out.println("P_INPUT is null");
+            logger.debug("P_INPUT is null");
         }
         
         Map<String, Object> ls=showroompkg.IO_CONFIRM(P_INPUT);
@@ -922,8 +937,8 @@ public class ShowroomSO extends NamedParameterJdbcDaoSupport{
                     String message = messageObj != null ? messageObj.toString() : "";
                     api.setStatus(statusCode); 
                     api.setError(message);
-                    System.out.println("Status Code: " + statusCode);
-                    System.out.println("Message: " + message);
+                    logger.debug("Status Code: {}", statusCode);
+                    logger.debug("Message: {}", message);
                 }
             }
         
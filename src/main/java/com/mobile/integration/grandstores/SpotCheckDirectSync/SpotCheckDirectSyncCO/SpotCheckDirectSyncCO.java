@@ -3,6 +3,8 @@ package com.mobile.integration.grandstores.SpotCheckDirectSync.SpotCheckDirectSy
 import java.text.ParseException;
 import java.util.Map;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -20,14 +22,34 @@ import com.mobile.integration.grandstores.Utils.ResponseAPI.APIResponse;
     )
 public class SpotCheckDirectSyncCO {
 
+    private static final Logger logger = LoggerFactory.getLogger(SpotCheckDirectSyncCO.class);
+
     @Autowired
     private SpotCheckDirectSyncSO spotCheckDirectSyncSO;
 
     //GET_SPOT_CHECK_DIRECT_SYNC
      @RequestMapping(value = "/spotcheckdirectsync", method = RequestMethod.POST)
         public ResponseEntity<APIResponse> GET_SPOT_CHECK_DIRECT_SYNC(@RequestBody  Map<String, Object> content) throws ParseException{
-            System.out.println("inside spot check direct sync co");
+            logger.debug("inside spot check direct sync co");
             return spotCheckDirectSyncSO.GET_SPOT_CHECK_DIRECT_SYNC(content);
      }
+
+    // Spot-check session - open, add scans, close (submits everything in one flush).
+    // Scans answer with counts only; X_RETURN_FLAG comes per barcode / bin line at close, and
+    // scans are sent grouped by line in first-scan order. A failed close keeps the session open.
+     @RequestMapping(value = "/session/open", method = RequestMethod.POST)
+        public ResponseEntity<APIResponse> OPEN_SPOT_CHECK_SESSION(@RequestBody  Map<String, Object> content) throws ParseException{
+            return spotCheckDirectSyncSO.OPEN_SPOT_CHECK_SESSION(content);
+     }
+
+     @RequestMapping(value = "/session/scan", method = RequestMethod.POST)
+        public ResponseEntity<APIResponse> ADD_SPOT_CHECK_SCANS(@RequestBody  Map<String, Object> content) throws ParseException{
+            return spotCheckDirectSyncSO.ADD_SPOT_CHECK_SCANS(content);
+     }
+
+     @RequestMapping(value = "/session/close", method = RequestMethod.POST)
+        public ResponseEntity<APIResponse> CLOSE_SPOT_CHECK_SESSION(@RequestBody  Map<String, Object> content) throws ParseException{
+            return spotCheckDirectSyncSO.CLOSE_SPOT_CHECK_SESSION(content);
+     }
     
 }
@@ -1,12 +1,22 @@
 package com.mobile.integration.grandstores.SpotCheckDirectSync.SpotCheckDirectSyncSO;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import com.mobile.integration.grandstores.PackageCalling.SpotCheckDirectSyncPkg;
+import com.mobile.integration.grandstores.SpotCheckDirectSync.SpotCheckDirectSyncSO.SpotCheckSessionStore.Line;
+import com.mobile.integration.grandstores.SpotCheckDirectSync.SpotCheckDirectSyncSO.SpotCheckSessionStore.Session;
 import com.mobile.integration.grandstores.Utils.ResponseAPI.APIResponse;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -15,6 +25,8 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcDaoSupport;
 @Service
 public class SpotCheckDirectSyncSO extends NamedParameterJdbcDaoSupport{
 
+    private static final Logger logger = LoggerFactory.getLogger(SpotCheckDirectSyncSO.class);
+
     @Autowired
     private JdbcTemplate jdbcTemplate;
     
@@ -26,17 +38,20 @@ public class SpotCheckDirectSyncSO extends NamedParameterJdbcDaoSupport{
     @Autowired
     private SpotCheckDirectSyncPkg spotCheckDirectSyncPkg;
 
+    @Autowired
+    private SpotCheckSessionStore spotCheckSessionStore;
+
     // GET_SPOT_CHECK_DIRECT_SYNC
     public ResponseEntity<APIResponse> GET_SPOT_CHECK_DIRECT_SYNC(Map<String, Object> content) {
         
-        System.out.println("inside spot check direct sync so");
+        logger.debug("inside spot check direct sync so");
         String P_ORGANIZATION_ID=content.get("P_ORGANIZATION_ID")==null?"":content.get("P_ORGANIZATION_ID").toString();
         String P_BARCODE=content.get("P_BARCODE")==null?"":content.get("P_BARCODE").toString();
         String P_BIN=content.get("P_BIN")==null?"":content.get("P_BIN").toString();
 
-        System.out.println("P_ORGANIZATION_ID: " +P_ORGANIZATION_ID);
-        System.out.println("P_BARCODE: " +P_BARCODE);
-        System.out.println("P_BIN: " +P_BIN);
+        logger.debug("P_ORGANIZATION_ID: {}", P_ORGANIZATION_ID);
+        logger.debug("P_BARCODE: {}", P_BARCODE);
+        logger.debug("P_BIN: {}", P_BIN);
 
         Map<String, Object> ls=spotCheckDirectSyncPkg.getSpotCheckDirectSyncPkg(P_ORGANIZATION_ID, 
                                                                     P_BARCODE, P_BIN);
@@ -44,5 +59,148 @@ public class SpotCheckDirectSyncSO extends NamedParameterJdbcDaoSupport{
             api.setData(ls);
             api.setStatus(HttpStatus.OK.value());    
             return ResponseEntity.ok().body(api); 
-    } 
+    }
+
+    // Spot-check session - scans are held and aggregated here, submitted once at close
+    public ResponseEntity<APIResponse> OPEN_SPOT_CHECK_SESSION(Map<String, Object> content) {
+        String P_ORGANIZATION_ID=content.get("P_ORGANIZATION_ID")==null?"":content.get("P_ORGANIZATION_ID").toString();
+        String owner=currentUser();
+        if (owner == null) {
+            return error(HttpStatus.UNAUTHORIZED, "Spot-check sessions need an authenticated user");
+        }
+        Map<String, Object> ls=new LinkedHashMap<>();
+        ls.put("P_SESSION_ID", spotCheckSessionStore.open(P_ORGANIZATION_ID, owner));
+        APIResponse api=new APIResponse();
+        api.setData(ls);
+        api.setStatus(HttpStatus.OK.value());
+        return ResponseEntity.ok().body(api);
+    }
+
+    // Adds P_SCANS [{ P_BARCODE, P_BIN }] (or a single P_BARCODE / P_BIN) to the session
+    public ResponseEntity<APIResponse> ADD_SPOT_CHECK_SCANS(Map<String, Object> content) {
+        String P_SESSION_ID=content.get("P_SESSION_ID")==null?"":content.get("P_SESSION_ID").toString();
+        Session session=spotCheckSessionStore.get(P_SESSION_ID, currentUser());
+        if (session == null) {
+            return error(HttpStatus.NOT_FOUND, "Spot-check session " + P_SESSION_ID + " is not open");
+        }
+
+        List<Map<?, ?>> scans=new ArrayList<>();
+        if (content.get("P_SCANS") instanceof List) {
+            for (Object scan : (List<?>) content.get("P_SCANS")) {
+                if (scan instanceof Map) {
+                    scans.add((Map<?, ?>) scan);
+                }
+            }
+        } else if (content.get("P_BARCODE") != null) {
+            scans.add(content);
+        }
+
+        int rejected=0;
+        try {
+            for (Map<?, ?> scan : scans) {
+                String P_BARCODE=scan.get("P_BARCODE")==null?"":scan.get("P_BARCODE").toString();
+                String P_BIN=scan.get("P_BIN")==null?"":scan.get("P_BIN").toString();
+                if (!session.add(P_BARCODE, P_BIN)) {
+                    rejected++;
+                }
+            }
+        } catch (IllegalStateException e) {
+            return error(HttpStatus.CONFLICT, e.getMessage());
+        }
+        if (rejected > 0) {
+            logger.warn("Spot-check session {} full, {} scans rejected", P_SESSION_ID, rejected);
+        }
+
+        Map<String, Object> ls=new LinkedHashMap<>();
+        ls.put("P_SESSION_ID", P_SESSION_ID);
+        ls.put("SCANS", session.scanCount());
+        ls.put("LINES", session.lineCount());
+        ls.put("REJECTED", rejected);
+        APIResponse api=new APIResponse();
+        api.setData(ls);
+        api.setStatus(HttpStatus.OK.value());
+        return ResponseEntity.ok().body(api);
+    }
+
+    /*
+     * Submits the session - SPOT_CHECK_DIRECT_SYNC once per scan, all over one connection.
+     * Differences from /spotcheckdirectsync: the X_RETURN_FLAG of a scan is only returned here,
+     * per line, not when the scan is added; and scans are submitted grouped by barcode / bin,
+     * in the order each line was first scanned, not in scan order. The session is dropped only
+     * after the sync returned - when the connection or the call fails it stays open with all
+     * its scans and close can be sent again.
+     */
+    public ResponseEntity<APIResponse> CLOSE_SPOT_CHECK_SESSION(Map<String, Object> content) {
+        String P_SESSION_ID=content.get("P_SESSION_ID")==null?"":content.get("P_SESSION_ID").toString();
+        Session session=spotCheckSessionStore.beginClose(P_SESSION_ID, currentUser());
+        if (session == null) {
+            return error(HttpStatus.NOT_FOUND, "Spot-check session " + P_SESSION_ID + " is not open");
+        }
+
+        List<Line> lines=session.lines();
+        List<String[]> params=new ArrayList<>();
+        int[] scans=new int[lines.size()];
+        for (int i = 0; i < lines.size(); i++) {
+            params.add(new String[] { lines.get(i).getBarcode(), lines.get(i).getBin() });
+            scans[i]=lines.get(i).getScans();
+        }
+        List<Object> synced;
+        boolean submitted=false;
+        try {
+            synced=lines.isEmpty() ? new ArrayList<Object>()
+                : spotCheckDirectSyncPkg.syncSpotCheckLines(session.getOrganizationId(), params, scans);
+            submitted=true;
+        } catch (DataAccessException e) {
+            logger.error("Spot-check session {} submission failed, session kept open", P_SESSION_ID, e);
+            return error(HttpStatus.INTERNAL_SERVER_ERROR, "Spot-check session " + P_SESSION_ID
+                + " was not submitted, its scans are kept - close it again to retry");
+        } finally {
+            if (submitted) {
+                spotCheckSessionStore.close(P_SESSION_ID, session);
+            } else {
+                spotCheckSessionStore.reopen(session);
+            }
+        }
+
+        List<Map<String, Object>> results=new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            Object result=synced.get(i);
+            boolean failed=result instanceof Map && ((Map<?, ?>) result).containsKey("ERROR");
+            Map<String, Object> row=new LinkedHashMap<>();
+            row.put("P_BARCODE", lines.get(i).getBarcode());
+            row.put("P_BIN", lines.get(i).getBin());
+            row.put("SCANS", lines.get(i).getScans());
+            row.put("STATUS", failed ? "ERROR" : "OK");
+            if (failed) {
+                row.put("ERROR", ((Map<?, ?>) result).get("ERROR"));
+                row.put("SYNCED", ((Map<?, ?>) result).get("SYNCED"));
+            } else {
+                row.put("X_RETURN_FLAG", result);
+            }
+            results.add(row);
+        }
+        logger.debug("Spot-check session {} submitted - {} scans in {} lines", P_SESSION_ID, session.scanCount(), lines.size());
+
+        Map<String, Object> ls=new LinkedHashMap<>();
+        ls.put("P_SESSION_ID", P_SESSION_ID);
+        ls.put("SCANS", session.scanCount());
+        ls.put("LINES", results);
+        APIResponse api=new APIResponse();
+        api.setData(ls);
+        api.setStatus(HttpStatus.OK.value());
+        return ResponseEntity.ok().body(api);
+    }
+
+    // Sessions belong to the user who opened them - the JWT subject set by JwtRequestFilter
+    private static String currentUser() {
+        Authentication authentication=SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || !authentication.isAuthenticated() ? null : authentication.getName();
+    }
+
+    private ResponseEntity<APIResponse> error(HttpStatus status, String message) {
+        APIResponse api=new APIResponse();
+        api.setError(message);
+        api.setStatus(status.value());
+        return ResponseEntity.status(status).body(api);
+    }
 }
@@ -0,0 +1,206 @@
+package com.mobile.integration.grandstores.SpotCheckDirectSync.SpotCheckDirectSyncSO;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Open spot-check sessions, held in memory until the auditor closes them.
+ *
+ * Scans are aggregated per barcode / bin as they arrive, so a bay counted item by item
+ * becomes one line per distinct item and locator with its scan count. A session belongs to
+ * the user who opened it - any other user gets null, as for an unknown id. Sessions are node
+ * local; one left idle longer than app.spot-session.idle-ms is dropped by the sweep.
+ *
+ * Closing is two steps so a failed submission loses nothing: beginClose() locks the session
+ * against further scans but keeps it stored, then close() removes it once the sync returned,
+ * or reopen() hands it back to the auditor when the sync failed.
+ */
+@Component
+public class SpotCheckSessionStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpotCheckSessionStore.class);
+
+    @Value("${app.spot-session.idle-ms:14400000}")
+    private long idleMs;
+
+    @Value("${app.spot-session.max-lines:5000}")
+    private int maxLines;
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+    public String open(String organizationId, String owner) {
+        String sessionId = UUID.randomUUID().toString();
+        sessions.put(sessionId, new Session(organizationId, owner));
+        return sessionId;
+    }
+
+    /** The owner's open session; null when unknown or opened by another user. */
+    public Session get(String sessionId, String owner) {
+        Session session = find(sessionId, owner);
+        if (session != null) {
+            session.touch();
+        }
+        return session;
+    }
+
+    /**
+     * Locks the owner's session for submission, it stays stored until close() or reopen().
+     * Null when unknown, another user's, or already being submitted.
+     */
+    public Session beginClose(String sessionId, String owner) {
+        Session session = find(sessionId, owner);
+        if (session == null || !session.beginSubmit()) {
+            return null;
+        }
+        return session;
+    }
+
+    /** The session's lines were submitted - drop it. */
+    public void close(String sessionId, Session session) {
+        sessions.remove(sessionId, session);
+        session.markClosed();
+    }
+
+    /** Submission failed - the session takes scans again and can be closed again. */
+    public void reopen(Session session) {
+        session.endSubmit();
+        session.touch();
+    }
+
+    private Session find(String sessionId, String owner) {
+        Session session = sessionId == null ? null : sessions.get(sessionId);
+        if (session == null || owner == null || !owner.equals(session.owner)) {
+            return null;
+        }
+        return session;
+    }
+
+    @Scheduled(fixedDelayString = "${app.spot-session.sweep-ms:300000}")
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<String, Session>> it = sessions.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Session> entry = it.next();
+            if (now - entry.getValue().lastTouched > idleMs && !entry.getValue().isSubmitting()) {
+                it.remove();
+                logger.warn("Spot-check session {} dropped after {} ms idle with {} lines unsubmitted",
+                        entry.getKey(), idleMs, entry.getValue().lineCount());
+            }
+        }
+    }
+
+    public class Session {
+
+        private final String organizationId;
+        private final String owner;
+        // barcode|bin -> line, in first-scan order
+        private final Map<String, Line> lines = new LinkedHashMap<>();
+        private int scans;
+        private boolean submitting;
+        private boolean closed;
+        private volatile long lastTouched = System.currentTimeMillis();
+
+        Session(String organizationId, String owner) {
+            this.organizationId = organizationId;
+            this.owner = owner;
+        }
+
+        public String getOrganizationId() {
+            return organizationId;
+        }
+
+        /** Adds one scan; false when the session already holds app.spot-session.max-lines distinct lines. */
+        public synchronized boolean add(String barcode, String bin) {
+            if (closed) {
+                // Scan raced with close - the session was already taken for submission
+                throw new IllegalStateException("Spot-check session is closed");
+            }
+            if (submitting) {
+                throw new IllegalStateException("Spot-check session is being submitted");
+            }
+            String key = barcode + "|" + bin;
+            Line line = lines.get(key);
+            if (line == null) {
+                if (lines.size() >= maxLines) {
+                    return false;
+                }
+                line = new Line(barcode, bin);
+                lines.put(key, line);
+            }
+            line.scans++;
+            scans++;
+            return true;
+        }
+
+        public synchronized int scanCount() {
+            return scans;
+        }
+
+        public synchronized int lineCount() {
+            return lines.size();
+        }
+
+        public synchronized List<Line> lines() {
+            return new ArrayList<>(lines.values());
+        }
+
+        void touch() {
+            lastTouched = System.currentTimeMillis();
+        }
+
+        synchronized boolean beginSubmit() {
+            if (submitting || closed) {
+                return false;
+            }
+            submitting = true;
+            return true;
+        }
+
+        synchronized void endSubmit() {
+            submitting = false;
+        }
+
+        synchronized boolean isSubmitting() {
+            return submitting;
+        }
+
+        synchronized void markClosed() {
+            submitting = false;
+            closed = true;
+        }
+    }
+
+    public static class Line {
+
+        private final String barcode;
+        private final String bin;
+        private int scans;
+
+        Line(String barcode, String bin) {
+            this.barcode = barcode;
+            this.bin = bin;
+        }
+
+        public String getBarcode() {
+            return barcode;
+        }
+        public String getBin() {
+            return bin;
+        }
+        public int getScans() {
+            return scans;
+        }
+    }
+
+}
@@ -8,6 +8,8 @@ import com.mobile.integration.grandstores.PODelivery.PODelService.PODeliverySO;
 import com.mobile.integration.grandstores.StockUpdate.StockUpdateSO.StockUpdateSO;
 import com.mobile.integration.grandstores.Utils.ResponseAPI.APIResponse;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -26,6 +28,8 @@ import io.swagger.annotations.Api;
     produces = "application/json"
     )
 public class StockUpdateCO {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockUpdateCO.class);
     
     @Autowired
     private StockUpdateSO stockUpdateso;
@@ -34,7 +38,7 @@ public class StockUpdateCO {
      //GET_BIN_STOCK_UPDATE
      @RequestMapping(value = "/binstockupdate", method = RequestMethod.POST)
         public ResponseEntity<APIResponse> GET_BIN_STOCK_UPDATE(@RequestBody  Map<String, Object> content) throws ParseException{
-            System.out.println("inside bin stock");
+            logger.debug("inside bin stock");
             return stockUpdateso.GET_BIN_STOCK_UPDATE(content);
      }
 
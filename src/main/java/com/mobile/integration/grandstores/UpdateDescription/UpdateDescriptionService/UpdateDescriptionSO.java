@@ -1,5 +1,7 @@
 package com.mobile.integration.grandstores.UpdateDescription.UpdateDescriptionService;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -22,6 +24,8 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcDaoSupport;
 
 @Service
 public class UpdateDescriptionSO  extends NamedParameterJdbcDaoSupport{
+
+    private static final Logger logger = LoggerFactory.getLogger(UpdateDescriptionSO.class);
     
     @Autowired
     private UpdateDescriptionPkg updateDescriptionpkg;
@@ -108,31 +112,31 @@ public ResponseEntity<APIResponse> insertItemConfig(Iterable<ItemConfigEO> bodyd
         Iterator<ItemConfigEO> iterator1 = bodydtl.iterator();
         while (iterator1.hasNext()) {
             ItemConfigEO current = iterator1.next();
-            System.out.println("current.getOrganizationId.toString(): "+current.getOrganizationId().toString());
+            logger.debug("current.getOrganizationId.toString(): {}", current.getOrganizationId().toString());
             
                 comb = current.getOrganizationId().toString() + 
                     "-" +current.getItemId().toString() + 
                     "-" +current.getCrossReference().toString();
-                System.out.println("inside the iterator: "+comb);
+                logger.debug("inside the iterator: {}", comb);
                 if(myList.contains(comb)){
                     iterator1.remove();
-                    System.out.println("removed");
+                    logger.debug("removed");
                 }
                 else{
-                    System.out.println("else part");
+                    logger.debug("else part");
                     int countD = recordCrossRef(current.getOrganizationId().toString(), 
                                             current.getItemId().toString(), current.getCrossReference().toString());
-                    System.out.println("countD: "+countD);
+                    logger.debug("countD: {}", countD);
                     if(countD == 0){
-                        System.out.println("inside the countD = 0");
+                        logger.debug("inside the countD = 0");
                         listFromIterator.add(current);
                         myList.add(comb);
                     }
                 }
                 
         }               
-        System.out.println("myL size: " +myList.size());
-        System.out.println("listFromIterator: " +listFromIterator.size());
+        logger.debug("myL size: {}", myList.size());
+        logger.debug("listFromIterator: {}", listFromIterator.size());
         Iterable<ItemConfigEO> ls=itemConfigRO.saveAll(listFromIterator);
         
     //Iterable<ItemConfigEO> ls=itemConfigRO.saveAll(bodydtl);
@@ -143,7 +147,7 @@ public ResponseEntity<APIResponse> insertItemConfig(Iterable<ItemConfigEO> bodyd
 }
 
 private int recordCrossRef(String orgId, String itemId, String crossref) {
-    System.out.println("inside recordCrossRef service");
+    logger.debug("inside recordCrossRef service");
     int c = itemConfigRO.recordCountCrossRef(orgId, itemId, crossref);
     return c;
 }
@@ -0,0 +1,105 @@
+package com.mobile.integration.grandstores.User.Services;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Write-behind for XXGS_WMS_USER.LAST_LOGON_DATE.
+ *
+ * Logins only record the timestamp in memory; repeated logins of the same user are
+ * coalesced to the latest one and flushed periodically with a single batched update.
+ * User ids are parsed when recorded; one that is not a number is logged and dropped
+ * there, so it can never fail (and requeue) the whole batch.
+ */
+@Component
+public class LastLogonWriteBehind {
+
+    private static final Logger logger = LoggerFactory.getLogger(LastLogonWriteBehind.class);
+
+    private static final String UPDATE_SQL =
+        "UPDATE XXGS_WMS_USER SET LAST_LOGON_DATE = ? WHERE USER_ID = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ConcurrentMap<BigDecimal, Long> pending = new ConcurrentHashMap<>();
+
+    public void record(String userId) {
+        if (userId == null || userId.isEmpty()) {
+            return;
+        }
+        BigDecimal id;
+        try {
+            id = new BigDecimal(userId.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Last logon not recorded - user id '{}' is not a number", userId);
+            return;
+        }
+        pending.put(id, System.currentTimeMillis());
+    }
+
+    public int getBacklog() {
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${app.user.last-logon-flush-ms:30000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        // Take a snapshot and remove only the entries we write, a newer login stays queued
+        final List<Map.Entry<BigDecimal, Long>> batch = new ArrayList<>();
+        for (Map.Entry<BigDecimal, Long> e : pending.entrySet()) {
+            if (pending.remove(e.getKey(), e.getValue())) {
+                batch.add(e);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    Map.Entry<BigDecimal, Long> e = batch.get(i);
+                    ps.setTimestamp(1, new Timestamp(e.getValue()));
+                    ps.setBigDecimal(2, e.getKey());
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return batch.size();
+                }
+            });
+            logger.debug("Flushed last logon date for {} users", batch.size());
+        } catch (Exception e) {
+            logger.error("Last logon flush failed, requeueing {} users: {}", batch.size(), e.getMessage());
+            for (Map.Entry<BigDecimal, Long> entry : batch) {
+                pending.putIfAbsent(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+}
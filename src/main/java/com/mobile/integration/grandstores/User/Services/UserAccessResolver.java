@@ -0,0 +1,172 @@
+package com.mobile.integration.grandstores.User.Services;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import com.mobile.integration.grandstores.POJO.UserAccessSnapshot;
+import com.mobile.integration.grandstores.Utils.Cache.RefreshAheadCache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcDaoSupport;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serves user org / responsibility access from memory.
+ *
+ * Per user data (XXGS_WMS_USER_ORG_ACCESS_V, XXGS_WMS_USER_RESP_ACCESS_V,
+ * XXGS_WMS_ALL_USER_RESP_V) is loaded together as one UserAccessSnapshot. Shared lists
+ * (responsibilities, inventory orgs, user lists) are cached once for all users.
+ * Entries are refreshed in the background, so after the first hit menu navigation
+ * does not touch the database.
+ *
+ * Only the authenticated user's own snapshot is cached (the JWT subject is the user id),
+ * plus the one prefetched at login, at most app.access.max-users of them. Looking up any
+ * other user id, as the user admin screens do, loads it from the views uncached. Rows are
+ * copied into read-only maps before they are cached.
+ */
+@Component
+public class UserAccessResolver extends NamedParameterJdbcDaoSupport {
+
+    @Autowired
+    @Qualifier("taskExecutor")
+    private Executor taskExecutor;
+
+    @Value("${app.access.refresh-after-ms:300000}")
+    private long refreshAfterMs;
+
+    @Value("${app.access.expire-after-ms:3600000}")
+    private long expireAfterMs;
+
+    @Value("${app.access.max-users:2000}")
+    private int maxUsers;
+
+    private RefreshAheadCache<String, UserAccessSnapshot> userAccess;
+    private RefreshAheadCache<String, List<Map<String, Object>>> sharedLists;
+
+    @Autowired
+    public void setDataSource(JdbcTemplate jdbcTemplate) {
+        // The shared template itself, so bootstrap query timeouts reach these statements
+        super.setJdbcTemplate(jdbcTemplate);
+    }
+
+    @Override
+    protected void initDao() {
+        userAccess = new RefreshAheadCache<>("userAccess", refreshAfterMs, expireAfterMs, maxUsers, taskExecutor,
+            new Function<String, UserAccessSnapshot>() {
+                @Override
+                public UserAccessSnapshot apply(String userId) {
+                    return loadSnapshot(userId);
+                }
+            });
+        sharedLists = new RefreshAheadCache<>("accessLists", refreshAfterMs, expireAfterMs, taskExecutor,
+            new Function<String, List<Map<String, Object>>>() {
+                @Override
+                public List<Map<String, Object>> apply(String query) {
+                    return UserAccessSnapshot.readOnlyRows(
+                        getNamedParameterJdbcTemplate().queryForList(query, new HashMap<String, Object>()));
+                }
+            });
+    }
+
+    /** Access of userId, checked against the user authenticated on the calling thread. */
+    public UserAccessSnapshot getSnapshot(String userId) {
+        return getSnapshot(userId, currentUser());
+    }
+
+    /**
+     * Access of userId - from the cache when it is principal's own, loaded uncached for any
+     * other id. Throws IllegalArgumentException for a null or blank id.
+     */
+    public UserAccessSnapshot getSnapshot(String userId, String principal) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User id is required");
+        }
+        if (userId.equals(principal)) {
+            return userAccess.get(userId);
+        }
+        return loadSnapshot(userId);
+    }
+
+    /** User id of the request's JWT (its subject), or null when not authenticated. */
+    public static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || !authentication.isAuthenticated() ? null : authentication.getName();
+    }
+
+    // Warm the snapshot right after login, before the first menu request - the id is the
+    // user EBS has just authenticated
+    public void prefetch(String userId) {
+        if (userId != null && !userId.isEmpty()) {
+            userAccess.prefetch(userId);
+        }
+    }
+
+    public List<Map<String, Object>> getOrgAccessUsers() {
+        return sharedLists.get("SELECT distinct USER_ID, USER_NAME,FULL_NAME FROM XXGS_WMS_USER_ORG_ACCESS_V");
+    }
+
+    public List<Map<String, Object>> getActiveRespUsers() {
+        return sharedLists.get("SELECT distinct USER_ID, USER_NAME FROM XXGS_WMS_ALL_USER_RESP_V");
+    }
+
+    public List<Map<String, Object>> getInvOrgs() {
+        return sharedLists.get("SELECT * FROM XXGS_INV_ORGANIZATIONS_V");
+    }
+
+    // Same result as UPPER(RESPONSIBILITY_NAME) LIKE '%'||UPPER(:p)||'%' OR :p IS NULL
+    public List<Map<String, Object>> getResponsibilities(String nameFilter) {
+        List<Map<String, Object>> all = sharedLists.get("SELECT * FROM XXGS_WMS_RESPONSIBILITY_V");
+        if (nameFilter == null || nameFilter.isEmpty()) {
+            return all;
+        }
+        String needle = nameFilter.toUpperCase();
+        List<Map<String, Object>> matches = new ArrayList<>();
+        for (Map<String, Object> row : all) {
+            Object name = row.get("RESPONSIBILITY_NAME");
+            if (name != null && name.toString().toUpperCase().contains(needle)) {
+                matches.add(row);
+            }
+        }
+        return matches;
+    }
+
+    // Access was changed through the user screens - drop cached data
+    public void invalidateAll() {
+        userAccess.invalidateAll();
+        sharedLists.invalidateAll();
+    }
+
+    // Startup warm-up - load the shared lists before the first menu request
+    public void preload() {
+        getOrgAccessUsers();
+        getActiveRespUsers();
+        getInvOrgs();
+        getResponsibilities(null);
+    }
+
+    public boolean isWarm() {
+        return sharedLists.size() > 0;
+    }
+
+    private UserAccessSnapshot loadSnapshot(String userId) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("pUSER_ID", userId);
+        List<Map<String, Object>> orgAccess = getNamedParameterJdbcTemplate().queryForList(
+            "SELECT * FROM XXGS_WMS_USER_ORG_ACCESS_V where USER_ID = :pUSER_ID", params);
+        List<Map<String, Object>> respAccess = getNamedParameterJdbcTemplate().queryForList(
+            "SELECT * FROM XXGS_WMS_USER_RESP_ACCESS_V WHERE USER_ID = :pUSER_ID", params);
+        List<Map<String, Object>> allResp = getNamedParameterJdbcTemplate().queryForList(
+            "SELECT * FROM XXGS_WMS_ALL_USER_RESP_V WHERE USER_ID = :pUSER_ID", params);
+        return new UserAccessSnapshot(userId, orgAccess, respAccess, allResp);
+    }
+
+}
@@ -1,7 +1,12 @@
 package com.mobile.integration.grandstores.User.Services;
 
+import com.mobile.integration.grandstores.GSBinLocation.GSService.GSLocationSO;
+import com.mobile.integration.grandstores.Utils.ConditionalGet.VersionedResponseCache;
+import com.mobile.integration.grandstores.Utils.Projection.FieldProjection;
 import com.mobile.integration.grandstores.Utils.ResponseAPI.APIResponse;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 // import java.util.Map;
 import java.util.List;
@@ -22,9 +27,17 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcDaoSupport;
 @Service
 public class UserOrgGroupSO  extends NamedParameterJdbcDaoSupport{
 
+    private static final Logger logger = LoggerFactory.getLogger(UserOrgGroupSO.class);
+
     @Autowired
     private UserOrgGroupRO userOrgGroupro;
 
+    @Autowired
+    private UserAccessResolver userAccessResolver;
+
+    @Autowired
+    private VersionedResponseCache versionedResponseCache;
+
     @Autowired
     private JdbcTemplate jdbcTemplate;
     
@@ -42,6 +55,8 @@ public class UserOrgGroupSO  extends NamedParameterJdbcDaoSupport{
         // }
         //------------------
         Iterable<UserOrgGroupEO> ls=userOrgGroupro.saveAll(bodydtl);
+        userAccessResolver.invalidateAll();
+        versionedResponseCache.invalidate(GSLocationSO.ORG_ACCESS_KEY);
         APIResponse api=new APIResponse();
         api.setData(ls);
         api.setStatus(HttpStatus.OK.value());    
@@ -60,14 +75,10 @@ public class UserOrgGroupSO  extends NamedParameterJdbcDaoSupport{
   public ResponseEntity<APIResponse> getUserOrgAccess() {
         List<Map<String, Object>> items = null;
         Map<String, Object> params = new HashMap();
-        String query=
-        "SELECT distinct USER_ID, USER_NAME,FULL_NAME FROM XXGS_WMS_USER_ORG_ACCESS_V"; 
             try {
-                // params.put("pUSER_ID", p_USER_ID);
-                // System.out.println("==>"+query);
-                items = getNamedParameterJdbcTemplate().queryForList(query, params);
+                items = userAccessResolver.getOrgAccessUsers();
             } catch (Exception exp) {
-                System.out.println(exp.toString());            
+                logger.error("getUserOrgAccess failed", exp);
             }
             APIResponse api=new APIResponse();
             api.setData(items);
@@ -83,15 +94,17 @@ public class UserOrgGroupSO  extends NamedParameterJdbcDaoSupport{
         List<Map<String, Object>> items = null;
         Map<String, Object> params = new HashMap();
             
-        String query=
-        "SELECT * FROM XXGS_WMS_USER_ORG_ACCESS_V where USER_ID = :pUSER_ID"; 
-    
+            if (p_USER_ID.trim().isEmpty()) {
+                APIResponse api=new APIResponse();
+                api.setError("USER_ID is required");
+                api.setStatus(HttpStatus.BAD_REQUEST.value());
+                return ResponseEntity.badRequest().body(api);
+            }
+
             try {
-                params.put("pUSER_ID", p_USER_ID);
-                // System.out.println("==>"+query);
-                items = getNamedParameterJdbcTemplate().queryForList(query, params);
+                items = userAccessResolver.getSnapshot(p_USER_ID).getOrgAccess();
             } catch (Exception exp) {
-                System.out.println(exp.toString());            
+                logger.error("getUserOrgAccessById failed", exp);
             }
     
             APIResponse api=new APIResponse();
@@ -109,16 +122,14 @@ public class UserOrgGroupSO  extends NamedParameterJdbcDaoSupport{
     // content.get("p_ORGANIZATION_CODE").toString();
     List<Map<String, Object>> items = null;
     Map<String, Object> params = new HashMap();
+    FieldProjection projection = FieldProjection.fromRequest();
         
-    String query=
-    "SELECT * FROM XXGS_INV_ORGANIZATIONS_V"; 
-
         try {
-            // params.put("pORGANIZATION_CODE", p_ORGANIZATION_CODE);
-            // System.out.println("==>"+query);
-            items = getNamedParameterJdbcTemplate().queryForList(query, params);
+            // Served from the resolver's cache, so fields (if given) trims a copy of the rows
+            return versionedResponseCache.respond("invorgs|" + projection.getFields(),
+                () -> projection.project(userAccessResolver.getInvOrgs()));
         } catch (Exception exp) {
-            System.out.println(exp.toString());            
+            logger.error("getInvOrg failed", exp);
         }
 
         APIResponse api=new APIResponse();
@@ -9,6 +9,8 @@ import com.mobile.integration.grandstores.User.Entity.UserResponsibleGroupEO;
 import com.mobile.integration.grandstores.Utils.Generic.DateUtils;
 import com.mobile.integration.grandstores.Utils.ResponseAPI.APIResponse;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +21,8 @@ import com.mobile.integration.grandstores.User.Repository.UserResponsibleGroupRO
 
 @Service
 public class UserResponsibleGroupSO  extends NamedParameterJdbcDaoSupport {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserResponsibleGroupSO.class);
         
     @Autowired
     private JdbcTemplate jdbcTemplate;
@@ -31,6 +35,9 @@ public class UserResponsibleGroupSO  extends NamedParameterJdbcDaoSupport {
     @Autowired
     private UserResponsibleGroupRO userResponsibleGroupro;
 
+    @Autowired
+    private UserAccessResolver userAccessResolver;
+
     @Autowired
     private DateUtils dateUtils;
 
@@ -43,6 +50,7 @@ public class UserResponsibleGroupSO  extends NamedParameterJdbcDaoSupport {
         // }
         //------------------
         Iterable<UserResponsibleGroupEO> ls=userResponsibleGroupro.saveAll(bodydtl);
+        userAccessResolver.invalidateAll();
         APIResponse api=new APIResponse();
         api.setData(ls);
         api.setStatus(HttpStatus.OK.value());    
@@ -66,15 +74,10 @@ public class UserResponsibleGroupSO  extends NamedParameterJdbcDaoSupport {
         List<Map<String, Object>> items = null;
         Map<String, Object> params = new HashMap();
             
-        String query=
-        "SELECT * FROM XXGS_WMS_RESPONSIBILITY_V WHERE (UPPER (RESPONSIBILITY_NAME) LIKE '%' || UPPER (:pRESPONSIBILITYNAME) || '%' OR :pRESPONSIBILITYNAME IS NULL)";
-
             try {
-                params.put("pRESPONSIBILITYNAME", p_RESPONSIBILITYNAME);
-                // System.out.println("==>"+query);
-                items = getNamedParameterJdbcTemplate().queryForList(query, params);
+                items = userAccessResolver.getResponsibilities(p_RESPONSIBILITYNAME);
             } catch (Exception exp) {
-                System.out.println(exp.toString());            
+                logger.error("getuserreponame failed", exp);
             }
 
             APIResponse api=new APIResponse();
@@ -91,15 +94,17 @@ public class UserResponsibleGroupSO  extends NamedParameterJdbcDaoSupport {
     List<Map<String, Object>> items = null;
     Map<String, Object> params = new HashMap();
         
-    String query=
-    "SELECT * FROM XXGS_WMS_USER_RESP_ACCESS_V WHERE USER_ID = :pUSER_ID"; 
+        if (p_USER_ID.trim().isEmpty()) {
+            APIResponse api=new APIResponse();
+            api.setError("USER_ID is required");
+            api.setStatus(HttpStatus.BAD_REQUEST.value());
+            return ResponseEntity.badRequest().body(api);
+        }
 
         try {
-            params.put("pUSER_ID", p_USER_ID);
-            // System.out.println("==>"+query);
-            items = getNamedParameterJdbcTemplate().queryForList(query, params);
+            items = userAccessResolver.getSnapshot(p_USER_ID).getRespAccess();
         } catch (Exception exp) {
-            System.out.println(exp.toString());            
+            logger.error("getuserrepoaccess failed", exp);
         }
 
         APIResponse api=new APIResponse();
@@ -117,15 +122,17 @@ public class UserResponsibleGroupSO  extends NamedParameterJdbcDaoSupport {
     List<Map<String, Object>> items = null;
     Map<String, Object> params = new HashMap();
         
-    String query=
-    "SELECT * FROM XXGS_WMS_ALL_USER_RESP_V WHERE USER_ID = :pUSER_ID"; 
+        if (p_USER_ID.trim().isEmpty()) {
+            APIResponse api=new APIResponse();
+            api.setError("USER_ID is required");
+            api.setStatus(HttpStatus.BAD_REQUEST.value());
+            return ResponseEntity.badRequest().body(api);
+        }
 
         try {
-            params.put("pUSER_ID", p_USER_ID);
-            // System.out.println("==>"+query);
-            items = getNamedParameterJdbcTemplate().queryForList(query, params);
+            items = userAccessResolver.getSnapshot(p_USER_ID).getAllResp();
         } catch (Exception exp) {
-            System.out.println(exp.toString());            
+            logger.error("getuserrep failed", exp);
         }
 
         APIResponse api=new APIResponse();
@@ -142,14 +149,10 @@ public class UserResponsibleGroupSO  extends NamedParameterJdbcDaoSupport {
     // content.get("USER_ID").toString();
     List<Map<String, Object>> items = null;
     Map<String, Object> params = new HashMap();
-    String query=
-    "SELECT * FROM XXGS_INV_ORGANIZATIONS_V"; 
         try {
-            // params.put("pUSER_ID", p_USER_ID);
-            // System.out.println("==>"+query);
-            items = getNamedParameterJdbcTemplate().queryForList(query, params);
+            items = userAccessResolver.getInvOrgs();
         } catch (Exception exp) {
-            System.out.println(exp.toString());            
+            logger.error("getorg failed", exp);
         }
         APIResponse api=new APIResponse();
         api.setData(items);
@@ -167,15 +170,10 @@ public class UserResponsibleGroupSO  extends NamedParameterJdbcDaoSupport {
     List<Map<String, Object>> items = null;
     Map<String, Object> params = new HashMap();
         
-    String query=
-    "SELECT distinct USER_ID, USER_NAME FROM XXGS_WMS_ALL_USER_RESP_V"; 
-
         try {
-            // params.put("pUSER_ID", p_USER_ID);
-            // System.out.println("==>"+query);
-            items = getNamedParameterJdbcTemplate().queryForList(query, params);
+            items = userAccessResolver.getActiveRespUsers();
         } catch (Exception exp) {
-            System.out.println(exp.toString());            
+            logger.error("getuserrepactive failed", exp);
         }
 
         APIResponse api=new APIResponse();
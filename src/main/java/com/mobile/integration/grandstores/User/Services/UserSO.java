@@ -53,10 +53,9 @@ public class UserSO {
 
     public String updateUserLogin(String userId){
         Optional<UserEO> ls=userro.findById(new BigDecimal(userId));   
-        // 
-        UserEO isls=ls.get();
         // System.out.println("==>"+ls.isPresent());
         if(ls.isPresent()){
+            UserEO isls=ls.get();
             isls.setLastLogonDate(new Date(System.currentTimeMillis()));
             userro.save(isls);
             // System.out.println("==>inserted==>");
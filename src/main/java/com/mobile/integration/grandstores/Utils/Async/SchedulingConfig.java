@@ -0,0 +1,10 @@
+package com.mobile.integration.grandstores.Utils.Async;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
@@ -0,0 +1,149 @@
+package com.mobile.integration.grandstores.Utils.Cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Small in-memory cache for reference data read from EBS views.
+ *
+ * The first read of a key loads it on the caller thread. Once an entry is older than
+ * refreshAfterMs it is still served, and a reload is started on the executor. Entries
+ * older than expireAfterMs (refresh kept failing) are loaded again on the caller thread.
+ * With maxEntries set, adding a key to a full cache first evicts the least recently loaded one.
+ */
+public class RefreshAheadCache<K, V> {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshAheadCache.class);
+
+    private final String name;
+    private final long refreshAfterMs;
+    private final long expireAfterMs;
+    private final Executor executor;
+    private final Function<K, V> loader;
+    private final int maxEntries;
+
+    private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    public RefreshAheadCache(String name, long refreshAfterMs, long expireAfterMs,
+            Executor executor, Function<K, V> loader) {
+        this(name, refreshAfterMs, expireAfterMs, Integer.MAX_VALUE, executor, loader);
+    }
+
+    public RefreshAheadCache(String name, long refreshAfterMs, long expireAfterMs, int maxEntries,
+            Executor executor, Function<K, V> loader) {
+        this.name = name;
+        this.refreshAfterMs = refreshAfterMs;
+        this.expireAfterMs = Math.max(refreshAfterMs, expireAfterMs);
+        this.maxEntries = Math.max(1, maxEntries);
+        this.executor = executor;
+        this.loader = loader;
+    }
+
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        long now = System.currentTimeMillis();
+        if (entry == null || now - entry.loadedAt > expireAfterMs) {
+            V value = loader.apply(key);
+            if (entry == null && entries.size() >= maxEntries) {
+                evictOldest();
+            }
+            entries.put(key, new Entry<V>(value, System.currentTimeMillis()));
+            return value;
+        }
+        if (now - entry.loadedAt > refreshAfterMs) {
+            refreshAsync(key, entry);
+        }
+        return entry.value;
+    }
+
+    /** Loads the key in the background if it is not cached yet. */
+    public void prefetch(final K key) {
+        if (entries.containsKey(key)) {
+            return;
+        }
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    get(key);
+                } catch (Exception e) {
+                    logger.warn("{} prefetch of {} failed: {}", name, key, e.getMessage());
+                }
+            }
+        });
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public boolean contains(K key) {
+        return entries.containsKey(key);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // Linear scan - only on a miss into a full cache
+    private void evictOldest() {
+        K oldest = null;
+        long oldestLoadedAt = Long.MAX_VALUE;
+        for (Map.Entry<K, Entry<V>> e : entries.entrySet()) {
+            if (e.getValue().loadedAt < oldestLoadedAt) {
+                oldest = e.getKey();
+                oldestLoadedAt = e.getValue().loadedAt;
+            }
+        }
+        if (oldest != null) {
+            entries.remove(oldest);
+            logger.debug("{} full ({} entries), evicted {}", name, maxEntries, oldest);
+        }
+    }
+
+    private void refreshAsync(final K key, final Entry<V> stale) {
+        if (!stale.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    V value = loader.apply(key);
+                    entries.replace(key, stale, new Entry<V>(value, System.currentTimeMillis()));
+                } catch (Exception e) {
+                    logger.warn("{} refresh of {} failed, serving stale value: {}", name, key, e.getMessage());
+                } finally {
+                    stale.refreshing.set(false);
+                }
+            }
+        });
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        final long loadedAt;
+        final AtomicBoolean refreshing = new AtomicBoolean();
+
+        Entry(V value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.mobile.integration.grandstores.Utils.Cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Coalesces identical concurrent lookups.
+ *
+ * The first caller for a key runs the database call, callers arriving while it is in
+ * flight wait for and share the same result. Nothing is kept after the call completes,
+ * so this is not a cache - a request arriving later runs the call again.
+ * The shared result must be treated as read only by the callers.
+ */
+@Component
+public class SingleFlight {
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Key of a procedure call - procedure name plus the parameters exactly as passed, so only
+     * calls the database would answer alike share a result. Each parameter is length-prefixed
+     * ("|3:101"), null is "|~", so no value can run into its neighbour.
+     */
+    public static String key(String procedure, Object... params) {
+        StringBuilder sb = new StringBuilder(procedure);
+        for (Object param : params) {
+            sb.append('|');
+            if (param == null) {
+                sb.append('~');
+            } else {
+                String value = param.toString();
+                sb.append(value.length()).append(':').append(value);
+            }
+        }
+        return sb.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> call) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            try {
+                return (T) existing.join();
+            } catch (CompletionException e) {
+                throw unwrap(e);
+            }
+        }
+        try {
+            T result = call.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    private static RuntimeException unwrap(CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return e;
+    }
+
+}
@@ -0,0 +1,204 @@
+package com.mobile.integration.grandstores.Utils.ConditionalGet;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import javax.servlet.http.HttpServletRequest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mobile.integration.grandstores.Utils.Cache.SingleFlight;
+import com.mobile.integration.grandstores.Utils.ResponseAPI.APIResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Conditional responses for slowly changing lists (org lists, subinventories, physical
+ * inventory headers).
+ *
+ * Each list is kept with an ETag (MD5 of its JSON) for app.conditional.ttl-ms. A request
+ * whose If-None-Match carries the current ETag gets 304 straight from memory, without
+ * querying Oracle or serializing the list. After the TTL the list is loaded again once
+ * (concurrent callers share the load); if the content did not change the ETag stays the
+ * same, so devices keep getting 304.
+ *
+ * The same list can go out as JSON, CBOR, Smile or columnar depending on Accept, so the
+ * ETag is the content hash plus a hash of the Accept header, and responses carry
+ * Vary: Accept for caches between the handheld and us.
+ */
+@Component
+public class VersionedResponseCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(VersionedResponseCache.class);
+
+    public static final String SYNC_TOKEN_HEADER = "X-Sync-Token";
+
+    private static final Pattern SYNC_TOKEN = Pattern.compile("\\d{14}");
+
+    @Value("${app.conditional.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.conditional.ttl-ms:60000}")
+    private long ttlMs;
+
+    @Value("${app.conditional.max-entries:2000}")
+    private int maxEntries;
+
+    @Value("${app.conditional.sync-skew-seconds:120}")
+    private long syncSkewSeconds;
+
+    @Autowired
+    private SingleFlight singleFlight;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Map<String, Versioned> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Answers the request from the cached list under key, loading it with loader when missing
+     * or older than the TTL. syncToken (may be null) is returned in X-Sync-Token so the client
+     * can ask for rows changed since this load.
+     */
+    public ResponseEntity<APIResponse> respond(String key, Supplier<Object> loader, Supplier<String> syncToken) {
+        if (!enabled) {
+            return ok(loader.get(), null, null);
+        }
+        Versioned current = current(key, loader, syncToken);
+        String etag = representationTag(current.etag);
+        if (etag.equals(ifNoneMatch())) {
+            ResponseEntity.BodyBuilder notModified = ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            if (current.syncToken != null) {
+                notModified.header(SYNC_TOKEN_HEADER, current.syncToken);
+            }
+            return notModified.build();
+        }
+        return ok(current.data, etag, current.syncToken);
+    }
+
+    public ResponseEntity<APIResponse> respond(String key, Supplier<Object> loader) {
+        return respond(key, loader, null);
+    }
+
+    public void invalidate(String keyPrefix) {
+        entries.keySet().removeIf(key -> key.startsWith(keyPrefix));
+    }
+
+    /**
+     * Sync token (YYYYMMDDHH24MISS) compared with LAST_UPDATE_DATE: database time less
+     * app.conditional.sync-skew-seconds, so rows stamped before the token but committed after
+     * the load are sent again by the next delta. Deltas overlap - clients upsert by key.
+     */
+    public String databaseSyncToken() {
+        return jdbcTemplate.queryForObject(
+            "SELECT TO_CHAR(SYSDATE - ? / 86400, 'YYYYMMDDHH24MISS') FROM DUAL", String.class, syncSkewSeconds);
+    }
+
+    /** The client's since token from P_SINCE or ?since=, or null when absent or malformed. */
+    public static String since(Map<String, Object> content) {
+        Object since = content == null ? null : content.get("P_SINCE");
+        if (since == null && RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes) {
+            since = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest().getParameter("since");
+        }
+        return since != null && SYNC_TOKEN.matcher(since.toString()).matches() ? since.toString() : null;
+    }
+
+    /** Response for a delta (since) request - never cached, carries the next sync token. */
+    public static ResponseEntity<APIResponse> delta(Object data, String syncToken) {
+        return ok(data, null, syncToken);
+    }
+
+    private Versioned current(final String key, final Supplier<Object> loader, final Supplier<String> syncToken) {
+        Versioned entry = entries.get(key);
+        if (entry != null && System.currentTimeMillis() - entry.loadedAt <= ttlMs) {
+            return entry;
+        }
+        return singleFlight.execute("versioned|" + key, () -> {
+            // Token first - rows changed while the list loads are picked up by the next delta
+            String token = syncToken == null ? null : syncToken.get();
+            Object data = loader.get();
+            Versioned loaded = new Versioned(data, etag(data), token, System.currentTimeMillis());
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+            entries.put(key, loaded);
+            return loaded;
+        });
+    }
+
+    // Content hash + Accept - each encoding of the list is its own representation
+    private static String representationTag(String contentHash) {
+        String accept = null;
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes) {
+            accept = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest().getHeader(HttpHeaders.ACCEPT);
+        }
+        String representation = accept == null || accept.isEmpty() ? "*/*" : accept.replace(" ", "");
+        return "\"" + contentHash + "-" + DigestUtils.md5DigestAsHex(representation.getBytes(StandardCharsets.UTF_8)).substring(0, 8) + "\"";
+    }
+
+    private String etag(Object data) {
+        try {
+            return DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(data));
+        } catch (Exception e) {
+            logger.warn("Could not hash response for ETag: {}", e.getMessage());
+            return Long.toString(System.nanoTime());
+        }
+    }
+
+    private static ResponseEntity<APIResponse> ok(Object data, String etag, String syncToken) {
+        APIResponse api=new APIResponse();
+        api.setData(data);
+        api.setStatus(HttpStatus.OK.value());
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().header(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        if (etag != null) {
+            builder.eTag(etag);
+        }
+        if (syncToken != null) {
+            builder.header(SYNC_TOKEN_HEADER, syncToken);
+        }
+        return builder.body(api);
+    }
+
+    private static String ifNoneMatch() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes)) {
+            return null;
+        }
+        HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest();
+        String header = request.getHeader("If-None-Match");
+        // Accept weak validators from proxies that rewrote the tag
+        return header != null && header.startsWith("W/") ? header.substring(2) : header;
+    }
+
+    private static class Versioned {
+        final Object data;
+        final String etag;
+        final String syncToken;
+        final long loadedAt;
+
+        Versioned(Object data, String etag, String syncToken, long loadedAt) {
+            this.data = data;
+            this.etag = etag;
+            this.syncToken = syncToken;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+}
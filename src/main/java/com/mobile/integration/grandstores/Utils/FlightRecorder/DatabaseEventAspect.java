@@ -0,0 +1,79 @@
+package com.mobile.integration.grandstores.Utils.FlightRecorder;
+
+import java.util.Collection;
+import java.util.Map;
+
+import com.mobile.integration.grandstores.Utils.RequestTracing.RequestTimings;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Emits ProcedureCallEvent around PackageCalling components and JpaSaveAllEvent
+ * around repository saveAll batches. Only registered when the JVM has jdk.jfr and
+ * app.jfr.enabled is on.
+ */
+@Aspect
+@Component
+@ConditionalOnClass(name = "jdk.jfr.Event")
+@ConditionalOnProperty(name = "app.jfr.enabled", havingValue = "true")
+public class DatabaseEventAspect {
+
+    @Around("execution(public java.util.Map com.mobile.integration.grandstores.PackageCalling..*.*(..))")
+    public Object procedureCall(ProceedingJoinPoint pjp) throws Throwable {
+        ProcedureCallEvent event = new ProcedureCallEvent();
+        boolean enabled = event.isEnabled();
+        if (enabled) {
+            event.begin();
+            event.procedure = pjp.getSignature().getDeclaringType().getSimpleName() + "." + pjp.getSignature().getName();
+            event.correlationId = RequestTimings.currentCorrelationId();
+        }
+        try {
+            Object result = pjp.proceed();
+            if (result instanceof Map) {
+                for (Object value : ((Map<?, ?>) result).values()) {
+                    event.outParams++;
+                    if (value instanceof Collection) {
+                        event.rowCount += ((Collection<?>) value).size();
+                    }
+                }
+            }
+            return result;
+        } catch (Throwable e) {
+            event.failed = true;
+            throw e;
+        } finally {
+            if (enabled) {
+                event.commit();
+            }
+        }
+    }
+
+    @Around("execution(* saveAll(..)) && target(org.springframework.data.repository.CrudRepository)")
+    public Object saveAll(ProceedingJoinPoint pjp) throws Throwable {
+        JpaSaveAllEvent event = new JpaSaveAllEvent();
+        if (!event.isEnabled()) {
+            return pjp.proceed();
+        }
+        event.begin();
+        Class<?>[] interfaces = pjp.getTarget().getClass().getInterfaces();
+        event.repository = interfaces.length > 0 ? interfaces[0].getSimpleName() : pjp.getTarget().getClass().getSimpleName();
+        event.correlationId = RequestTimings.currentCorrelationId();
+        Object[] args = pjp.getArgs();
+        if (args.length > 0 && args[0] instanceof Iterable) {
+            for (Object ignored : (Iterable<?>) args[0]) {
+                event.entityCount++;
+            }
+        }
+        try {
+            return pjp.proceed();
+        } finally {
+            event.commit();
+        }
+    }
+
+}
@@ -0,0 +1,153 @@
+package com.mobile.integration.grandstores.Utils.FlightRecorder;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+
+/**
+ * Always-on, in-memory flight recording (CPU, allocation, lock and our own
+ * database/serialization events). When a request is slower than the threshold the
+ * last few minutes are dumped to a .jfr file, at most once per dump interval.
+ *
+ * Optional - the bean only exists when the JVM has jdk.jfr (OpenJDK 8u272+ / 11+) and
+ * app.jfr.enabled is on; callers get it with @Autowired(required = false).
+ */
+@Component
+@ConditionalOnClass(name = "jdk.jfr.FlightRecorder")
+@ConditionalOnProperty(name = "app.jfr.enabled", havingValue = "true")
+public class FlightRecorderService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlightRecorderService.class);
+
+    @Value("${app.jfr.slow-request-ms:5000}")
+    private long slowRequestMs;
+
+    @Value("${app.jfr.dump-dir:AllLogs_Files/jfr}")
+    private String dumpDir;
+
+    @Value("${app.jfr.dump-interval-ms:300000}")
+    private long dumpIntervalMs;
+
+    @Value("${app.jfr.max-age-minutes:10}")
+    private long maxAgeMinutes;
+
+    @Value("${app.jfr.max-size-mb:64}")
+    private long maxSizeMb;
+
+    @Autowired
+    @Qualifier("taskExecutor")
+    private Executor taskExecutor;
+
+    private static final Pattern SAFE_ID = Pattern.compile("[A-Za-z0-9-]{1,64}");
+
+    private Recording recording;
+    private final AtomicLong lastDump = new AtomicLong();
+
+    @PostConstruct
+    public void start() {
+        try {
+            if (!FlightRecorder.isAvailable()) {
+                logger.info("Flight recorder not available on this JVM, slow-request dumps disabled");
+                return;
+            }
+            Recording r = new Recording(Configuration.getConfiguration("default"));
+            r.setName("grandstores-ring-buffer");
+            r.setToDisk(true);
+            r.setMaxAge(Duration.ofMinutes(maxAgeMinutes));
+            r.setMaxSize(maxSizeMb * 1024 * 1024);
+            r.enable(ProcedureCallEvent.class);
+            r.enable(JpaSaveAllEvent.class);
+            r.enable(JsonConversionEvent.class);
+            r.enable(SlowRequestEvent.class);
+            r.start();
+            recording = r;
+            logger.info("Flight recorder ring buffer started (maxAge={}m, slow request >= {}ms)", maxAgeMinutes, slowRequestMs);
+        } catch (Throwable e) {
+            logger.warn("Could not start flight recorder: {}", e.toString());
+        }
+    }
+
+    public boolean isRecording() {
+        return recording != null;
+    }
+
+    /** Called for every completed request; slow ones are recorded and may trigger a dump. */
+    public void onRequestComplete(String endpoint, String correlationId, int status, long elapsedNanos) {
+        long elapsedMs = elapsedNanos / 1_000_000;
+        if (recording == null || elapsedMs < slowRequestMs) {
+            return;
+        }
+        SlowRequestEvent event = new SlowRequestEvent();
+        event.endpoint = endpoint;
+        event.correlationId = correlationId;
+        event.status = status;
+        event.durationMs = elapsedMs;
+        event.commit();
+
+        long now = System.currentTimeMillis();
+        long last = lastDump.get();
+        if (now - last < dumpIntervalMs || !lastDump.compareAndSet(last, now)) {
+            return;
+        }
+        // The correlation id comes from the handheld - only a plain id may become part of a file name
+        String suffix = correlationId != null && SAFE_ID.matcher(correlationId).matches() ? correlationId : "request";
+        final String name = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date(now)) + "-" + suffix + ".jfr";
+        taskExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                dump(name);
+            }
+        });
+    }
+
+    private void dump(String name) {
+        try {
+            File dir = new File(dumpDir);
+            if (!dir.exists() && !dir.mkdirs()) {
+                logger.warn("Could not create flight recorder dump dir {}", dir.getAbsolutePath());
+                return;
+            }
+            Path base = Paths.get(dumpDir).toAbsolutePath().normalize();
+            Path target = base.resolve(name).normalize();
+            if (!target.getParent().equals(base)) {
+                logger.warn("Flight recording dump {} is outside {}, skipped", name, base);
+                return;
+            }
+            recording.dump(target);
+            logger.warn("Slow request - flight recording dumped to {}", target.toAbsolutePath());
+        } catch (Exception e) {
+            logger.warn("Flight recording dump failed: {}", e.toString());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+}
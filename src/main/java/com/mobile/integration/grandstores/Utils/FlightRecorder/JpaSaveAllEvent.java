@@ -0,0 +1,28 @@
+package com.mobile.integration.grandstores.Utils.FlightRecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("grandstores.JpaSaveAll")
+@Label("JPA saveAll")
+@Category({ "Grandstores", "Database" })
+@Description("Spring Data saveAll batch")
+@Threshold("10 ms")
+@StackTrace(false)
+public class JpaSaveAllEvent extends Event {
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Correlation Id")
+    public String correlationId;
+
+    @Label("Entities")
+    public int entityCount;
+
+}
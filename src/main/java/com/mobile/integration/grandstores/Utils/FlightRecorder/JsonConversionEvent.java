@@ -0,0 +1,31 @@
+package com.mobile.integration.grandstores.Utils.FlightRecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+@Name("grandstores.JsonConversion")
+@Label("JSON Conversion")
+@Category({ "Grandstores", "Serialization" })
+@Description("ObjectMapper / SerialClob payload logging and Map <-> org.json conversions")
+@Threshold("1 ms")
+public class JsonConversionEvent extends Event {
+
+    @Label("Conversion")
+    public String conversion;
+
+    @Label("Correlation Id")
+    public String correlationId;
+
+    @Label("Payload Size")
+    @DataAmount
+    public long payloadChars;
+
+    @Label("Entries")
+    public int entries;
+
+}
@@ -0,0 +1,50 @@
+package com.mobile.integration.grandstores.Utils.FlightRecorder;
+
+import com.mobile.integration.grandstores.Utils.RequestTracing.RequestTimings;
+
+/**
+ * JsonConversionEvent for JsonUtils without a compile-time reference to jdk.jfr in
+ * callers - on a JVM without jdk.jfr begin() returns null and commit() does nothing.
+ */
+public final class JsonConversionRecorder {
+
+    private static final boolean AVAILABLE = jfrPresent();
+
+    private JsonConversionRecorder() {
+    }
+
+    /** The started event, or null when the JVM has no flight recorder. */
+    public static Object begin() {
+        if (!AVAILABLE) {
+            return null;
+        }
+        JsonConversionEvent event = new JsonConversionEvent();
+        event.begin();
+        return event;
+    }
+
+    public static void commit(Object started, String conversion, long payloadChars, int entries) {
+        if (started == null) {
+            return;
+        }
+        JsonConversionEvent event = (JsonConversionEvent) started;
+        event.end();
+        if (event.shouldCommit()) {
+            event.conversion = conversion;
+            event.correlationId = RequestTimings.currentCorrelationId();
+            event.payloadChars = payloadChars;
+            event.entries = entries;
+            event.commit();
+        }
+    }
+
+    private static boolean jfrPresent() {
+        try {
+            Class.forName("jdk.jfr.Event", false, JsonConversionRecorder.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.mobile.integration.grandstores.Utils.FlightRecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("grandstores.ProcedureCall")
+@Label("Procedure Call")
+@Category({ "Grandstores", "Database" })
+@Description("PL/SQL procedure call made through a PackageCalling component")
+@Threshold("10 ms")
+@StackTrace(false)
+public class ProcedureCallEvent extends Event {
+
+    @Label("Procedure")
+    public String procedure;
+
+    @Label("Correlation Id")
+    public String correlationId;
+
+    @Label("Cursor Rows")
+    public int rowCount;
+
+    @Label("Out Parameters")
+    public int outParams;
+
+    @Label("Failed")
+    public boolean failed;
+
+}
@@ -0,0 +1,27 @@
+package com.mobile.integration.grandstores.Utils.FlightRecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("grandstores.SlowRequest")
+@Label("Slow Request")
+@Category({ "Grandstores", "Web" })
+@StackTrace(false)
+public class SlowRequestEvent extends Event {
+
+    @Label("Endpoint")
+    public String endpoint;
+
+    @Label("Correlation Id")
+    public String correlationId;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Duration (ms)")
+    public long durationMs;
+
+}
@@ -0,0 +1,87 @@
+package com.mobile.integration.grandstores.Utils.Health;
+
+import com.mobile.integration.grandstores.Utils.Warmup.WarmupRunner;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * "dependencies" health contributor, part of the readiness group. Only reads the
+ * DependencyProbe snapshot - a probe request costs no database round trip.
+ *
+ * DOWN when Oracle is unreachable or the probe has stopped running, OUT_OF_SERVICE
+ * while the startup warm-up runs, when packages are invalid, connections are slow or
+ * the local queues are backed up.
+ */
+@Component("dependencies")
+public class DependencyHealthIndicator implements HealthIndicator {
+
+    @Autowired
+    private DependencyProbe dependencyProbe;
+
+    @Autowired
+    private WarmupRunner warmupRunner;
+
+    @Value("${app.health.probe-interval-ms:15000}")
+    private long probeIntervalMs;
+
+    @Value("${app.health.max-connection-ms:2000}")
+    private long maxConnectionMs;
+
+    @Value("${app.health.max-async-queue:800}")
+    private int maxAsyncQueue;
+
+    @Value("${app.health.max-last-logon-backlog:10000}")
+    private int maxLastLogonBacklog;
+
+    @Override
+    public Health health() {
+        if (!warmupRunner.isComplete()) {
+            return Health.outOfService().withDetail("reason", "warming up").build();
+        }
+        DependencySnapshot s = dependencyProbe.getSnapshot();
+        if (s == null) {
+            return Health.outOfService().withDetail("reason", "not probed yet").build();
+        }
+        long age = System.currentTimeMillis() - s.getProbedAt();
+
+        Health.Builder builder;
+        String reason = null;
+        if (age > probeIntervalMs * 3 + 10000) {
+            builder = Health.down();
+            reason = "probe stale";
+        } else if (!s.isDatabaseUp()) {
+            builder = Health.down();
+            reason = "database unreachable";
+        } else if (!s.isPackagesValid()) {
+            builder = Health.outOfService();
+            reason = "invalid packages";
+        } else if (s.getConnectionMs() > maxConnectionMs) {
+            builder = Health.outOfService();
+            reason = "slow connection acquisition";
+        } else if (s.getAsyncQueue() > maxAsyncQueue || s.getLastLogonBacklog() > maxLastLogonBacklog) {
+            builder = Health.outOfService();
+            reason = "queue backlog";
+        } else {
+            builder = Health.up();
+        }
+        if (reason != null) {
+            builder.withDetail("reason", reason);
+        }
+        if (s.getDatabaseError() != null) {
+            builder.withDetail("databaseError", s.getDatabaseError());
+        }
+        return builder
+                .withDetail("probeAgeMs", age)
+                .withDetail("connectionMs", s.getConnectionMs())
+                .withDetail("packages", s.getPackageStatus())
+                .withDetail("cachesWarm", s.isCachesWarm())
+                .withDetail("asyncQueue", s.getAsyncQueue())
+                .withDetail("lastLogonBacklog", s.getLastLogonBacklog())
+                .build();
+    }
+
+}
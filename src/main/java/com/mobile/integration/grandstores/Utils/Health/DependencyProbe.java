@@ -0,0 +1,135 @@
+package com.mobile.integration.grandstores.Utils.Health;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import javax.sql.DataSource;
+
+import com.mobile.integration.grandstores.User.Services.LastLogonWriteBehind;
+import com.mobile.integration.grandstores.User.Services.UserAccessResolver;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Probes Oracle and the local queues in the background and keeps the last result in
+ * memory, so health / readiness requests from the load balancer never hit the database.
+ *
+ * Covers connection acquisition latency, VALID status of the key PL/SQL packages,
+ * access cache warm state and the async / write-behind backlog.
+ */
+@Component
+public class DependencyProbe {
+
+    private static final Logger logger = LoggerFactory.getLogger(DependencyProbe.class);
+
+    private static final String PACKAGE_STATUS_SQL =
+        "SELECT OBJECT_NAME, OBJECT_TYPE, STATUS FROM ALL_OBJECTS "
+        + "WHERE OWNER = ? AND OBJECT_TYPE IN ('PACKAGE', 'PACKAGE BODY') AND OBJECT_NAME = ?";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UserAccessResolver userAccessResolver;
+
+    @Autowired
+    private LastLogonWriteBehind lastLogonWriteBehind;
+
+    @Autowired
+    @Qualifier("taskExecutor")
+    private Executor taskExecutor;
+
+    @Value("${spring.application.schemaName}")
+    private String schemaName;
+
+    @Value("#{'${app.health.packages:XXGS_MOB_UTIL_PKG,XXGS_SRM_MOB_UTIL_PKG,XXGS_SRM_MOB_POST_UTIL_PKG,XXGS_MOBILE_POST_UTIL_PKG}'.split(',')}")
+    private List<String> packages;
+
+    @Value("${app.health.query-timeout-seconds:5}")
+    private int queryTimeoutSeconds;
+
+    private volatile DependencySnapshot snapshot;
+
+    /** Last probe result, null until the first probe has run. */
+    public DependencySnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    @Scheduled(initialDelayString = "${app.health.probe-initial-delay-ms:0}",
+               fixedDelayString = "${app.health.probe-interval-ms:15000}")
+    public void probe() {
+        boolean databaseUp = false;
+        long connectionMs = -1;
+        String databaseError = null;
+        Map<String, String> packageStatus = new LinkedHashMap<>();
+        for (String name : packages) {
+            packageStatus.put(name.trim(), "UNKNOWN");
+        }
+
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            connectionMs = (System.nanoTime() - start) / 1_000_000;
+            try (Statement ping = connection.createStatement()) {
+                ping.setQueryTimeout(queryTimeoutSeconds);
+                ping.executeQuery("SELECT 1 FROM DUAL").close();
+            }
+            databaseUp = true;
+            checkPackages(connection, packageStatus);
+        } catch (Exception e) {
+            databaseError = e.toString();
+            logger.warn("Dependency probe failed: {}", databaseError);
+        }
+
+        DependencySnapshot next = new DependencySnapshot(System.currentTimeMillis(), databaseUp, connectionMs,
+                databaseError, packageStatus, userAccessResolver.isWarm(), asyncQueueSize(),
+                lastLogonWriteBehind.getBacklog());
+        DependencySnapshot previous = snapshot;
+        snapshot = next;
+        if (previous != null && previous.isPackagesValid() && !next.isPackagesValid()) {
+            logger.error("Key packages not valid: {}", next.getPackageStatus());
+        }
+    }
+
+    private void checkPackages(Connection connection, Map<String, String> packageStatus) throws Exception {
+        try (PreparedStatement ps = connection.prepareStatement(PACKAGE_STATUS_SQL)) {
+            ps.setQueryTimeout(queryTimeoutSeconds);
+            for (Map.Entry<String, String> entry : packageStatus.entrySet()) {
+                ps.setString(1, schemaName.toUpperCase());
+                ps.setString(2, entry.getKey().toUpperCase());
+                int found = 0;
+                String status = "VALID";
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        found++;
+                        if (!"VALID".equals(rs.getString("STATUS"))) {
+                            status = "INVALID";
+                        }
+                    }
+                }
+                // Spec and body are both expected
+                entry.setValue(found < 2 ? "MISSING" : status);
+            }
+        }
+    }
+
+    private int asyncQueueSize() {
+        if (taskExecutor instanceof ThreadPoolTaskExecutor) {
+            return ((ThreadPoolTaskExecutor) taskExecutor).getThreadPoolExecutor().getQueue().size();
+        }
+        return 0;
+    }
+
+}
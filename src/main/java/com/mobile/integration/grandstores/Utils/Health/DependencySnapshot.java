@@ -0,0 +1,75 @@
+package com.mobile.integration.grandstores.Utils.Health;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Result of one background probe run - what the readiness check serves until the
+ * next run.
+ */
+public class DependencySnapshot {
+
+    private final long probedAt;
+    private final boolean databaseUp;
+    private final long connectionMs;
+    private final String databaseError;
+    private final Map<String, String> packageStatus;
+    private final boolean cachesWarm;
+    private final int asyncQueue;
+    private final int lastLogonBacklog;
+
+    public DependencySnapshot(long probedAt, boolean databaseUp, long connectionMs, String databaseError,
+            Map<String, String> packageStatus, boolean cachesWarm, int asyncQueue, int lastLogonBacklog) {
+        this.probedAt = probedAt;
+        this.databaseUp = databaseUp;
+        this.connectionMs = connectionMs;
+        this.databaseError = databaseError;
+        this.packageStatus = Collections.unmodifiableMap(packageStatus);
+        this.cachesWarm = cachesWarm;
+        this.asyncQueue = asyncQueue;
+        this.lastLogonBacklog = lastLogonBacklog;
+    }
+
+    public long getProbedAt() {
+        return probedAt;
+    }
+
+    public boolean isDatabaseUp() {
+        return databaseUp;
+    }
+
+    public long getConnectionMs() {
+        return connectionMs;
+    }
+
+    public String getDatabaseError() {
+        return databaseError;
+    }
+
+    // Package name -> VALID / INVALID / MISSING (spec and body together)
+    public Map<String, String> getPackageStatus() {
+        return packageStatus;
+    }
+
+    public boolean isPackagesValid() {
+        for (String status : packageStatus.values()) {
+            if (!"VALID".equals(status)) {
+                return false;
+            }
+        }
+        return databaseUp;
+    }
+
+    public boolean isCachesWarm() {
+        return cachesWarm;
+    }
+
+    public int getAsyncQueue() {
+        return asyncQueue;
+    }
+
+    public int getLastLogonBacklog() {
+        return lastLogonBacklog;
+    }
+
+}
@@ -1,20 +1,46 @@
 package com.mobile.integration.grandstores.Utils.JsonUtils;
 
+import java.sql.Clob;
+import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+
+import javax.sql.rowset.serial.SerialClob;
+
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mobile.integration.grandstores.Utils.FlightRecorder.JsonConversionRecorder;
+
 import org.springframework.stereotype.Component;
 
 @Component
 public class JsonUtils {
+
+    // ObjectMapper is thread safe once configured - one instance instead of one per payload
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    // Payload as a Clob for the MobTransLog request / response columns
+    public Clob toClob(Object payload) throws JsonProcessingException, SQLException {
+        Object event = JsonConversionRecorder.begin();
+        char[] chars = OBJECT_MAPPER.writeValueAsString(payload).toCharArray();
+        Clob clob = new SerialClob(chars);
+        commit(event, "ObjectMapper->SerialClob", chars.length, 0);
+        return clob;
+    }
+
+    private static void commit(Object event, String conversion, long payloadChars, int entries) {
+        JsonConversionRecorder.commit(event, conversion, payloadChars, entries);
+    }
     
     public Map<String, Object> getJsonArrayChildValue(
                                 Map<String, Object> jsonMap, 
                                 String childElementName){
+        Object event = JsonConversionRecorder.begin();
         Map<String, Object> mapls=new HashMap<>();
         JSONObject jsonObject = new JSONObject(jsonMap);
         JSONArray jsonArray = (JSONArray) jsonObject.get(childElementName);
@@ -29,6 +55,7 @@ public class JsonUtils {
                 mapls.put(key, value);
             }
         }
+        commit(event, "Map->org.json->Map", 0, jsonArray.length());
     return mapls;
     }
 
@@ -38,6 +65,7 @@ public class JsonUtils {
                                 String childElementName, 
                                 String userId,
                                 String userName){
+        Object event = JsonConversionRecorder.begin();
         Map<String, Object> mapls=new HashMap<>();
         JSONObject jsonObject = new JSONObject(jsonMap);
         JSONArray jsonArray = (JSONArray) jsonObject.get(childElementName);
@@ -57,6 +85,7 @@ public class JsonUtils {
         // items.get(0).put("P_TOKEN", "-1"); 
         // items.get(0).put("P_REFRESH_TOKEN", "-1");
 
+        commit(event, "Map->org.json->Map", 0, jsonArray.length());
     return mapls;
     }
 
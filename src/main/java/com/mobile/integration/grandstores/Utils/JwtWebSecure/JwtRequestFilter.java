@@ -1,5 +1,7 @@
 package com.mobile.integration.grandstores.Utils.JwtWebSecure;
 
+import com.mobile.integration.grandstores.Utils.RequestTracing.RequestTimings;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -29,6 +31,7 @@ public class JwtRequestFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws ServletException, IOException {
 
+        long authStart = System.nanoTime();
         final String authorizationHeader = request.getHeader("Authorization");
 
         String username = null;
@@ -45,7 +48,7 @@ public class JwtRequestFilter extends OncePerRequestFilter {
                 username = jwtUtil.extractUsername(jwt);
             } catch (Exception e) {
                 // TODO Auto-generated catch block
-                e.printStackTrace();
+                logger.error(e.toString(), e);
             }
         }
 
@@ -64,9 +67,10 @@ public class JwtRequestFilter extends OncePerRequestFilter {
                 }
             } catch (Exception e) {
                 // TODO Auto-generated catch block
-                e.printStackTrace();
+                logger.error(e.toString(), e);
             }
         }
+        RequestTimings.record("auth", System.nanoTime() - authStart);
         chain.doFilter(request, response);
     }
 
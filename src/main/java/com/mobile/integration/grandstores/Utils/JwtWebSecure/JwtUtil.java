@@ -16,6 +16,9 @@ public class JwtUtil {
 
     private String SECRET_KEY = "4i_Mobile_Apps";
 
+    // Token lifetime - 150 hours
+    public static final long TOKEN_VALIDITY_MS = 1000L * 60 * 60 * 150;
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getIssuer);
     }
@@ -43,6 +46,13 @@ public class JwtUtil {
         claims.put("PersonId", personId);
         return createToken(claims, userDetails.getUsername());
     }
+    // 1 Generate Token - login fast path, no UserDetails round trip
+    public String generateToken(String userId, String userName, String personId) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("userName", userName);
+        claims.put("PersonId", personId);
+        return createToken(claims, userId);
+    }
     // 2 create token
     private String createToken(Map<String, Object> claims, String userid) {
 
@@ -50,7 +60,7 @@ public class JwtUtil {
                 .setClaims(claims)
                 .setIssuer(userid)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 150))
+                .setExpiration(new Date(System.currentTimeMillis() + TOKEN_VALIDITY_MS))
                 .signWith(SignatureAlgorithm.HS256, SECRET_KEY).compact();
     }
 
@@ -1,9 +1,15 @@
 package com.mobile.integration.grandstores.Utils.JwtWebSecure;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 // import com.mobile.integration.grandstores.POJO.UserPoJo;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -13,10 +19,20 @@ import org.springframework.stereotype.Service;
 @Service
 public class MyUserDetailsService implements UserDetailsService {
 
+    public static final String ADMIN_ROLE = "ADMIN";
+
+    // User ids (JWT subject) allowed the actuator write operations; none by default
+    @Value("${app.security.admin-users:}")
+    private String adminUsers;
+
     @Override
     public UserDetails loadUserByUsername(String userid) throws UsernameNotFoundException {
         // UserPoJo user=new UserPoJo();
-        return new User(userid, userid, new ArrayList<>());
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        if (isAdmin(userid)) {
+            authorities.add(new SimpleGrantedAuthority("ROLE_" + ADMIN_ROLE));
+        }
+        return new User(userid, userid, authorities);
         // return new User("foo", "foo", new ArrayList<>());
         // if("1114".equalsIgnoreCase(userid)){
         //     return new User(userid, "4iApps", new ArrayList<>());
@@ -25,4 +41,10 @@ public class MyUserDetailsService implements UserDetailsService {
         // }
 
     }
+
+    private boolean isAdmin(String userid) {
+        List<String> admins = adminUsers == null || adminUsers.trim().isEmpty()
+                ? Collections.<String>emptyList() : Arrays.asList(adminUsers.split("\\s*,\\s*"));
+        return userid != null && admins.contains(userid.trim());
+    }
 }
@@ -1,8 +1,11 @@
 package com.mobile.integration.grandstores.Utils.JwtWebSecure;
 
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -16,6 +19,8 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 
 @EnableWebSecurity
 public class WebSecurityConfig extends WebSecurityConfigurerAdapter{
+
+    private static final Logger logger = LoggerFactory.getLogger(WebSecurityConfig.class);
     
     @Autowired 
     private MyUserDetailsService myUserDetailsService;
@@ -43,10 +48,16 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter{
         
     @Override
 	protected void configure(HttpSecurity httpSecurity) throws Exception{
-        System.out.println("===>1");
+        logger.debug("===>1");
     	httpSecurity.csrf().disable()
 				.authorizeRequests()
                 .antMatchers(getPublicURL()).permitAll()
+                // Resetting allocation tracking - admins only (app.security.admin-users)
+                .antMatchers(HttpMethod.DELETE, "/actuator/allocators", "/actuator/allocators/**")
+                    .hasRole(MyUserDetailsService.ADMIN_ROLE)
+                // Changing log levels at runtime - admins only
+                .antMatchers(HttpMethod.POST, "/actuator/loggers", "/actuator/loggers/**")
+                    .hasRole(MyUserDetailsService.ADMIN_ROLE)
                 .anyRequest().authenticated()
                 .and().exceptionHandling()
                 .and().sessionManagement()
@@ -68,6 +79,9 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter{
             "/module/authentication",
             "/module/authen",
             "/module/getIPDetails",
+            // Load balancer probes - only the groups served from memory
+            "/actuator/health/liveness",
+            "/actuator/health/readiness",
             // "/grandstores/module/pi/docnumber",
             // Swagger
             "/v2/api-docs",
@@ -0,0 +1,150 @@
+package com.mobile.integration.grandstores.Utils.LoadShedding;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gradient based concurrency limiter for the REST layer.
+ *
+ * The limit follows the ratio between the long term (baseline) latency and the
+ * short term latency. When Oracle slows down the short term latency grows, the
+ * gradient drops below 1 and the limit shrinks, so excess requests are shed
+ * instead of queueing on Tomcat threads and pool connections.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+
+    // Request classes - transactional posts keep the whole limit, lookups only a share of it
+    public enum Priority { TRANSACTION, LOOKUP }
+
+    @Value("${app.limiter.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.limiter.initial-limit:40}")
+    private int initialLimit;
+
+    @Value("${app.limiter.min-limit:8}")
+    private int minLimit;
+
+    @Value("${app.limiter.max-limit:200}")
+    private int maxLimit;
+
+    // Share of the limit lookups may use, the remainder is headroom for transactions
+    @Value("${app.limiter.lookup-share:0.8}")
+    private double lookupShare;
+
+    // How much latency growth over the baseline is tolerated before shrinking
+    @Value("${app.limiter.rtt-tolerance:1.5}")
+    private double rttTolerance;
+
+    @Value("${app.limiter.smoothing:0.2}")
+    private double smoothing;
+
+    private static final double SHORT_RTT_FACTOR = 2.0 / (10 + 1);
+    private static final double LONG_RTT_FACTOR = 2.0 / (600 + 1);
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit = -1;
+    private double shortRtt;
+    private double longRtt;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Reserves a slot for the request, or returns null when the request has to be shed.
+     */
+    public Permit tryAcquire(Priority priority) {
+        int current = getLimit();
+        int allowed = priority == Priority.TRANSACTION ? current : Math.max(1, (int) (current * lookupShare));
+        while (true) {
+            int now = inFlight.get();
+            if (now >= allowed) {
+                return null;
+            }
+            if (inFlight.compareAndSet(now, now + 1)) {
+                return new Permit(now + 1);
+            }
+        }
+    }
+
+    public int getLimit() {
+        if (limit < 0) {
+            limit = initialLimit;
+        }
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtStart) {
+        if (limit < 0) {
+            limit = initialLimit;
+        }
+        double rtt = rttNanos;
+        if (longRtt == 0) {
+            shortRtt = rtt;
+            longRtt = rtt;
+            return;
+        }
+        shortRtt = shortRtt + SHORT_RTT_FACTOR * (rtt - shortRtt);
+        longRtt = longRtt + LONG_RTT_FACTOR * (shortRtt - longRtt);
+
+        // Baseline drifted far above the current latency (brownout is over), let it recover quickly
+        if (longRtt / shortRtt > 2) {
+            longRtt = longRtt * 0.95;
+        }
+
+        // Application limited - no evidence the limit can be raised
+        if (inFlightAtStart < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRtt / shortRtt));
+        double queueSize = Math.sqrt(limit);
+        double newLimit = limit * gradient + queueSize;
+        newLimit = limit * (1 - smoothing) + newLimit * smoothing;
+        newLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+
+        if ((int) newLimit != (int) limit) {
+            logger.debug("Concurrency limit {} -> {} (shortRtt={}ms longRtt={}ms)",
+                    (int) limit, (int) newLimit, (long) (shortRtt / 1_000_000), (long) (longRtt / 1_000_000));
+        }
+        limit = newLimit;
+    }
+
+    /**
+     * Slot held by an admitted request. Exactly one of onSuccess / onIgnore must be called.
+     */
+    public class Permit {
+
+        private final long startTime = System.nanoTime();
+        private final int inFlightAtStart;
+
+        private Permit(int inFlightAtStart) {
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        // Completed normally - latency is fed into the limit
+        public void onSuccess() {
+            inFlight.decrementAndGet();
+            onSample(System.nanoTime() - startTime, inFlightAtStart);
+        }
+
+        // Failed fast (bad request, auth error) - latency says nothing about the database
+        public void onIgnore() {
+            inFlight.decrementAndGet();
+        }
+    }
+
+}
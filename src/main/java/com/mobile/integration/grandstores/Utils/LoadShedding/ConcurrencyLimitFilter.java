@@ -0,0 +1,108 @@
+package com.mobile.integration.grandstores.Utils.LoadShedding;
+
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mobile.integration.grandstores.Utils.LoadShedding.AdaptiveConcurrencyLimiter.Permit;
+import com.mobile.integration.grandstores.Utils.LoadShedding.AdaptiveConcurrencyLimiter.Priority;
+import com.mobile.integration.grandstores.Utils.ResponseAPI.APIResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Admits requests through the AdaptiveConcurrencyLimiter ahead of security and the
+ * controllers. Shed requests get 503 with Retry-After before touching JWT parsing or the pool.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    @Autowired
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @Value("${app.limiter.retry-after-seconds:2}")
+    private int retryAfterSeconds;
+
+    // Posting endpoints (insert / update / confirm / sync) that carry the handheld's work
+    @Value("${app.limiter.transaction-pattern:(?i).*(insert|update|confirm|sync|jsonpost|porcptgen).*}")
+    private String transactionPattern;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private volatile Pattern compiledPattern;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return !limiter.isEnabled()
+                || path.contains("/actuator")
+                || path.contains("/swagger")
+                || path.contains("/v2/api-docs")
+                || path.contains("/webjars");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        Permit permit = limiter.tryAcquire(classify(request));
+        if (permit == null) {
+            reject(request, response);
+            return;
+        }
+
+        boolean success = false;
+        try {
+            chain.doFilter(request, response);
+            success = response.getStatus() < 400 || response.getStatus() >= 500;
+        } finally {
+            if (success) {
+                permit.onSuccess();
+            } else {
+                permit.onIgnore();
+            }
+        }
+    }
+
+    private Priority classify(HttpServletRequest request) {
+        if (!"POST".equalsIgnoreCase(request.getMethod()) || request.getHeader("Authorization") == null) {
+            return Priority.LOOKUP;
+        }
+        if (compiledPattern == null) {
+            compiledPattern = Pattern.compile(transactionPattern);
+        }
+        return compiledPattern.matcher(request.getRequestURI()).matches() ? Priority.TRANSACTION : Priority.LOOKUP;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        logger.warn("Shedding {} {} - inFlight={} limit={}",
+                request.getMethod(), request.getRequestURI(), limiter.getInFlight(), limiter.getLimit());
+
+        APIResponse api = new APIResponse();
+        api.setError("Server busy, please retry");
+        api.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), api);
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.mobile.integration.grandstores.Utils.Logging;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * Samples repetitive DEBUG / TRACE statements (the per-line "inside the iterator",
+ * "removed", "else part" messages). Per logger and message template the first
+ * burst events of each window pass, after that only one in sampleRate.
+ * INFO and above are never sampled.
+ */
+public class DebugSamplingTurboFilter extends TurboFilter {
+
+    private static final int MAX_KEYS = 10000;
+
+    private int burst = 20;
+    private int sampleRate = 100;
+    private long windowMs = 60000;
+
+    private final ConcurrentHashMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // isDebugEnabled() checks come through without a format
+        if (format == null || level == null || level.isGreaterOrEqual(Level.INFO)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        String key = logger.getName() + '|' + format;
+        Window window = windows.get(key);
+        if (window == null) {
+            if (windows.size() >= MAX_KEYS) {
+                windows.clear();
+            }
+            window = windows.computeIfAbsent(key, k -> new Window());
+        }
+        long n = window.next(System.currentTimeMillis(), windowMs);
+        if (n <= burst || (n - burst) % sampleRate == 0) {
+            return FilterReply.NEUTRAL;
+        }
+        return FilterReply.DENY;
+    }
+
+    public void setBurst(int burst) {
+        this.burst = burst;
+    }
+
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = Math.max(1, sampleRate);
+    }
+
+    public void setWindowMs(long windowMs) {
+        this.windowMs = windowMs;
+    }
+
+    private static class Window {
+
+        private final AtomicLong count = new AtomicLong();
+        private volatile long start = System.currentTimeMillis();
+
+        long next(long now, long windowMs) {
+            if (now - start > windowMs) {
+                start = now;
+                count.set(0);
+            }
+            return count.incrementAndGet();
+        }
+    }
+
+}
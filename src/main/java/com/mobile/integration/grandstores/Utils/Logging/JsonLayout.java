@@ -0,0 +1,103 @@
+package com.mobile.integration.grandstores.Utils.Logging;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Map;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.CoreConstants;
+import ch.qos.logback.core.LayoutBase;
+
+/**
+ * One JSON object per line - timestamp, level, thread, logger, message, the MDC
+ * request context (correlationId, endpoint ...) and the stack trace if any.
+ */
+public class JsonLayout extends LayoutBase<ILoggingEvent> {
+
+    private static final ThreadLocal<SimpleDateFormat> TIMESTAMP = new ThreadLocal<SimpleDateFormat>() {
+        @Override
+        protected SimpleDateFormat initialValue() {
+            return new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
+        }
+    };
+
+    @Override
+    public String doLayout(ILoggingEvent event) {
+        StringBuilder sb = new StringBuilder(256);
+        sb.append('{');
+        field(sb, "ts", TIMESTAMP.get().format(new Date(event.getTimeStamp())));
+        sb.append(',');
+        field(sb, "level", event.getLevel().toString());
+        sb.append(',');
+        field(sb, "thread", event.getThreadName());
+        sb.append(',');
+        field(sb, "logger", event.getLoggerName());
+        sb.append(',');
+        field(sb, "msg", event.getFormattedMessage());
+
+        Map<String, String> mdc = event.getMDCPropertyMap();
+        if (mdc != null) {
+            for (Map.Entry<String, String> e : mdc.entrySet()) {
+                sb.append(',');
+                field(sb, e.getKey(), e.getValue());
+            }
+        }
+
+        IThrowableProxy throwable = event.getThrowableProxy();
+        if (throwable != null) {
+            sb.append(',');
+            field(sb, "exception", ThrowableProxyUtil.asString(throwable));
+        }
+        sb.append('}').append(CoreConstants.LINE_SEPARATOR);
+        return sb.toString();
+    }
+
+    @Override
+    public String getContentType() {
+        return "application/json";
+    }
+
+    private static void field(StringBuilder sb, String name, String value) {
+        quote(sb, name);
+        sb.append(':');
+        if (value == null) {
+            sb.append("null");
+        } else {
+            quote(sb, value);
+        }
+    }
+
+    private static void quote(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        sb.append('"');
+    }
+
+}
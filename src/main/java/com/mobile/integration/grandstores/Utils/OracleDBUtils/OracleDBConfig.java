@@ -1,11 +1,15 @@
 package com.mobile.integration.grandstores.Utils.OracleDBUtils;
 
 import javax.sql.DataSource;
+
+import com.mobile.integration.grandstores.Utils.Projection.ProjectingJdbcTemplate;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.DriverManagerDataSource;
 
 @Configuration
@@ -24,5 +28,11 @@ public class OracleDBConfig{
             dataSource.setPassword(env.getProperty("spring.datasource.password"));
             return dataSource;
         }
+
+        // Plain JdbcTemplate unless a FieldProjection is streaming (lookup fields on ref cursors)
+        @Bean
+        public JdbcTemplate jdbcTemplate(DataSource dataSource) {
+            return new ProjectingJdbcTemplate(dataSource);
+        }
         
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.mobile.integration.grandstores.Utils.OracleDBUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Builds the SQL for optional-filter searches with only the filters the caller supplied.
+ *
+ * Predicates like col = NVL(:p, col) or (:p IS NULL OR col LIKE :p || '%') give Oracle
+ * one cursor and one plan for every combination, usually a full scan. Here each
+ * combination of supplied filters produces its own SQL text (its shape), so each gets
+ * its own cursor and an index-friendly plan. Filters are always appended in the same
+ * order, so one combination always gives the same text and reuses its cursor.
+ *
+ * A value is "supplied" when it is not null and not empty; Oracle treats '' as NULL,
+ * so this matches the NVL / IS NULL behaviour being replaced.
+ */
+public class ShapedQuery {
+
+    private final String head;
+    private final String tail;
+    private final StringBuilder predicates = new StringBuilder();
+    private final StringBuilder shape = new StringBuilder();
+    private final Map<String, Object> params = new HashMap<>();
+
+    /** head ends with the fixed WHERE conditions, tail is GROUP BY / ORDER BY (may be empty). */
+    public ShapedQuery(String head, String tail) {
+        this.head = head;
+        this.tail = tail;
+    }
+
+    public ShapedQuery(String head) {
+        this(head, "");
+    }
+
+    /** Adds "AND predicate" binding param when value is supplied, nothing otherwise. */
+    public ShapedQuery filter(String predicate, String param, Object value) {
+        return filter(predicate, null, param, value);
+    }
+
+    /**
+     * Adds "AND predicate" when value is supplied, otherwise "AND inactivePredicate"
+     * (e.g. col IS NOT NULL, which is what col = NVL(:p, col) reduces to for a NULL :p).
+     */
+    public ShapedQuery filter(String predicate, String inactivePredicate, String param, Object value) {
+        if (isSupplied(value)) {
+            predicates.append("\nAND ").append(predicate);
+            params.put(param, value);
+            shape.append('1');
+        } else {
+            if (inactivePredicate != null) {
+                predicates.append("\nAND ").append(inactivePredicate);
+            }
+            shape.append('0');
+        }
+        return this;
+    }
+
+    public String getSql() {
+        return head + predicates + (tail.isEmpty() ? "" : "\n" + tail);
+    }
+
+    public Map<String, Object> getParams() {
+        return params;
+    }
+
+    /** Which filters are active, e.g. "101" - for logs and metrics. */
+    public String getShape() {
+        return shape.toString();
+    }
+
+    private static boolean isSupplied(Object value) {
+        return value != null && !value.toString().isEmpty();
+    }
+
+}
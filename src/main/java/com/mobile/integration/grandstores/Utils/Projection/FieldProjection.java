@@ -0,0 +1,151 @@
+package com.mobile.integration.grandstores.Utils.Projection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Columns a lookup caller asked for, from the "fields" request parameter
+ * (?fields=ITEM_ID,ITEM_CODE) or a P_FIELDS entry in the JSON body (list or comma string).
+ *
+ * No fields means all columns, which is what every existing client gets. Names are
+ * upper-cased and must be plain identifiers; anything else is dropped, so the set is
+ * safe to put into a select list once checked against the view (see ViewColumns).
+ */
+public final class FieldProjection {
+
+    public static final FieldProjection ALL = new FieldProjection(Collections.<String>emptySet());
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Z][A-Z0-9_$#]{0,127}");
+
+    // Projection applied to ref cursor / queryForList rows as they are read, see ProjectingJdbcTemplate
+    private static final ThreadLocal<FieldProjection> STREAMING = new ThreadLocal<>();
+
+    private final Set<String> fields;
+
+    private FieldProjection(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    public static FieldProjection from(Map<String, Object> content) {
+        Object requested = content == null ? null : content.get("P_FIELDS");
+        if (requested == null) {
+            requested = requestParameter();
+        }
+        if (requested == null) {
+            return ALL;
+        }
+        Collection<?> names = requested instanceof Collection
+                ? (Collection<?>) requested
+                : Arrays.asList(requested.toString().split(","));
+        Set<String> fields = new LinkedHashSet<>();
+        for (Object name : names) {
+            String field = name == null ? "" : name.toString().trim().toUpperCase(Locale.ROOT);
+            if (IDENTIFIER.matcher(field).matches()) {
+                fields.add(field);
+            }
+        }
+        return fields.isEmpty() ? ALL : new FieldProjection(Collections.unmodifiableSet(fields));
+    }
+
+    /** For endpoints without a request body. */
+    public static FieldProjection fromRequest() {
+        return from(null);
+    }
+
+    public boolean isAll() {
+        return fields.isEmpty();
+    }
+
+    public Set<String> getFields() {
+        return fields;
+    }
+
+    /** Requested columns the view actually has, in request order, or "*". */
+    public String selectList(Collection<String> viewColumns) {
+        if (isAll() || viewColumns == null) {
+            return "*";
+        }
+        StringBuilder select = new StringBuilder();
+        for (String field : fields) {
+            if (viewColumns.contains(field)) {
+                select.append(select.length() == 0 ? "" : ", ").append(field);
+            }
+        }
+        return select.length() == 0 ? "*" : select.toString();
+    }
+
+    public Map<String, Object> projectRow(Map<String, Object> row) {
+        if (isAll()) {
+            return row;
+        }
+        Map<String, Object> projected = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : row.entrySet()) {
+            if (fields.contains(entry.getKey().toUpperCase(Locale.ROOT))) {
+                projected.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return projected;
+    }
+
+    /** Copies of the rows with only the requested columns; the source rows are not touched (they may be cached). */
+    public List<Map<String, Object>> project(List<Map<String, Object>> rows) {
+        if (isAll() || rows == null) {
+            return rows;
+        }
+        List<Map<String, Object>> projected = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            projected.add(projectRow(row));
+        }
+        return projected;
+    }
+
+    /**
+     * Runs a database call with this projection applied to ref cursor and queryForList rows
+     * while they are read, so unrequested columns are never copied into the result maps.
+     * Only for calls whose result goes straight to the response, never into a shared cache.
+     */
+    public <T> T streaming(Supplier<T> call) {
+        if (isAll()) {
+            return call.get();
+        }
+        FieldProjection previous = STREAMING.get();
+        STREAMING.set(this);
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) {
+                STREAMING.remove();
+            } else {
+                STREAMING.set(previous);
+            }
+        }
+    }
+
+    static FieldProjection currentStreaming() {
+        return STREAMING.get();
+    }
+
+    private static Object requestParameter() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes)) {
+            return null;
+        }
+        HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest();
+        return request.getParameter("fields");
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.mobile.integration.grandstores.Utils.Projection;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+
+/**
+ * JdbcTemplate whose column map rows (queryForList, and ref cursor out parameters of
+ * call()) keep only the projected columns inside FieldProjection.streaming(..).
+ * NamedParameterJdbcTemplate.queryForList maps rows itself; pass columnMapRows() to
+ * its query(..) instead.
+ * Inside withQueryTimeout(..) every statement gets that query timeout, for callers
+ * that give up waiting and must not leave the statement running in Oracle.
+ * Outside both it behaves exactly like JdbcTemplate.
+ */
+public class ProjectingJdbcTemplate extends JdbcTemplate {
+
+    // Seconds, for statements issued by the current thread
+    private static final ThreadLocal<Integer> QUERY_TIMEOUT = new ThreadLocal<>();
+
+    public ProjectingJdbcTemplate(DataSource dataSource) {
+        super(dataSource);
+    }
+
+    /** Runs call with the given query timeout (seconds) on every statement it issues through the template. */
+    public static <T> T withQueryTimeout(int seconds, Supplier<T> call) {
+        Integer previous = QUERY_TIMEOUT.get();
+        QUERY_TIMEOUT.set(seconds);
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) {
+                QUERY_TIMEOUT.remove();
+            } else {
+                QUERY_TIMEOUT.set(previous);
+            }
+        }
+    }
+
+    @Override
+    protected void applyStatementSettings(Statement stmt) throws SQLException {
+        super.applyStatementSettings(stmt);
+        Integer seconds = QUERY_TIMEOUT.get();
+        if (seconds != null) {
+            stmt.setQueryTimeout(seconds);
+        }
+    }
+
+    @Override
+    protected RowMapper<Map<String, Object>> getColumnMapRowMapper() {
+        return columnMapRows();
+    }
+
+    /** Column map rows, projected inside FieldProjection.streaming(..). */
+    public static RowMapper<Map<String, Object>> columnMapRows() {
+        FieldProjection projection = FieldProjection.currentStreaming();
+        if (projection == null || projection.isAll()) {
+            return new ColumnMapRowMapper();
+        }
+        return new ProjectingRowMapper(projection.getFields());
+    }
+
+    private static class ProjectingRowMapper extends ColumnMapRowMapper {
+
+        private final Set<String> fields;
+
+        ProjectingRowMapper(Set<String> fields) {
+            this.fields = fields;
+        }
+
+        @Override
+        public Map<String, Object> mapRow(ResultSet rs, int rowNum) throws SQLException {
+            ResultSetMetaData metaData = rs.getMetaData();
+            int columnCount = metaData.getColumnCount();
+            Map<String, Object> row = createColumnMap(Math.min(columnCount, fields.size()));
+            for (int i = 1; i <= columnCount; i++) {
+                String column = getColumnKey(JdbcUtils.lookupColumnName(metaData, i));
+                // Unrequested columns are skipped before getObject, so they are never converted
+                if (fields.contains(column.toUpperCase(Locale.ROOT))) {
+                    row.put(column, getColumnValue(rs, i));
+                }
+            }
+            return row;
+        }
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.mobile.integration.grandstores.Utils.Projection;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Column names of the lookup views, read once from an empty "WHERE 1 = 0" query
+ * (works through synonyms, no dictionary grants needed). Used to check P_FIELDS / fields
+ * before they go into a select list. A failed read is remembered for
+ * app.projection.failure-ttl-ms, so a broken view costs one query per interval, not one
+ * per request.
+ */
+@Component
+public class ViewColumns {
+
+    private static final Logger logger = LoggerFactory.getLogger(ViewColumns.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.projection.failure-ttl-ms:30000}")
+    private long failureTtlMs;
+
+    private final Map<String, Set<String>> columnsByView = new ConcurrentHashMap<>();
+
+    // view -> time of the last failed read
+    private final Map<String, Long> failedAt = new ConcurrentHashMap<>();
+
+    /** Column names of the view, or null when they could not be read (caller falls back to *). */
+    public Set<String> get(String view) {
+        Set<String> columns = columnsByView.get(view);
+        if (columns != null) {
+            return columns;
+        }
+        Long failed = failedAt.get(view);
+        if (failed != null && System.currentTimeMillis() - failed < failureTtlMs) {
+            return null;
+        }
+        try {
+            columns = jdbcTemplate.query("SELECT * FROM " + view + " WHERE 1 = 0", new ResultSetExtractor<Set<String>>() {
+                @Override
+                public Set<String> extractData(ResultSet rs) throws SQLException {
+                    ResultSetMetaData metaData = rs.getMetaData();
+                    Set<String> names = new LinkedHashSet<>();
+                    for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                        names.add(metaData.getColumnName(i).toUpperCase(Locale.ROOT));
+                    }
+                    return Collections.unmodifiableSet(names);
+                }
+            });
+        } catch (Exception e) {
+            logger.warn("Could not read columns of {}: {}", view, e.getMessage());
+            failedAt.put(view, System.currentTimeMillis());
+            return null;
+        }
+        failedAt.remove(view);
+        columnsByView.put(view, columns);
+        return columns;
+    }
+
+    /** Select list for the view: the requested columns it has, or "*". */
+    public String selectList(String view, FieldProjection projection) {
+        return projection.isAll() ? "*" : projection.selectList(get(view));
+    }
+
+}
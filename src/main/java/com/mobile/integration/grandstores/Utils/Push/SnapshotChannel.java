@@ -0,0 +1,375 @@
+package com.mobile.integration.grandstores.Utils.Push;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * One pushed work list (a vehicle's deliveries, a picker's orders) and its subscribers.
+ *
+ * poll() runs the loader once for all subscribers and diffs the rows of every ref cursor
+ * in the result against the previous poll. Rows are matched by their line id - the first of
+ * the key columns the row has - and compared by their JSON, so a changed row is sent as
+ * removed + added. Rows without a key column are matched by JSON and occurrence, so equal
+ * rows are still counted apart. Only changes are pushed, as a "changes" event with an
+ * increasing id; the last few events are kept so a client reconnecting with Last-Event-ID
+ * is replayed what it missed, otherwise it gets a fresh "snapshot".
+ *
+ * Sends never happen under the channel lock or on the poller thread: every subscriber has
+ * its own queue, drained in order on the send executor. A subscriber whose queue overflows
+ * or whose send fails is dropped and reconnects with Last-Event-ID.
+ */
+class SnapshotChannel {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotChannel.class);
+
+    private final String key;
+    private final Supplier<Map<String, Object>> loader;
+    private final ObjectMapper objectMapper;
+    private final List<String> keyColumns;
+    private final int replayEvents;
+    private final int maxPending;
+    private final Executor sendExecutor;
+
+    // Event ids are "<epoch>-<sequence>", so an id from before a restart or an idle
+    // channel being dropped never matches and the client gets a fresh snapshot
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final Deque<Event> recent = new ArrayDeque<>();
+
+    // cursor name -> row key -> row, from the last poll; null until the first poll
+    private Map<String, Map<String, Row>> current;
+    private long sequence;
+
+    SnapshotChannel(String key, Supplier<Map<String, Object>> loader, ObjectMapper objectMapper,
+            List<String> keyColumns, int replayEvents, int maxPending, Executor sendExecutor) {
+        this.key = key;
+        this.loader = loader;
+        this.objectMapper = objectMapper;
+        this.keyColumns = keyColumns;
+        this.replayEvents = replayEvents;
+        this.maxPending = maxPending;
+        this.sendExecutor = sendExecutor;
+    }
+
+    synchronized void subscribe(SseEmitter emitter, String lastEventId) {
+        if (current == null) {
+            poll();
+        }
+        Subscriber subscriber = new Subscriber(emitter);
+        long since = parse(lastEventId);
+        long replayFrom = recent.isEmpty() ? sequence : recent.peekFirst().id - 1;
+        if (since >= replayFrom && since <= sequence) {
+            for (Event event : recent) {
+                if (event.id > since) {
+                    subscriber.enqueue(new Message(id(event.id), "changes", event.data));
+                }
+            }
+        } else {
+            subscriber.enqueue(new Message(id(sequence), "snapshot", snapshot()));
+        }
+        subscribers.add(subscriber);
+    }
+
+    void unsubscribe(SseEmitter emitter) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.emitter == emitter) {
+                subscribers.remove(subscriber);
+            }
+        }
+    }
+
+    boolean hasSubscribers() {
+        return !subscribers.isEmpty();
+    }
+
+    /** Loads the list and pushes the differences; sends a heartbeat comment when nothing changed. */
+    synchronized void poll() {
+        Map<String, Map<String, Row>> next = rows(loader.get());
+        if (current == null) {
+            current = next;
+            return;
+        }
+
+        Map<String, List<Object>> added = new LinkedHashMap<>();
+        Map<String, List<Object>> removed = new LinkedHashMap<>();
+        for (Map.Entry<String, Map<String, Row>> cursor : next.entrySet()) {
+            Map<String, Row> before = current.get(cursor.getKey());
+            for (Map.Entry<String, Row> row : cursor.getValue().entrySet()) {
+                Row previous = before == null ? null : before.get(row.getKey());
+                if (previous == null) {
+                    add(added, cursor.getKey(), row.getValue().data);
+                } else if (!previous.json.equals(row.getValue().json)) {
+                    add(removed, cursor.getKey(), previous.data);
+                    add(added, cursor.getKey(), row.getValue().data);
+                }
+            }
+        }
+        for (Map.Entry<String, Map<String, Row>> cursor : current.entrySet()) {
+            Map<String, Row> after = next.get(cursor.getKey());
+            for (Map.Entry<String, Row> row : cursor.getValue().entrySet()) {
+                if (after == null || !after.containsKey(row.getKey())) {
+                    add(removed, cursor.getKey(), row.getValue().data);
+                }
+            }
+        }
+        current = next;
+
+        if (added.isEmpty() && removed.isEmpty()) {
+            broadcast(Message.PING);
+            return;
+        }
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("added", added);
+        data.put("removed", removed);
+        Event event = new Event(++sequence, data);
+        recent.addLast(event);
+        while (recent.size() > replayEvents) {
+            recent.removeFirst();
+        }
+        logger.debug("{}: event {} ({} cursors added, {} removed) to {} subscribers",
+                key, event.id, added.size(), removed.size(), subscribers.size());
+        broadcast(new Message(id(event.id), "changes", data));
+    }
+
+    void completeAll() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+    }
+
+    // Only queues - the sends run on the send executor
+    private void broadcast(Message message) {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.enqueue(message);
+        }
+    }
+
+    private Map<String, Object> snapshot() {
+        Map<String, Object> data = new LinkedHashMap<>();
+        for (Map.Entry<String, Map<String, Row>> cursor : current.entrySet()) {
+            List<Object> rows = new ArrayList<>();
+            for (Row row : cursor.getValue().values()) {
+                rows.add(row.data);
+            }
+            data.put(cursor.getKey(), rows);
+        }
+        return data;
+    }
+
+    // Only the ref cursor (list) outputs are pushed; scalar out parameters are ignored
+    private Map<String, Map<String, Row>> rows(Map<String, Object> result) {
+        Map<String, Map<String, Row>> rows = new LinkedHashMap<>();
+        if (result == null) {
+            return rows;
+        }
+        for (Map.Entry<String, Object> output : result.entrySet()) {
+            if (!(output.getValue() instanceof Collection)) {
+                continue;
+            }
+            Map<String, Row> byKey = new LinkedHashMap<>();
+            Map<String, Integer> occurrences = new HashMap<>();
+            for (Object row : (Collection<?>) output.getValue()) {
+                String json;
+                try {
+                    json = objectMapper.writeValueAsString(row);
+                } catch (JsonProcessingException e) {
+                    json = String.valueOf(row);
+                }
+                String rowKey = lineId(row);
+                if (rowKey == null) {
+                    Integer seen = occurrences.get(json);
+                    occurrences.put(json, seen == null ? 1 : seen + 1);
+                    rowKey = "row:" + json + "#" + (seen == null ? 0 : seen);
+                } else if (byKey.containsKey(rowKey)) {
+                    // Line id repeated in the cursor - keep both rows apart
+                    rowKey = rowKey + "#" + json;
+                }
+                byKey.put(rowKey, new Row(json, row));
+            }
+            rows.put(output.getKey(), byKey);
+        }
+        return rows;
+    }
+
+    private String lineId(Object row) {
+        if (!(row instanceof Map)) {
+            return null;
+        }
+        for (String column : keyColumns) {
+            Object value = ((Map<?, ?>) row).get(column);
+            if (value != null) {
+                return "id:" + column + "=" + value;
+            }
+        }
+        return null;
+    }
+
+    private static void add(Map<String, List<Object>> changes, String cursor, Object row) {
+        List<Object> rows = changes.get(cursor);
+        if (rows == null) {
+            rows = new ArrayList<>();
+            changes.put(cursor, rows);
+        }
+        rows.add(row);
+    }
+
+    private String id(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    private long parse(String lastEventId) {
+        if (lastEventId == null || !lastEventId.startsWith(epoch + "-")) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(epoch.length() + 1).trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void drop(Subscriber subscriber, Exception cause) {
+        subscribers.remove(subscriber);
+        subscriber.emitter.completeWithError(cause);
+    }
+
+    /** One emitter and its pending events, sent in order by at most one send task at a time. */
+    private class Subscriber implements Runnable {
+        final SseEmitter emitter;
+        private final Deque<Message> pending = new ArrayDeque<>();
+        private boolean draining;
+        private boolean dropped;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void enqueue(Message message) {
+            boolean overflow = false;
+            synchronized (this) {
+                if (dropped) {
+                    return;
+                }
+                if (pending.size() >= maxPending) {
+                    // Client not keeping up (stalled socket) - it reconnects with Last-Event-ID
+                    dropped = true;
+                    pending.clear();
+                    overflow = true;
+                } else {
+                    pending.addLast(message);
+                    if (draining) {
+                        return;
+                    }
+                    draining = true;
+                }
+            }
+            if (overflow) {
+                logger.debug("{}: subscriber {} events behind, dropped", key, maxPending);
+                drop(this, new IllegalStateException("Subscriber too slow"));
+                return;
+            }
+            try {
+                sendExecutor.execute(this);
+            } catch (RejectedExecutionException e) {
+                synchronized (this) {
+                    dropped = true;
+                    pending.clear();
+                    draining = false;
+                }
+                drop(this, e);
+            }
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                Message message;
+                synchronized (this) {
+                    message = dropped ? null : pending.pollFirst();
+                    if (message == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                try {
+                    emitter.send(message.build());
+                } catch (Exception e) {
+                    // Client went away - drop it, it reconnects with Last-Event-ID
+                    boolean first;
+                    synchronized (this) {
+                        first = !dropped;
+                        dropped = true;
+                        pending.clear();
+                        draining = false;
+                    }
+                    if (first) {
+                        drop(this, e);
+                    }
+                    return;
+                }
+            }
+        }
+    }
+
+    // Event content; a fresh SseEventBuilder per send, a builder is not reusable across emitters
+    private static class Message {
+        static final Message PING = new Message(null, null, null);
+
+        final String id;
+        final String name;
+        final Object data;
+
+        Message(String id, String name, Object data) {
+            this.id = id;
+            this.name = name;
+            this.data = data;
+        }
+
+        SseEmitter.SseEventBuilder build() {
+            if (id == null) {
+                return SseEmitter.event().comment("ping");
+            }
+            return SseEmitter.event().id(id).name(name).data(data);
+        }
+    }
+
+    private static class Row {
+        final String json;
+        final Object data;
+
+        Row(String json, Object data) {
+            this.json = json;
+            this.data = data;
+        }
+    }
+
+    private static class Event {
+        final long id;
+        final Object data;
+
+        Event(long id, Object data) {
+            this.id = id;
+            this.data = data;
+        }
+    }
+
+}
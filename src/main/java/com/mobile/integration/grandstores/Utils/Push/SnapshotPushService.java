@@ -0,0 +1,112 @@
+package com.mobile.integration.grandstores.Utils.Push;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import javax.annotation.PreDestroy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Server-sent event channels for work lists handhelds used to poll.
+ *
+ * Every channel (one per vehicle / picker) is polled by this one scheduled task, once
+ * per app.stream.poll-ms however many devices subscribe to it, and only the changes
+ * are pushed. Channels without subscribers are dropped and no longer polled. Events are
+ * sent on the push executor, so a stalled client never holds up the poll.
+ */
+@Component
+public class SnapshotPushService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotPushService.class);
+
+    // Emitters are completed after this, the client reconnects with Last-Event-ID
+    @Value("${app.stream.timeout-ms:300000}")
+    private long timeoutMs;
+
+    @Value("${app.stream.replay-events:100}")
+    private int replayEvents;
+
+    // Line id columns rows are matched by between polls, first one present wins
+    @Value("${app.stream.key-columns:DEL_LINE_ID,LINE_ID}")
+    private List<String> keyColumns;
+
+    // Events queued for one client before it is dropped as too slow
+    @Value("${app.stream.max-pending:50}")
+    private int maxPending;
+
+    @Autowired
+    @Qualifier("pushExecutor")
+    private Executor pushExecutor;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final Map<String, SnapshotChannel> channels = new ConcurrentHashMap<>();
+
+    public SseEmitter subscribe(String key, Supplier<Map<String, Object>> loader, String lastEventId) {
+        final SseEmitter emitter = new SseEmitter(timeoutMs);
+        final SnapshotChannel channel = channels.computeIfAbsent(key,
+                k -> new SnapshotChannel(k, loader, objectMapper, keyColumns, replayEvents, maxPending, pushExecutor));
+        Runnable remove = new Runnable() {
+            @Override
+            public void run() {
+                channel.unsubscribe(emitter);
+            }
+        };
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> channel.unsubscribe(emitter));
+        try {
+            channel.subscribe(emitter, lastEventId);
+            // The poller may have dropped the channel while it had no subscribers yet
+            SnapshotChannel registered = channels.putIfAbsent(key, channel);
+            if (registered != null && registered != channel) {
+                channel.unsubscribe(emitter);
+                emitter.complete();
+            }
+        } catch (Exception e) {
+            logger.warn("Subscribe to {} failed: {}", key, e.getMessage());
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    @Scheduled(initialDelayString = "${app.stream.poll-ms:5000}", fixedDelayString = "${app.stream.poll-ms:5000}")
+    public void pollChannels() {
+        for (Map.Entry<String, SnapshotChannel> entry : channels.entrySet()) {
+            SnapshotChannel channel = entry.getValue();
+            if (!channel.hasSubscribers()) {
+                channels.remove(entry.getKey(), channel);
+                continue;
+            }
+            try {
+                channel.poll();
+            } catch (Exception e) {
+                // Keep the subscribers, the next poll diffs against the last good snapshot
+                logger.warn("Poll of {} failed: {}", entry.getKey(), e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (SnapshotChannel channel : channels.values()) {
+            channel.completeAll();
+        }
+        channels.clear();
+    }
+
+}
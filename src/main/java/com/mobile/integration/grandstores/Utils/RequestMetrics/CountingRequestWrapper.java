@@ -0,0 +1,80 @@
+package com.mobile.integration.grandstores.Utils.RequestMetrics;
+
+import java.io.IOException;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+
+/**
+ * Counts the request body bytes actually read - chunked posts from the handhelds
+ * carry no Content-Length.
+ */
+class CountingRequestWrapper extends HttpServletRequestWrapper {
+
+    private CountingInputStream stream;
+
+    CountingRequestWrapper(HttpServletRequest request) {
+        super(request);
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        if (stream == null) {
+            stream = new CountingInputStream(super.getInputStream());
+        }
+        return stream;
+    }
+
+    long getBytesRead() {
+        if (stream != null) {
+            return stream.count;
+        }
+        return Math.max(0, getContentLengthLong());
+    }
+
+    private static class CountingInputStream extends ServletInputStream {
+
+        private final ServletInputStream delegate;
+        private long count;
+
+        CountingInputStream(ServletInputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = delegate.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener listener) {
+            delegate.setReadListener(listener);
+        }
+    }
+
+}
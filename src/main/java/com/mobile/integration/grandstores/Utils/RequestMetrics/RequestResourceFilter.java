@@ -0,0 +1,103 @@
+package com.mobile.integration.grandstores.Utils.RequestMetrics;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.mobile.integration.grandstores.Utils.RequestTracing.RequestTimings;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Measures what each request costs in memory - bytes allocated on the request thread
+ * (HotSpot thread allocation counter), request / response body sizes and cursor rows -
+ * and feeds RequestResourceMetrics. Runs just inside RequestContextFilter.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class RequestResourceFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestResourceFilter.class);
+
+    @Autowired
+    private RequestResourceMetrics requestResourceMetrics;
+
+    @Value("${app.metrics.request-resources.enabled:true}")
+    private boolean enabled;
+
+    private final com.sun.management.ThreadMXBean threadBean = threadBean();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return !enabled
+                || path.contains("/actuator")
+                || path.contains("/swagger")
+                || path.contains("/v2/api-docs")
+                || path.contains("/webjars");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        CountingRequestWrapper countingRequest = new CountingRequestWrapper(request);
+        CountingResponseWrapper countingResponse = new CountingResponseWrapper(response);
+        long threadId = Thread.currentThread().getId();
+        long allocatedAtStart = allocatedBytes(threadId);
+        try {
+            chain.doFilter(countingRequest, countingResponse);
+        } finally {
+            long allocated = allocatedAtStart < 0 ? -1 : allocatedBytes(threadId) - allocatedAtStart;
+            RequestTimings timings = RequestTimings.current();
+            try {
+                requestResourceMetrics.record(endpoint(request), allocated,
+                        countingRequest.getBytesRead(), countingResponse.getBytesWritten(),
+                        timings == null ? 0 : timings.getRows());
+            } catch (Exception e) {
+                logger.warn("Could not record request metrics: {}", e.toString());
+            }
+        }
+    }
+
+    // Mapped pattern keeps the tag cardinality bounded (rejected / unknown URIs share one tag)
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern.toString() : "UNMAPPED");
+    }
+
+    private long allocatedBytes(long threadId) {
+        return threadBean == null ? -1 : threadBean.getThreadAllocatedBytes(threadId);
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        try {
+            java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+                if (sunBean.isThreadAllocatedMemorySupported()) {
+                    if (!sunBean.isThreadAllocatedMemoryEnabled()) {
+                        sunBean.setThreadAllocatedMemoryEnabled(true);
+                    }
+                    return sunBean;
+                }
+            }
+        } catch (Throwable e) {
+            LoggerFactory.getLogger(RequestResourceFilter.class).warn("Thread allocation counters unavailable: {}", e.toString());
+        }
+        return null;
+    }
+
+}
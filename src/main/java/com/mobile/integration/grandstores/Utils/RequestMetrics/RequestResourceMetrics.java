@@ -0,0 +1,168 @@
+package com.mobile.integration.grandstores.Utils.RequestMetrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Per-endpoint resource usage - bytes allocated by the request thread, request and
+ * response body sizes and cursor rows. Published as Micrometer histograms
+ * (gs.request.allocated / gs.request.body / gs.response.body / gs.request.rows)
+ * and kept as running totals for the top allocators view.
+ */
+@Component
+public class RequestResourceMetrics {
+
+    private static final String ALLOCATED = "gs.request.allocated";
+    private static final String REQUEST_BODY = "gs.request.body";
+    private static final String RESPONSE_BODY = "gs.response.body";
+    private static final String ROWS = "gs.request.rows";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+    /** allocatedBytes is -1 when the JVM does not support thread allocation counters. */
+    public void record(String endpoint, long allocatedBytes, long requestBytes, long responseBytes, long rows) {
+        EndpointStats s = stats.get(endpoint);
+        if (s == null) {
+            s = stats.computeIfAbsent(endpoint, EndpointStats::new);
+        }
+        s.add(Math.max(0, allocatedBytes), requestBytes, responseBytes, rows);
+
+        if (allocatedBytes >= 0) {
+            s.allocated.record(allocatedBytes);
+        }
+        s.requestBody.record(requestBytes);
+        s.responseBody.record(responseBytes);
+        s.rows.record(rows);
+    }
+
+    /** Endpoints ordered by total bytes allocated since start (or the last reset). */
+    public List<Map<String, Object>> topAllocators(int limit) {
+        List<EndpointStats> list = new ArrayList<>(stats.values());
+        Collections.sort(list, new Comparator<EndpointStats>() {
+            @Override
+            public int compare(EndpointStats a, EndpointStats b) {
+                return Long.compare(b.totalAllocated.sum(), a.totalAllocated.sum());
+            }
+        });
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (EndpointStats s : list) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(s.toMap());
+        }
+        return result;
+    }
+
+    public void reset() {
+        for (EndpointStats s : stats.values()) {
+            s.clear();
+        }
+    }
+
+    private static DistributionSummary.Builder bytes(String name, String endpoint, String description) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .baseUnit("bytes")
+                .tag("endpoint", endpoint)
+                .publishPercentileHistogram();
+    }
+
+    private class EndpointStats {
+
+        private final String endpoint;
+        private final DistributionSummary allocated;
+        private final DistributionSummary requestBody;
+        private final DistributionSummary responseBody;
+        private final DistributionSummary rows;
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalAllocated = new LongAdder();
+        private final LongAdder totalResponse = new LongAdder();
+        private final LongAdder totalRows = new LongAdder();
+        private final AtomicLong maxAllocated = new AtomicLong();
+        private final AtomicLong maxRequest = new AtomicLong();
+        private final AtomicLong maxResponse = new AtomicLong();
+        private final AtomicLong maxRows = new AtomicLong();
+
+        EndpointStats(String endpoint) {
+            this.endpoint = endpoint;
+            this.allocated = bytes(ALLOCATED, endpoint, "Bytes allocated by the request thread")
+                    .register(meterRegistry);
+            this.requestBody = bytes(REQUEST_BODY, endpoint, "Request body size")
+                    .register(meterRegistry);
+            this.responseBody = bytes(RESPONSE_BODY, endpoint, "Response body size")
+                    .register(meterRegistry);
+            this.rows = DistributionSummary.builder(ROWS)
+                    .description("Cursor rows returned by procedure calls")
+                    .baseUnit("rows")
+                    .tag("endpoint", endpoint)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+
+        void add(long allocatedBytes, long requestBytes, long responseBytes, long rowCount) {
+            count.increment();
+            totalAllocated.add(allocatedBytes);
+            totalResponse.add(responseBytes);
+            totalRows.add(rowCount);
+            max(maxAllocated, allocatedBytes);
+            max(maxRequest, requestBytes);
+            max(maxResponse, responseBytes);
+            max(maxRows, rowCount);
+        }
+
+        void clear() {
+            count.reset();
+            totalAllocated.reset();
+            totalResponse.reset();
+            totalRows.reset();
+            maxAllocated.set(0);
+            maxRequest.set(0);
+            maxResponse.set(0);
+            maxRows.set(0);
+        }
+
+        Map<String, Object> toMap() {
+            long n = Math.max(1, count.sum());
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("endpoint", endpoint);
+            map.put("requests", count.sum());
+            map.put("allocatedTotalMb", totalAllocated.sum() / (1024 * 1024));
+            map.put("allocatedAvgKb", totalAllocated.sum() / n / 1024);
+            map.put("allocatedMaxKb", maxAllocated.get() / 1024);
+            map.put("requestMaxKb", maxRequest.get() / 1024);
+            map.put("responseAvgKb", totalResponse.sum() / n / 1024);
+            map.put("responseMaxKb", maxResponse.get() / 1024);
+            map.put("rowsAvg", totalRows.sum() / n);
+            map.put("rowsMax", maxRows.get());
+            return map;
+        }
+    }
+
+    private static void max(AtomicLong target, long value) {
+        long current;
+        while (value > (current = target.get())) {
+            if (target.compareAndSet(current, value)) {
+                return;
+            }
+        }
+    }
+
+}
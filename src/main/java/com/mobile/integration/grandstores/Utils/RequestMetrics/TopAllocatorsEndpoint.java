@@ -0,0 +1,34 @@
+package com.mobile.integration.grandstores.Utils.RequestMetrics;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Admin view of the endpoints allocating the most memory - /actuator/allocators
+ * (DELETE resets the totals). Sits behind the JWT filter like the rest of the API.
+ */
+@Component
+@Endpoint(id = "allocators")
+public class TopAllocatorsEndpoint {
+
+    @Autowired
+    private RequestResourceMetrics requestResourceMetrics;
+
+    @ReadOperation
+    public List<Map<String, Object>> topAllocators(@Nullable Integer limit) {
+        return requestResourceMetrics.topAllocators(limit == null ? 20 : limit);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        requestResourceMetrics.reset();
+    }
+
+}
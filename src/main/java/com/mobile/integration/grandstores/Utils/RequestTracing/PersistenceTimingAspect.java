@@ -0,0 +1,58 @@
+package com.mobile.integration.grandstores.Utils.RequestTracing;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * "jpa" span for Spring Data repository calls and "translog" span for the
+ * MobTransLog request-payload writes. Cursor rows returned by PackageCalling
+ * components are added to the current request for the per-endpoint metrics.
+ *
+ * The correlation id is not stored on MobTransLog rows - the entity has no column for
+ * it. It reaches the application logs through the MDC only.
+ */
+@Aspect
+@Component
+public class PersistenceTimingAspect {
+
+    @Around("target(org.springframework.data.repository.Repository)")
+    public Object timeRepository(ProceedingJoinPoint pjp) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return pjp.proceed();
+        } finally {
+            RequestTimings.record("jpa", System.nanoTime() - start);
+        }
+    }
+
+    @Around("execution(public java.util.Map com.mobile.integration.grandstores.PackageCalling..*.*(..))")
+    public Object countRows(ProceedingJoinPoint pjp) throws Throwable {
+        Object result = pjp.proceed();
+        if (result instanceof Map) {
+            long rows = 0;
+            for (Object value : ((Map<?, ?>) result).values()) {
+                if (value instanceof Collection) {
+                    rows += ((Collection<?>) value).size();
+                }
+            }
+            RequestTimings.recordRows(rows);
+        }
+        return result;
+    }
+
+    @Around("execution(* com.mobile.integration.grandstores.Logs.mobTransLog.MobTransLogSO.saveMobTransLog(..))")
+    public Object timeTransLog(ProceedingJoinPoint pjp) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return pjp.proceed();
+        } finally {
+            RequestTimings.record("translog", System.nanoTime() - start);
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.mobile.integration.grandstores.Utils.RequestTracing;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.mobile.integration.grandstores.Utils.FlightRecorder.FlightRecorderService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * First filter of every request - takes the correlation id from the handheld
+ * (X-Correlation-ID / X-Request-ID) or generates one, puts it in the MDC and the
+ * response, and logs the phase timings when the request completes.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestContextFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestContextFilter.class);
+
+    public static final String CORRELATION_HEADER = "X-Correlation-ID";
+    public static final String MDC_CORRELATION_ID = "correlationId";
+    public static final String MDC_ENDPOINT = "endpoint";
+
+    // Absent when the JVM has no jdk.jfr or app.jfr.enabled is off
+    @Autowired(required = false)
+    private FlightRecorderService flightRecorderService;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        String correlationId = request.getHeader(CORRELATION_HEADER);
+        if (correlationId == null || correlationId.isEmpty()) {
+            correlationId = request.getHeader("X-Request-ID");
+        }
+        if (correlationId == null || correlationId.isEmpty() || correlationId.length() > 64) {
+            correlationId = UUID.randomUUID().toString();
+        }
+
+        RequestTimings timings = new RequestTimings(correlationId);
+        RequestTimings.bind(timings);
+        MDC.put(MDC_CORRELATION_ID, correlationId);
+        MDC.put(MDC_ENDPOINT, request.getMethod() + " " + request.getRequestURI());
+        response.setHeader(CORRELATION_HEADER, correlationId);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            timings.finish();
+            logger.info("{} {} status={} {}", request.getMethod(), request.getRequestURI(),
+                    response.getStatus(), timings.toLogString());
+            if (flightRecorderService != null) {
+                flightRecorderService.onRequestComplete(request.getMethod() + " " + request.getRequestURI(),
+                        correlationId, response.getStatus(), timings.elapsedNanos());
+            }
+            RequestTimings.unbind();
+            MDC.remove(MDC_CORRELATION_ID);
+            MDC.remove(MDC_ENDPOINT);
+        }
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.mobile.integration.grandstores.Utils.RequestTracing;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time spent per phase (auth, db, jpa, translog, ser ...) of the current request.
+ * Bound to the request thread by RequestContextFilter.
+ */
+public class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final String correlationId;
+    private final long startNanos = System.nanoTime();
+    private final Map<String, long[]> spans = new LinkedHashMap<>();
+    private long bodyWriteStartNanos;
+    private long rows;
+
+    RequestTimings(String correlationId) {
+        this.correlationId = correlationId;
+    }
+
+    static void bind(RequestTimings timings) {
+        CURRENT.set(timings);
+    }
+
+    static void unbind() {
+        CURRENT.remove();
+    }
+
+    /** Timings of the current request, or null outside a request thread. */
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    /** Adds a span to the current request, no-op outside a request thread. */
+    public static void record(String name, long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.add(name, nanos);
+        }
+    }
+
+    /** Adds cursor rows returned to the current request, no-op outside a request thread. */
+    public static void recordRows(long count) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.rows += count;
+        }
+    }
+
+    public static String currentCorrelationId() {
+        RequestTimings timings = CURRENT.get();
+        return timings == null ? null : timings.correlationId;
+    }
+
+    public void add(String name, long nanos) {
+        long[] span = spans.get(name);
+        if (span == null) {
+            span = new long[2];
+            spans.put(name, span);
+        }
+        span[0] += nanos;
+        span[1]++;
+    }
+
+    public String getCorrelationId() {
+        return correlationId;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    void markBodyWriteStart() {
+        if (bodyWriteStartNanos == 0) {
+            bodyWriteStartNanos = System.nanoTime();
+        }
+    }
+
+    // Serialization + write of the body, known only once the filter chain returns
+    void finish() {
+        if (bodyWriteStartNanos != 0) {
+            add("ser", System.nanoTime() - bodyWriteStartNanos);
+        }
+    }
+
+    /** Server-Timing header value, e.g. auth;dur=1.2, db;dur=35.0;desc="3 calls", app;dur=40.1 */
+    public String toServerTiming() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, long[]> e : spans.entrySet()) {
+            sb.append(e.getKey()).append(";dur=").append(millis(e.getValue()[0]));
+            if (e.getValue()[1] > 1) {
+                sb.append(";desc=\"").append(e.getValue()[1]).append(" calls\"");
+            }
+            sb.append(", ");
+        }
+        sb.append("app;dur=").append(millis(elapsedNanos()));
+        return sb.toString();
+    }
+
+    public String toLogString() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, long[]> e : spans.entrySet()) {
+            sb.append(e.getKey()).append('=').append(millis(e.getValue()[0])).append("ms");
+            if (e.getValue()[1] > 1) {
+                sb.append('(').append(e.getValue()[1]).append(')');
+            }
+            sb.append(' ');
+        }
+        sb.append("total=").append(millis(elapsedNanos())).append("ms");
+        return sb.toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.valueOf(TimeUnit.NANOSECONDS.toMicros(nanos) / 1000.0);
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.mobile.integration.grandstores.Utils.RequestTracing;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TimingDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (bean instanceof DataSource && !(bean instanceof TimingDataSource)) {
+            return new TimingDataSource((DataSource) bean);
+        }
+        return bean;
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.mobile.integration.grandstores.Utils.ResponseAPI;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+import javax.servlet.http.HttpServletRequest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Writes APIResponse bodies in the columnar layout (see ColumnarLayout) with the given
+ * ObjectMapper - JSON, CBOR or Smile. Reading request bodies stays with the default converters.
+ *
+ * Sits ahead of the default converters, so it only accepts its exact media type, and only
+ * offers that type as producible when the request's Accept header names it - a wildcard
+ * Accept must keep resolving to plain JSON.
+ */
+public class ColumnarHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+    private final MediaType mediaType;
+
+    public ColumnarHttpMessageConverter(ObjectMapper objectMapper, MediaType mediaType) {
+        super(objectMapper, mediaType);
+        this.mediaType = mediaType;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return matches(mediaType) && super.canWrite(clazz, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return matches(mediaType) && super.canWrite(type, clazz, mediaType);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        super.writeInternal(ColumnarLayout.apply(object, getObjectMapper()), null, outputMessage);
+    }
+
+    // null is the producible-types probe - answer it only for requests that asked for this type
+    private boolean matches(MediaType requested) {
+        return requested == null ? acceptNamesType() : mediaType.equalsTypeAndSubtype(requested);
+    }
+
+    private boolean acceptNamesType() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes)) {
+            return false;
+        }
+        HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest();
+        String accept = request.getHeader("Accept");
+        if (accept == null) {
+            return false;
+        }
+        try {
+            List<MediaType> accepted = MediaType.parseMediaTypes(accept);
+            for (MediaType candidate : accepted) {
+                if (mediaType.equalsTypeAndSubtype(candidate)) {
+                    return true;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // Malformed Accept - the default negotiation reports it
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.mobile.integration.grandstores.Utils.ResponseAPI;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Rewrites row lists inside an APIResponse into a columnar layout:
+ * {"columns": ["ITEM_ID", ...], "rows": [[123, ...], ...]}.
+ *
+ * Row lists are found at data itself (queryForList, repository results) or one level
+ * down in a procedure result map (ref cursor outputs). Entities are converted to maps
+ * with the same ObjectMapper, so column names match the row JSON exactly.
+ */
+public final class ColumnarLayout {
+
+    private ColumnarLayout() {
+    }
+
+    public static Object apply(Object body, ObjectMapper objectMapper) {
+        if (!(body instanceof APIResponse)) {
+            return body;
+        }
+        APIResponse source = (APIResponse) body;
+        APIResponse columnar = new APIResponse();
+        columnar.setStatus(source.getStatus());
+        columnar.setError(source.getError());
+        columnar.setData(convert(source.getData(), objectMapper, true));
+        return columnar;
+    }
+
+    private static Object convert(Object data, ObjectMapper objectMapper, boolean descend) {
+        if (data instanceof Collection) {
+            return toColumns((Collection<?>) data, objectMapper);
+        }
+        if (descend && data instanceof Map) {
+            Map<Object, Object> converted = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) data).entrySet()) {
+                converted.put(entry.getKey(), convert(entry.getValue(), objectMapper, false));
+            }
+            return converted;
+        }
+        return data;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object toColumns(Collection<?> rows, ObjectMapper objectMapper) {
+        List<Map<String, Object>> maps = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            if (row == null) {
+                continue;
+            }
+            if (row instanceof Map) {
+                maps.add((Map<String, Object>) row);
+            } else if (row instanceof CharSequence || row instanceof Number || row instanceof Boolean) {
+                // Plain value list - nothing to factor out
+                return rows;
+            } else {
+                maps.add(objectMapper.convertValue(row, LinkedHashMap.class));
+            }
+        }
+
+        // Union of keys in first-seen order; rows from one query normally share them all
+        Map<String, Integer> columns = new LinkedHashMap<>();
+        for (Map<String, Object> map : maps) {
+            for (String key : map.keySet()) {
+                if (!columns.containsKey(key)) {
+                    columns.put(key, columns.size());
+                }
+            }
+        }
+
+        List<Object[]> values = new ArrayList<>(maps.size());
+        for (Map<String, Object> map : maps) {
+            Object[] row = new Object[columns.size()];
+            for (Map.Entry<String, Object> entry : map.entrySet()) {
+                row[columns.get(entry.getKey())] = entry.getValue();
+            }
+            values.add(row);
+        }
+
+        Map<String, Object> table = new LinkedHashMap<>();
+        table.put("columns", columns.keySet());
+        table.put("rows", values);
+        return table;
+    }
+
+}
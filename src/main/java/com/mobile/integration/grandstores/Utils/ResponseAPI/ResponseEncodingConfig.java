@@ -0,0 +1,62 @@
+package com.mobile.integration.grandstores.Utils.ResponseAPI;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Response encodings the handheld can ask for with Accept. Existing clients (application/json
+ * or any type) see no change - the columnar converters only take part when the Accept header
+ * names their media type (see ColumnarHttpMessageConverter).
+ *
+ * The columnar converters go first in the list; otherwise the default JSON converter, which
+ * accepts application/*+json, would write application/vnd.gs.columnar+json unchanged. CBOR and
+ * Smile mappers, including the defaults for application/cbor and application/x-jackson-smile,
+ * are built from Boot's Jackson2ObjectMapperBuilder, so dates, inclusion and modules come out
+ * the same as in JSON.
+ */
+@Configuration
+public class ResponseEncodingConfig implements WebMvcConfigurer {
+
+    public static final MediaType COLUMNAR_JSON = MediaType.valueOf("application/vnd.gs.columnar+json");
+    public static final MediaType COLUMNAR_CBOR = MediaType.valueOf("application/vnd.gs.columnar+cbor");
+    public static final MediaType COLUMNAR_SMILE = MediaType.valueOf("application/vnd.gs.columnar+smile");
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Prototype bean with Boot's customizers applied - a fresh builder per mapper
+    @Autowired
+    private ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        ObjectMapper cborMapper = objectMapperBuilder.getObject().factory(new CBORFactory()).build();
+        ObjectMapper smileMapper = objectMapperBuilder.getObject().factory(new SmileFactory()).build();
+
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2CborHttpMessageConverter) {
+                converters.set(i, new MappingJackson2CborHttpMessageConverter(cborMapper));
+            } else if (converters.get(i) instanceof MappingJackson2SmileHttpMessageConverter) {
+                converters.set(i, new MappingJackson2SmileHttpMessageConverter(smileMapper));
+            }
+        }
+
+        converters.add(0, new ColumnarHttpMessageConverter(smileMapper, COLUMNAR_SMILE));
+        converters.add(0, new ColumnarHttpMessageConverter(cborMapper, COLUMNAR_CBOR));
+        converters.add(0, new ColumnarHttpMessageConverter(objectMapper, COLUMNAR_JSON));
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.mobile.integration.grandstores.Utils.Search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable prefix index over result rows - keys sorted once, a type-ahead query is a
+ * binary search for the first key plus a scan while keys share the prefix.
+ *
+ * Matching is case sensitive, like Oracle's KEY LIKE :p || '%'. Rows without a key are
+ * dropped (NULL never matches a prefix LIKE).
+ */
+public class PrefixIndex {
+
+    private final String[] keys;
+    private final List<Map<String, Object>> rows;
+    // Position of each sorted row in the source list
+    private final int[] positions;
+
+    private PrefixIndex(String[] keys, List<Map<String, Object>> rows, int[] positions) {
+        this.keys = keys;
+        this.rows = rows;
+        this.positions = positions;
+    }
+
+    /** Builds the index on keyColumn, or returns null when the rows do not carry that column. */
+    public static PrefixIndex build(List<Map<String, Object>> source, final String keyColumn) {
+        final List<Map<String, Object>> rowsIn = source;
+        List<Integer> keyed = new ArrayList<>(source.size());
+        for (int i = 0; i < source.size(); i++) {
+            Map<String, Object> row = source.get(i);
+            if (!row.containsKey(keyColumn)) {
+                return null;
+            }
+            if (row.get(keyColumn) != null) {
+                keyed.add(i);
+            }
+        }
+        // Stable sort - rows with the same key keep the database order
+        Collections.sort(keyed, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return rowsIn.get(a).get(keyColumn).toString().compareTo(rowsIn.get(b).get(keyColumn).toString());
+            }
+        });
+        String[] keys = new String[keyed.size()];
+        int[] positions = new int[keyed.size()];
+        List<Map<String, Object>> rows = new ArrayList<>(keyed.size());
+        for (int i = 0; i < keys.length; i++) {
+            positions[i] = keyed.get(i);
+            rows.add(source.get(positions[i]));
+            keys[i] = rows.get(i).get(keyColumn).toString();
+        }
+        return new PrefixIndex(keys, Collections.unmodifiableList(rows), positions);
+    }
+
+    /** Rows whose key starts with prefix, in key order. */
+    public List<Map<String, Object>> search(String prefix) {
+        int from = lowerBound(prefix);
+        return rows.subList(from, upperBound(from, prefix));
+    }
+
+    /** Rows whose key starts with prefix, in the order of the source rows. */
+    public List<Map<String, Object>> searchInSourceOrder(String prefix) {
+        int from = lowerBound(prefix);
+        int to = upperBound(from, prefix);
+        List<Integer> slots = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            slots.add(i);
+        }
+        Collections.sort(slots, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return Integer.compare(positions[a], positions[b]);
+            }
+        });
+        List<Map<String, Object>> result = new ArrayList<>(slots.size());
+        for (int slot : slots) {
+            result.add(rows.get(slot));
+        }
+        return result;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    private int upperBound(int from, String prefix) {
+        int to = from;
+        while (to < keys.length && keys[to].startsWith(prefix)) {
+            to++;
+        }
+        return to;
+    }
+
+    private int lowerBound(String prefix) {
+        int i = Arrays.binarySearch(keys, prefix);
+        if (i < 0) {
+            return -i - 1;
+        }
+        // Duplicate keys - step back to the first one
+        while (i > 0 && keys[i - 1].equals(prefix)) {
+            i--;
+        }
+        return i;
+    }
+
+    /** True when the value uses LIKE wildcards and cannot be answered as a plain prefix. */
+    public static boolean hasWildcards(String value) {
+        return value.indexOf('%') >= 0 || value.indexOf('_') >= 0;
+    }
+
+}
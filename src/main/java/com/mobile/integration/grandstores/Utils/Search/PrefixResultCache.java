@@ -0,0 +1,133 @@
+package com.mobile.integration.grandstores.Utils.Search;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.mobile.integration.grandstores.Utils.Cache.SingleFlight;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Type-ahead for the number lookups that go through PL/SQL with P_LIKE_COND_FLAG
+ * (receipt, shipment, PO number). The first app.search.prefix-cache.root-length
+ * keystrokes (root prefix) run the procedure once per org; the result is indexed and
+ * every longer prefix is answered from memory until the entry expires. Rows come back in
+ * the procedure's order, the other out parameters as the root call returned them.
+ *
+ * The package source is not part of this repository, so filtering in memory only happens
+ * where it cannot differ from the procedure's own match:
+ * - the procedure's inputs are org, value and flag only, all of them in the key;
+ * - every row of the root call must have a key starting with the root, case sensitive -
+ *   otherwise the match is not a plain prefix LIKE and the root is not indexed;
+ * - a root call returning max-root-rows or more may have been cut by a ROWNUM cap and is
+ *   not indexed;
+ * - values with upper / lower case letters go to the database, an UPPER() on either side
+ *   of the LIKE would match them differently. Receipt, shipment and PO numbers are digits.
+ *
+ * Exact lookups (flag not set), wildcards, values shorter than the root and cursors
+ * without the key column always go to the database.
+ */
+@Component
+public class PrefixResultCache {
+
+    @Autowired
+    private SingleFlight singleFlight;
+
+    @Value("${app.search.prefix-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.search.prefix-cache.ttl-ms:60000}")
+    private long ttlMs;
+
+    @Value("${app.search.prefix-cache.root-length:3}")
+    private int rootLength;
+
+    @Value("${app.search.prefix-cache.max-root-rows:1000}")
+    private int maxRootRows;
+
+    @Value("${app.search.prefix-cache.like-flag:Y}")
+    private String likeFlag;
+
+    @Value("${app.search.prefix-cache.max-entries:2000}")
+    private int maxEntries;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * @param procedure  procedure name, part of the cache key
+     * @param orgId      inventory org of the lookup
+     * @param value      what the user typed so far
+     * @param likeCondFlag P_LIKE_COND_FLAG from the handheld
+     * @param cursorName out parameter holding the cursor rows
+     * @param keyColumn  cursor column the procedure matches the value against
+     * @param call       runs the procedure for a given value
+     */
+    public Map<String, Object> search(String procedure, String orgId, String value, String likeCondFlag,
+            final String cursorName, final String keyColumn, final Function<String, Map<String, Object>> call) {
+
+        if (!enabled || !likeFlag.equalsIgnoreCase(likeCondFlag)
+                || value.length() < rootLength || PrefixIndex.hasWildcards(value) || hasCase(value)) {
+            return call.apply(value);
+        }
+        final String root = value.substring(0, rootLength);
+        String key = SingleFlight.key(procedure, orgId, root);
+
+        Entry entry = entries.get(key);
+        if (entry == null || System.currentTimeMillis() - entry.loadedAt > ttlMs) {
+            entry = singleFlight.execute(key, new Supplier<Entry>() {
+                @Override
+                public Entry get() {
+                    return load(call.apply(root), root, cursorName, keyColumn);
+                }
+            });
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+            entries.put(key, entry);
+        }
+        if (entry.index == null) {
+            return call.apply(value);
+        }
+        Map<String, Object> result = new LinkedHashMap<>(entry.out);
+        result.put(cursorName, entry.index.searchInSourceOrder(value));
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Entry load(Map<String, Object> out, String root, String cursorName, String keyColumn) {
+        Object rows = out == null ? null : out.get(cursorName);
+        if (!(rows instanceof List) || ((List<?>) rows).size() >= maxRootRows) {
+            return new Entry(null, out);
+        }
+        for (Map<String, Object> row : (List<Map<String, Object>>) rows) {
+            Object key = row.get(keyColumn);
+            if (key != null && !key.toString().startsWith(root)) {
+                return new Entry(null, out);
+            }
+        }
+        return new Entry(PrefixIndex.build((List<Map<String, Object>>) rows, keyColumn), out);
+    }
+
+    private static boolean hasCase(String value) {
+        return !value.equals(value.toUpperCase()) || !value.equals(value.toLowerCase());
+    }
+
+    private static class Entry {
+
+        private final PrefixIndex index;
+        private final Map<String, Object> out;
+        private final long loadedAt = System.currentTimeMillis();
+
+        Entry(PrefixIndex index, Map<String, Object> out) {
+            this.index = index;
+            this.out = out;
+        }
+    }
+
+}
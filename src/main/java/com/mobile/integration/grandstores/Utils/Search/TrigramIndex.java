@@ -0,0 +1,167 @@
+package com.mobile.integration.grandstores.Utils.Search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Immutable trigram inverted index for case-insensitive substring search over names
+ * and descriptions - same matches as UPPER(text) LIKE '%' || UPPER(:q) || '%'.
+ *
+ * The rarest trigram of the query picks the candidates, each candidate is confirmed
+ * with a plain contains. Queries shorter than three characters scan all documents,
+ * which is still in memory. Results are ranked: exact match, prefix, word start,
+ * earlier position, shorter text.
+ */
+public class TrigramIndex<T> {
+
+    private static final int[] NONE = new int[0];
+
+    private final List<T> documents;
+    private final String[] texts;
+    private final Map<String, int[]> postings;
+
+    private TrigramIndex(List<T> documents, String[] texts, Map<String, int[]> postings) {
+        this.documents = documents;
+        this.texts = texts;
+        this.postings = postings;
+    }
+
+    public static <T> TrigramIndex<T> build(List<T> source, Function<T, String> text) {
+        List<T> documents = new ArrayList<>(source.size());
+        List<String> texts = new ArrayList<>(source.size());
+        for (T doc : source) {
+            String value = text.apply(doc);
+            if (value != null) {
+                documents.add(doc);
+                texts.add(normalize(value));
+            }
+        }
+
+        Map<String, List<Integer>> lists = new HashMap<>();
+        for (int id = 0; id < texts.size(); id++) {
+            String value = texts.get(id);
+            for (int i = 0; i + 3 <= value.length(); i++) {
+                String gram = value.substring(i, i + 3);
+                List<Integer> list = lists.get(gram);
+                if (list == null) {
+                    list = new ArrayList<>();
+                    lists.put(gram, list);
+                }
+                // Ids are added in order, skip repeats of a gram in the same text
+                if (list.isEmpty() || list.get(list.size() - 1) != id) {
+                    list.add(id);
+                }
+            }
+        }
+        Map<String, int[]> postings = new HashMap<>(lists.size() * 2);
+        for (Map.Entry<String, List<Integer>> e : lists.entrySet()) {
+            List<Integer> list = e.getValue();
+            int[] ids = new int[list.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = list.get(i);
+            }
+            postings.put(e.getKey(), ids);
+        }
+        return new TrigramIndex<>(Collections.unmodifiableList(documents),
+                texts.toArray(new String[0]), postings);
+    }
+
+    /** Documents containing query (case insensitive), best matches first. Empty query returns all. */
+    public List<T> search(String query, int limit) {
+        if (query == null || query.isEmpty()) {
+            return limit >= documents.size() ? documents : documents.subList(0, limit);
+        }
+        final String q = normalize(query);
+        List<Match> matches = new ArrayList<>();
+        if (q.length() < 3) {
+            for (int id = 0; id < texts.length; id++) {
+                addIfMatches(matches, id, q);
+            }
+        } else {
+            for (int id : rarestPosting(q)) {
+                addIfMatches(matches, id, q);
+            }
+        }
+        Collections.sort(matches, new Comparator<Match>() {
+            @Override
+            public int compare(Match a, Match b) {
+                if (a.rank != b.rank) {
+                    return Integer.compare(a.rank, b.rank);
+                }
+                if (a.position != b.position) {
+                    return Integer.compare(a.position, b.position);
+                }
+                return Integer.compare(texts[a.id].length(), texts[b.id].length());
+            }
+        });
+        List<T> result = new ArrayList<>(Math.min(limit, matches.size()));
+        for (Match m : matches) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(documents.get(m.id));
+        }
+        return result;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    private int[] rarestPosting(String q) {
+        int[] best = null;
+        for (int i = 0; i + 3 <= q.length(); i++) {
+            int[] ids = postings.get(q.substring(i, i + 3));
+            if (ids == null) {
+                return NONE;
+            }
+            if (best == null || ids.length < best.length) {
+                best = ids;
+            }
+        }
+        return best;
+    }
+
+    private void addIfMatches(List<Match> matches, int id, String q) {
+        String text = texts[id];
+        int position = text.indexOf(q);
+        if (position < 0) {
+            return;
+        }
+        int rank;
+        if (text.length() == q.length()) {
+            rank = 0;
+        } else if (position == 0) {
+            rank = 1;
+        } else if (!Character.isLetterOrDigit(text.charAt(position - 1))) {
+            rank = 2;
+        } else {
+            rank = 3;
+        }
+        matches.add(new Match(id, rank, position));
+    }
+
+    private static String normalize(String value) {
+        return value.toUpperCase(Locale.ROOT);
+    }
+
+    private static class Match {
+
+        private final int id;
+        private final int rank;
+        private final int position;
+
+        Match(int id, int rank, int position) {
+            this.id = id;
+            this.rank = rank;
+            this.position = position;
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.mobile.integration.grandstores.Utils.Snapshot;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * What a client needs to download a snapshot: its id, size, chunk layout and checksums
+ * (SHA-256, hex). The file is gzip-compressed JSON of the result the endpoint would
+ * otherwise have returned as data.
+ */
+public class SnapshotManifest {
+
+    private final String snapshotId;
+    private final long totalBytes;
+    private final int chunkSize;
+    private final String sha256;
+    private final List<String> chunkSha256;
+    private final long createdAt;
+    private final long expiresAt;
+
+    public SnapshotManifest(String snapshotId, long totalBytes, int chunkSize, String sha256,
+            List<String> chunkSha256, long createdAt, long expiresAt) {
+        this.snapshotId = snapshotId;
+        this.totalBytes = totalBytes;
+        this.chunkSize = chunkSize;
+        this.sha256 = sha256;
+        this.chunkSha256 = Collections.unmodifiableList(chunkSha256);
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getSnapshotId() {
+        return snapshotId;
+    }
+
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public int getChunkCount() {
+        return chunkSha256.size();
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    public List<String> getChunkSha256() {
+        return chunkSha256;
+    }
+
+    public String getEncoding() {
+        return "application/json+gzip";
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+
+}
@@ -0,0 +1,255 @@
+package com.mobile.integration.grandstores.Utils.Snapshot;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.PostConstruct;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mobile.integration.grandstores.Utils.Cache.SingleFlight;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Materializes large results (count sheets) once into a gzip'd JSON file on local disk
+ * and serves it in fixed-size numbered chunks.
+ *
+ * A handheld that loses Wi-Fi re-requests only the chunks it is missing, checked against
+ * the manifest checksums, instead of re-running the cursor and downloading everything
+ * again. The same request reuses the existing snapshot while at least
+ * app.snapshot.reuse-min-remaining-ms of its TTL is left, so a client has time to fetch every
+ * chunk; later requests get a fresh one. Files expire after app.snapshot.ttl-ms and are deleted
+ * by a scheduled sweep, never while a chunk is being read from them. At startup only this
+ * store's own files (<uuid>.json.gz) are removed from app.snapshot.dir.
+ */
+@Component
+public class SnapshotStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotStore.class);
+
+    private static final Pattern SNAPSHOT_ID = Pattern.compile("[0-9a-f\\-]{36}");
+    private static final Pattern SNAPSHOT_FILE = Pattern.compile("[0-9a-f\\-]{36}\\.json\\.gz");
+
+    @Value("${app.snapshot.dir:AllLogs_Files/snapshots}")
+    private String dir;
+
+    @Value("${app.snapshot.chunk-size:262144}")
+    private int chunkSize;
+
+    @Value("${app.snapshot.ttl-ms:1800000}")
+    private long ttlMs;
+
+    @Value("${app.snapshot.reuse-min-remaining-ms:900000}")
+    private long reuseMinRemainingMs;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SingleFlight singleFlight;
+
+    private final Map<String, SnapshotManifest> byId = new ConcurrentHashMap<>();
+    // request key -> snapshot id, so repeated requests for the same sheet share one file
+    private final Map<String, String> bySource = new ConcurrentHashMap<>();
+    // Chunk reads hold the read lock, removal the write lock - a file is never deleted mid-read
+    private final Map<String, ReadWriteLock> locks = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        File directory = new File(dir);
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            logger.warn("Could not create snapshot directory {}", directory.getAbsolutePath());
+        }
+        // Manifests are in memory only - files left by a previous run cannot be served.
+        // Only our own snapshot files, the directory may be shared with other files.
+        File[] leftovers = directory.listFiles();
+        if (leftovers != null) {
+            for (File file : leftovers) {
+                if (!file.isFile() || !SNAPSHOT_FILE.matcher(file.getName()).matches()) {
+                    continue;
+                }
+                if (!file.delete()) {
+                    logger.warn("Could not delete old snapshot {}", file);
+                }
+            }
+        }
+    }
+
+    /** Manifest of a live snapshot for sourceKey, creating it with loader if there is none. */
+    public SnapshotManifest snapshot(final String sourceKey, final Supplier<Object> loader) {
+        SnapshotManifest existing = live(bySource.get(sourceKey));
+        if (existing != null && existing.getExpiresAt() - System.currentTimeMillis() >= reuseMinRemainingMs) {
+            return existing;
+        }
+        return singleFlight.execute("snapshot|" + sourceKey, () -> {
+            SnapshotManifest manifest = write(loader.get());
+            locks.put(manifest.getSnapshotId(), new ReentrantReadWriteLock());
+            byId.put(manifest.getSnapshotId(), manifest);
+            bySource.put(sourceKey, manifest.getSnapshotId());
+            return manifest;
+        });
+    }
+
+    /** Manifest of a snapshot that has not expired, or null. */
+    public SnapshotManifest get(String snapshotId) {
+        return live(snapshotId);
+    }
+
+    /** Bytes of chunk index (0-based), or null when the snapshot expired or the index is out of range. */
+    public byte[] chunk(String snapshotId, int index) throws IOException {
+        ReadWriteLock lock = snapshotId == null ? null : locks.get(snapshotId);
+        if (lock == null) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            // Checked under the lock - a sweep that got in first has removed it
+            SnapshotManifest manifest = live(snapshotId);
+            if (manifest == null || index < 0 || index >= manifest.getChunkCount()) {
+                return null;
+            }
+            long offset = (long) index * manifest.getChunkSize();
+            int length = (int) Math.min(manifest.getChunkSize(), manifest.getTotalBytes() - offset);
+            byte[] bytes = new byte[length];
+            try (RandomAccessFile file = new RandomAccessFile(file(snapshotId), "r")) {
+                file.seek(offset);
+                file.readFully(bytes);
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.snapshot.sweep-ms:60000}")
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        for (SnapshotManifest manifest : byId.values()) {
+            if (manifest.getExpiresAt() < now) {
+                remove(manifest.getSnapshotId());
+            }
+        }
+    }
+
+    private SnapshotManifest live(String snapshotId) {
+        if (snapshotId == null) {
+            return null;
+        }
+        SnapshotManifest manifest = byId.get(snapshotId);
+        if (manifest == null || manifest.getExpiresAt() < System.currentTimeMillis()) {
+            return null;
+        }
+        return manifest;
+    }
+
+    private SnapshotManifest write(Object data) {
+        String snapshotId = UUID.randomUUID().toString();
+        File file = file(snapshotId);
+        try {
+            MessageDigest digest = sha256();
+            try (OutputStream out = new GZIPOutputStream(
+                    new DigestOutputStream(Files.newOutputStream(file.toPath()), digest), 65536)) {
+                objectMapper.writeValue(out, data);
+            }
+            List<String> chunks = chunkChecksums(file);
+            long now = System.currentTimeMillis();
+            logger.info("Snapshot {} written: {} bytes in {} chunks", snapshotId, file.length(), chunks.size());
+            return new SnapshotManifest(snapshotId, file.length(), chunkSize, hex(digest.digest()),
+                    chunks, now, now + ttlMs);
+        } catch (IOException e) {
+            file.delete();
+            throw new IllegalStateException("Could not write snapshot: " + e.getMessage(), e);
+        }
+    }
+
+    private List<String> chunkChecksums(File file) throws IOException {
+        List<String> checksums = new ArrayList<>();
+        byte[] buffer = new byte[chunkSize];
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            while (true) {
+                int filled = 0;
+                int read;
+                while (filled < chunkSize && (read = in.read(buffer, filled, chunkSize - filled)) > 0) {
+                    filled += read;
+                }
+                if (filled == 0) {
+                    break;
+                }
+                MessageDigest digest = sha256();
+                digest.update(buffer, 0, filled);
+                checksums.add(hex(digest.digest()));
+                if (filled < chunkSize) {
+                    break;
+                }
+            }
+        }
+        return checksums;
+    }
+
+    private void remove(String snapshotId) {
+        ReadWriteLock lock = locks.get(snapshotId);
+        if (lock != null) {
+            // Waits for chunk reads in progress
+            lock.writeLock().lock();
+        }
+        try {
+            byId.remove(snapshotId);
+            bySource.values().remove(snapshotId);
+            File file = file(snapshotId);
+            if (file.exists() && !file.delete()) {
+                logger.warn("Could not delete expired snapshot {}", file);
+            }
+        } finally {
+            if (lock != null) {
+                lock.writeLock().unlock();
+                locks.remove(snapshotId, lock);
+            }
+        }
+    }
+
+    private File file(String snapshotId) {
+        if (!SNAPSHOT_ID.matcher(snapshotId).matches()) {
+            throw new IllegalArgumentException("Invalid snapshot id");
+        }
+        return new File(dir, snapshotId + ".json.gz");
+    }
+
+    private static String hex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,191 @@
+package com.mobile.integration.grandstores.Utils.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.metamodel.EntityType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mobile.integration.grandstores.PackageCalling.AuthenticationPackage;
+import com.mobile.integration.grandstores.User.Services.UserAccessResolver;
+import com.mobile.integration.grandstores.Utils.Health.DependencyProbe;
+import com.mobile.integration.grandstores.Utils.JsonUtils.JsonUtils;
+import com.mobile.integration.grandstores.Utils.ResponseAPI.APIResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Warm-up phase after a deploy. Application runners complete before Spring Boot
+ * switches readiness to ACCEPTING_TRAFFIC, and the dependencies health check stays
+ * OUT_OF_SERVICE until isComplete(), so the first handheld request lands on a warm node.
+ *
+ * Runs the login procedure the /module/authentication path uses (GET_USER_AUTH) once with
+ * no user name, which matches no user, so Oracle loads the package and parses its cursors
+ * before the first sign-in. It also exercises Jackson on APIResponse and every JPA entity,
+ * and preloads the access caches. There is no connection step, because the data source is
+ * not pooled and a connection opened here is not the one a request gets. Bounded by
+ * app.warmup.timeout-ms - a slow database must not keep the node out forever.
+ */
+@Component
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmupRunner.class);
+
+    @Autowired
+    private AuthenticationPackage authenticationPackage;
+
+    @Autowired
+    private UserAccessResolver userAccessResolver;
+
+    @Autowired
+    private DependencyProbe dependencyProbe;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JsonUtils jsonUtils;
+
+    @Autowired
+    @Qualifier("taskExecutor")
+    private Executor taskExecutor;
+
+    @Value("${app.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.warmup.serialization-rounds:200}")
+    private int serializationRounds;
+
+    @Value("${app.warmup.timeout-ms:60000}")
+    private long timeoutMs;
+
+    private volatile boolean complete;
+
+    public boolean isComplete() {
+        return complete || !enabled;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        List<CompletableFuture<Void>> steps = new ArrayList<>();
+        steps.add(step("login call", new Runnable() {
+            @Override
+            public void run() {
+                // NULL user name - no user matches, nothing is authenticated or updated
+                authenticationPackage.getAuthPkg(null, null);
+            }
+        }));
+        steps.add(step("access caches", new Runnable() {
+            @Override
+            public void run() {
+                userAccessResolver.preload();
+            }
+        }));
+        // Jackson runs on this thread - it does not need the database
+        step("serialization", new Runnable() {
+            @Override
+            public void run() {
+                exerciseSerialization();
+            }
+        }, true);
+
+        try {
+            CompletableFuture.allOf(steps.toArray(new CompletableFuture<?>[0]))
+                    .get(Math.max(0, timeoutMs - (System.currentTimeMillis() - start)), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            logger.warn("Warm-up did not finish within {} ms, continuing", timeoutMs);
+        } catch (Exception e) {
+            logger.warn("Warm-up interrupted: {}", e.toString());
+        }
+        dependencyProbe.probe();
+        complete = true;
+        logger.info("Warm-up finished in {} ms", System.currentTimeMillis() - start);
+    }
+
+    private CompletableFuture<Void> step(String name, Runnable work) {
+        return step(name, work, false);
+    }
+
+    private CompletableFuture<Void> step(final String name, final Runnable work, boolean inline) {
+        Runnable guarded = new Runnable() {
+            @Override
+            public void run() {
+                long t = System.currentTimeMillis();
+                try {
+                    work.run();
+                    logger.debug("Warm-up {} done in {} ms", name, System.currentTimeMillis() - t);
+                } catch (Exception e) {
+                    // Warm-up is best effort, the real request will surface the error
+                    logger.warn("Warm-up {} failed: {}", name, e.toString());
+                }
+            }
+        };
+        if (inline) {
+            guarded.run();
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(guarded, taskExecutor);
+    }
+
+    // Same ObjectMapper the message converters use, so its serializer caches are the ones warmed
+    private void exerciseSerialization() {
+        List<Object> samples = new ArrayList<>();
+        for (EntityType<?> type : entityManagerFactory.getMetamodel().getEntities()) {
+            try {
+                samples.add(type.getJavaType().getDeclaredConstructor().newInstance());
+            } catch (Exception e) {
+                logger.debug("No sample instance for {}", type.getName());
+            }
+        }
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("ITEM_ID", i);
+            row.put("ITEM_CODE", "WARMUP" + i);
+            row.put("DESCRIPTION", "warm-up row");
+            row.put("QUANTITY", 1.5 * i);
+            row.put("CREATION_DATE", new java.util.Date());
+            rows.add(row);
+        }
+        Map<String, Object> body = new HashMap<>();
+        body.put("P_INPUT", Collections.singletonList(rows.get(0)));
+
+        try {
+            for (int round = 0; round < serializationRounds; round++) {
+                APIResponse api = new APIResponse();
+                api.setData(round % 2 == 0 ? rows : samples);
+                api.setStatus(200);
+                String json = objectMapper.writeValueAsString(api);
+                objectMapper.readValue(json, Map.class);
+                objectMapper.readValue(objectMapper.writeValueAsString(body), Map.class);
+                jsonUtils.toClob(body);
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
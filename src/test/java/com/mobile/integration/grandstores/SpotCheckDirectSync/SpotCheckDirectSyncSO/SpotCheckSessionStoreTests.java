@@ -0,0 +1,122 @@
+package com.mobile.integration.grandstores.SpotCheckDirectSync.SpotCheckDirectSyncSO;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class SpotCheckSessionStoreTests {
+
+    private final SpotCheckSessionStore store = new SpotCheckSessionStore();
+
+    @BeforeEach
+    void configure() {
+        ReflectionTestUtils.setField(store, "idleMs", 60000L);
+        ReflectionTestUtils.setField(store, "maxLines", 2);
+    }
+
+    @Test
+    void sessionBelongsToItsOwner() {
+        String sessionId = store.open("101", "AUDITOR1");
+
+        SpotCheckSessionStore.Session session = store.get(sessionId, "AUDITOR1");
+        assertNotNull(session);
+        assertEquals("101", session.getOrganizationId());
+        assertNull(store.get(sessionId, "AUDITOR2"));
+        assertNull(store.get(sessionId, null));
+        assertNull(store.get("unknown", "AUDITOR1"));
+        assertNull(store.get(null, "AUDITOR1"));
+        // Another user cannot close it either
+        assertNull(store.beginClose(sessionId, "AUDITOR2"));
+        assertSame(session, store.get(sessionId, "AUDITOR1"));
+    }
+
+    @Test
+    void scansAreAggregatedPerBarcodeAndBin() {
+        SpotCheckSessionStore.Session session = store.get(store.open("101", "AUDITOR1"), "AUDITOR1");
+
+        assertTrue(session.add("6291041500213", "A-01"));
+        assertTrue(session.add("6291041500213", "A-01"));
+        assertTrue(session.add("6291041500213", "A-02"));
+        assertTrue(session.add("6291041500213", "A-01"));
+
+        assertEquals(4, session.scanCount());
+        assertEquals(2, session.lineCount());
+        List<SpotCheckSessionStore.Line> lines = session.lines();
+        assertEquals("A-01", lines.get(0).getBin());
+        assertEquals(3, lines.get(0).getScans());
+        assertEquals("A-02", lines.get(1).getBin());
+        assertEquals(1, lines.get(1).getScans());
+    }
+
+    @Test
+    void newLinesStopAtMaxLines() {
+        SpotCheckSessionStore.Session session = store.get(store.open("101", "AUDITOR1"), "AUDITOR1");
+        session.add("ITEM1", "A-01");
+        session.add("ITEM2", "A-01");
+
+        assertFalse(session.add("ITEM3", "A-01"));
+        // Further scans of a line already held are still counted
+        assertTrue(session.add("ITEM1", "A-01"));
+        assertEquals(2, session.lineCount());
+        assertEquals(3, session.scanCount());
+    }
+
+    @Test
+    void closeDropsSessionAfterSubmission() {
+        String sessionId = store.open("101", "AUDITOR1");
+        SpotCheckSessionStore.Session session = store.get(sessionId, "AUDITOR1");
+        session.add("ITEM1", "A-01");
+
+        assertSame(session, store.beginClose(sessionId, "AUDITOR1"));
+        // Locked while the sync runs - no second close, no scans
+        assertNull(store.beginClose(sessionId, "AUDITOR1"));
+        assertThrows(IllegalStateException.class, () -> session.add("ITEM2", "A-01"));
+        assertSame(session, store.get(sessionId, "AUDITOR1"));
+
+        store.close(sessionId, session);
+        assertNull(store.get(sessionId, "AUDITOR1"));
+        assertNull(store.beginClose(sessionId, "AUDITOR1"));
+        assertThrows(IllegalStateException.class, () -> session.add("ITEM2", "A-01"));
+        assertEquals(1, session.lineCount());
+    }
+
+    @Test
+    void failedSubmissionKeepsScans() {
+        String sessionId = store.open("101", "AUDITOR1");
+        SpotCheckSessionStore.Session session = store.get(sessionId, "AUDITOR1");
+        session.add("ITEM1", "A-01");
+
+        store.beginClose(sessionId, "AUDITOR1");
+        store.reopen(session);
+
+        assertTrue(session.add("ITEM1", "A-01"));
+        assertEquals(2, session.scanCount());
+        assertSame(session, store.beginClose(sessionId, "AUDITOR1"));
+    }
+
+    @Test
+    void sweepDropsIdleSessions() {
+        String idle = store.open("101", "AUDITOR1");
+        store.sweep();
+        assertNotNull(store.get(idle, "AUDITOR1"));
+
+        ReflectionTestUtils.setField(store, "idleMs", -1L);
+        String submitting = store.open("101", "AUDITOR1");
+        store.beginClose(submitting, "AUDITOR1");
+        store.sweep();
+        assertNull(store.get(idle, "AUDITOR1"));
+        // Not dropped while its sync runs
+        assertNotNull(store.get(submitting, "AUDITOR1"));
+    }
+
+}
@@ -0,0 +1,130 @@
+package com.mobile.integration.grandstores.Utils.Cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTests {
+
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    @Test
+    void keyLengthPrefixesParametersAndMarksNulls() {
+        assertEquals("GET_MO_DETAILS|3:101|~|0:|4:MO-1", SingleFlight.key("GET_MO_DETAILS", "101", null, "", "MO-1"));
+        assertEquals("GET_DEL_VEH_DTL", SingleFlight.key("GET_DEL_VEH_DTL"));
+    }
+
+    @Test
+    void keyKeepsDistinctCallsApart() {
+        // Untrimmed - the procedure is called with the value as passed
+        assertNotEquals(SingleFlight.key("GET_MO_DETAILS", "P1 "), SingleFlight.key("GET_MO_DETAILS", "P1"));
+        assertNotEquals(SingleFlight.key("P", "a|b", "c"), SingleFlight.key("P", "a", "b|c"));
+        assertNotEquals(SingleFlight.key("P", (Object) null), SingleFlight.key("P", ""));
+        assertNotEquals(SingleFlight.key("P", "1:a"), SingleFlight.key("P", "1", "a"));
+    }
+
+    @Test
+    void concurrentCallersShareOneCall() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        Object result = new Object();
+
+        AtomicReference<Object> first = new AtomicReference<>();
+        Thread leader = new Thread(() -> first.set(singleFlight.execute("K", () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return result;
+        })));
+        leader.start();
+        started.await();
+
+        AtomicReference<Object> second = new AtomicReference<>();
+        Thread follower = new Thread(() -> second.set(singleFlight.execute("K", () -> {
+            calls.incrementAndGet();
+            return new Object();
+        })));
+        follower.start();
+        // Follower parks on the leader's future
+        while (follower.getState() != Thread.State.WAITING && follower.isAlive()) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+        leader.join();
+        follower.join();
+
+        assertEquals(1, calls.get());
+        assertSame(result, first.get());
+        assertSame(result, second.get());
+        assertEquals(0, singleFlight.getInFlight());
+    }
+
+    @Test
+    void completedCallIsNotCached() {
+        AtomicInteger calls = new AtomicInteger();
+        singleFlight.execute("K", calls::incrementAndGet);
+        singleFlight.execute("K", calls::incrementAndGet);
+
+        assertEquals(2, calls.get());
+        assertEquals(0, singleFlight.getInFlight());
+    }
+
+    @Test
+    void failureIsRethrownAndCleared() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("ORA-01013");
+
+        Thread leader = new Thread(() -> {
+            try {
+                singleFlight.execute("K", () -> {
+                    started.countDown();
+                    await(release);
+                    throw failure;
+                });
+            } catch (IllegalStateException expected) {
+                // also seen by the follower
+            }
+        });
+        leader.start();
+        started.await();
+
+        AtomicReference<Throwable> seen = new AtomicReference<>();
+        Thread follower = new Thread(() -> {
+            try {
+                singleFlight.execute("K", () -> "not run");
+            } catch (RuntimeException e) {
+                seen.set(e);
+            }
+        });
+        follower.start();
+        while (follower.getState() != Thread.State.WAITING && follower.isAlive()) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+        leader.join();
+        follower.join();
+
+        assertSame(failure, seen.get());
+        assertEquals(0, singleFlight.getInFlight());
+        assertThrows(IllegalArgumentException.class,
+                () -> singleFlight.execute("K", () -> { throw new IllegalArgumentException(); }));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
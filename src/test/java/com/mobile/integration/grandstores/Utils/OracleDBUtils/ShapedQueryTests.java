@@ -0,0 +1,60 @@
+package com.mobile.integration.grandstores.Utils.OracleDBUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+class ShapedQueryTests {
+
+    private static final String HEAD = "SELECT * FROM XX_PI_COUNT WHERE ORGANIZATION_ID = :P_ORG_ID";
+
+    @Test
+    void suppliedFiltersAreAppendedInOrder() {
+        ShapedQuery query = new ShapedQuery(HEAD, "ORDER BY ITEM_CODE")
+                .filter("ITEM_CODE LIKE :P_ITEM || '%'", "P_ITEM", "AB")
+                .filter("LOCATOR = :P_LOC", "P_LOC", null)
+                .filter("SUBINVENTORY = :P_SUB", "P_SUB", "MAIN");
+
+        assertEquals(HEAD
+                + "\nAND ITEM_CODE LIKE :P_ITEM || '%'"
+                + "\nAND SUBINVENTORY = :P_SUB"
+                + "\nORDER BY ITEM_CODE", query.getSql());
+        assertEquals("101", query.getShape());
+        assertEquals(2, query.getParams().size());
+        assertEquals("AB", query.getParams().get("P_ITEM"));
+        assertEquals("MAIN", query.getParams().get("P_SUB"));
+    }
+
+    @Test
+    void inactivePredicateReplacesMissingFilter() {
+        ShapedQuery query = new ShapedQuery(HEAD)
+                .filter("LOCATOR = :P_LOC", "LOCATOR IS NOT NULL", "P_LOC", "");
+
+        assertEquals(HEAD + "\nAND LOCATOR IS NOT NULL", query.getSql());
+        assertEquals("0", query.getShape());
+        assertTrue(query.getParams().isEmpty());
+    }
+
+    @Test
+    void whitespaceValueIsSupplied() {
+        // NVL(:p, col) binds ' ' - only NULL and '' fall back to the column
+        ShapedQuery query = new ShapedQuery(HEAD)
+                .filter("LOCATOR = :P_LOC", "LOCATOR IS NOT NULL", "P_LOC", " ");
+
+        assertEquals(HEAD + "\nAND LOCATOR = :P_LOC", query.getSql());
+        assertEquals("1", query.getShape());
+        assertEquals(Collections.<String, Object>singletonMap("P_LOC", " "), query.getParams());
+    }
+
+    @Test
+    void sameCombinationGivesSameText() {
+        String first = new ShapedQuery(HEAD).filter("A = :P_A", "P_A", "1").filter("B = :P_B", "P_B", null).getSql();
+        String second = new ShapedQuery(HEAD).filter("A = :P_A", "P_A", "2").filter("B = :P_B", "P_B", "").getSql();
+
+        assertEquals(first, second);
+    }
+
+}
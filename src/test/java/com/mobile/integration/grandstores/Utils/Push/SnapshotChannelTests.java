@@ -0,0 +1,276 @@
+package com.mobile.integration.grandstores.Utils.Push;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class SnapshotChannelTests {
+
+    private static final String CURSOR = "P_DEL_LINE_DTLS_RS";
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final AtomicReference<Map<String, Object>> result = new AtomicReference<>();
+    // Direct send executor - events are delivered before subscribe / poll return
+    private final SnapshotChannel channel = new SnapshotChannel("vehicle:V1", result::get, objectMapper,
+            Arrays.asList("DEL_LINE_ID", "LINE_ID"), 3, 10, Runnable::run);
+
+    @Test
+    void firstSubscriberGetsSnapshot() {
+        load(line(1, "OPEN"), line(2, "OPEN"));
+        RecordingEmitter emitter = subscribe(null);
+
+        Sent sent = emitter.only();
+        assertEquals("snapshot", sent.name);
+        assertTrue(sent.id.endsWith("-0"));
+        assertEquals(Arrays.asList(line(1, "OPEN"), line(2, "OPEN")), ((Map<?, ?>) sent.data).get(CURSOR));
+    }
+
+    @Test
+    void changedRowIsSentAsRemovedAndAdded() {
+        load(line(1, "OPEN"), line(2, "OPEN"), line(3, "OPEN"));
+        RecordingEmitter emitter = subscribe(null);
+
+        load(line(1, "OPEN"), line(2, "DELIVERED"), line(4, "OPEN"));
+        channel.poll();
+
+        Sent sent = emitter.last();
+        assertEquals("changes", sent.name);
+        assertTrue(sent.id.endsWith("-1"));
+        assertEquals(Arrays.asList(line(2, "DELIVERED"), line(4, "OPEN")), added(sent).get(CURSOR));
+        assertEquals(Arrays.asList(line(2, "OPEN"), line(3, "OPEN")), removed(sent).get(CURSOR));
+    }
+
+    @Test
+    void unchangedPollSendsHeartbeat() {
+        load(line(1, "OPEN"));
+        RecordingEmitter emitter = subscribe(null);
+
+        load(line(1, "OPEN"));
+        channel.poll();
+
+        Sent sent = emitter.last();
+        assertNull(sent.name);
+        assertTrue(sent.text.startsWith(":ping"));
+    }
+
+    @Test
+    void scalarOutputsAreNotDiffed() {
+        Map<String, Object> first = cursor(line(1, "OPEN"));
+        first.put("P_STATUS", "S");
+        result.set(first);
+        RecordingEmitter emitter = subscribe(null);
+
+        Map<String, Object> second = cursor(line(1, "OPEN"));
+        second.put("P_STATUS", "E");
+        result.set(second);
+        channel.poll();
+
+        assertNull(emitter.last().name);
+    }
+
+    @Test
+    void rowsWithoutKeyAreCountedApart() {
+        Map<String, Object> bin = Collections.<String, Object>singletonMap("BIN", "A-01");
+        load(bin, bin, Collections.<String, Object>singletonMap("BIN", "A-02"));
+        RecordingEmitter emitter = subscribe(null);
+
+        load(bin, Collections.<String, Object>singletonMap("BIN", "A-02"));
+        channel.poll();
+
+        Sent sent = emitter.last();
+        assertEquals("changes", sent.name);
+        assertNull(added(sent).get(CURSOR));
+        assertEquals(Arrays.asList(bin), removed(sent).get(CURSOR));
+    }
+
+    @Test
+    void secondKeyColumnIsUsedWhenFirstIsMissing() {
+        Map<String, Object> before = new LinkedHashMap<>();
+        before.put("LINE_ID", 9);
+        before.put("STATUS", "OPEN");
+        Map<String, Object> after = new LinkedHashMap<>(before);
+        after.put("STATUS", "PICKED");
+        load(before);
+        RecordingEmitter emitter = subscribe(null);
+
+        load(after);
+        channel.poll();
+
+        Sent sent = emitter.last();
+        assertEquals(Arrays.asList(after), added(sent).get(CURSOR));
+        assertEquals(Arrays.asList(before), removed(sent).get(CURSOR));
+    }
+
+    @Test
+    void reconnectReplaysMissedChanges() {
+        load(line(1, "OPEN"));
+        RecordingEmitter first = subscribe(null);
+        load(line(1, "PICKED"));
+        channel.poll();
+        String seen = first.last().id;
+        load(line(1, "LOADED"));
+        channel.poll();
+        load(line(1, "DELIVERED"));
+        channel.poll();
+
+        RecordingEmitter reconnected = subscribe(seen);
+
+        assertEquals(2, reconnected.sent.size());
+        assertEquals("changes", reconnected.sent.get(0).name);
+        assertEquals(Arrays.asList(line(1, "LOADED")), added(reconnected.sent.get(0)).get(CURSOR));
+        assertEquals(Arrays.asList(line(1, "DELIVERED")), added(reconnected.sent.get(1)).get(CURSOR));
+    }
+
+    @Test
+    void unknownOrExpiredEventIdGetsSnapshot() {
+        load(line(1, "OPEN"));
+        RecordingEmitter first = subscribe(null);
+        String oldest = first.only().id;
+        // More events than the replay window (3)
+        for (String status : Arrays.asList("A", "B", "C", "D")) {
+            load(line(1, status));
+            channel.poll();
+        }
+
+        assertEquals("snapshot", subscribe(oldest).only().name);
+        assertEquals("snapshot", subscribe("stale-epoch-2").only().name);
+        assertEquals(Arrays.asList(line(1, "D")), ((Map<?, ?>) subscribe("garbage").only().data).get(CURSOR));
+    }
+
+    @Test
+    void failedSendDropsSubscriber() {
+        load(line(1, "OPEN"));
+        RecordingEmitter emitter = subscribe(null);
+        assertTrue(channel.hasSubscribers());
+
+        emitter.fail = true;
+        load(line(1, "PICKED"));
+        channel.poll();
+
+        assertFalse(channel.hasSubscribers());
+    }
+
+    @Test
+    void unsubscribeStopsDelivery() {
+        load(line(1, "OPEN"));
+        RecordingEmitter emitter = subscribe(null);
+        channel.unsubscribe(emitter);
+
+        load(line(1, "PICKED"));
+        channel.poll();
+
+        assertEquals(1, emitter.sent.size());
+        assertFalse(channel.hasSubscribers());
+    }
+
+    private RecordingEmitter subscribe(String lastEventId) {
+        RecordingEmitter emitter = new RecordingEmitter();
+        channel.subscribe(emitter, lastEventId);
+        return emitter;
+    }
+
+    @SafeVarargs
+    private final void load(Map<String, Object>... rows) {
+        result.set(cursor(rows));
+    }
+
+    @SafeVarargs
+    private static Map<String, Object> cursor(Map<String, Object>... rows) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put(CURSOR, new ArrayList<>(Arrays.asList(rows)));
+        return result;
+    }
+
+    private static Map<String, Object> line(int id, String status) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("DEL_LINE_ID", id);
+        line.put("STATUS", status);
+        return line;
+    }
+
+    private static Map<?, ?> added(Sent sent) {
+        return (Map<?, ?>) ((Map<?, ?>) sent.data).get("added");
+    }
+
+    private static Map<?, ?> removed(Sent sent) {
+        return (Map<?, ?>) ((Map<?, ?>) sent.data).get("removed");
+    }
+
+    /** One event as written to the stream - the text lines and the data object. */
+    private static class Sent {
+        final String text;
+        final String id;
+        final String name;
+        final Object data;
+
+        Sent(String text, Object data) {
+            this.text = text;
+            this.data = data;
+            this.id = field(text, "id:");
+            this.name = field(text, "event:");
+        }
+
+        private static String field(String text, String prefix) {
+            for (String line : text.split("\n")) {
+                if (line.startsWith(prefix)) {
+                    return line.substring(prefix.length());
+                }
+            }
+            return null;
+        }
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        final List<Sent> sent = new ArrayList<>();
+        boolean fail;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (fail) {
+                throw new IOException("Broken pipe");
+            }
+            StringBuilder text = new StringBuilder();
+            Object data = null;
+            for (DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof String) {
+                    text.append(part.getData());
+                } else {
+                    data = part.getData();
+                }
+            }
+            sent.add(new Sent(text.toString(), data));
+        }
+
+        @Override
+        public synchronized void completeWithError(Throwable ex) {
+            // not attached to a response in these tests
+        }
+
+        Sent only() {
+            assertEquals(1, sent.size());
+            return sent.get(0);
+        }
+
+        Sent last() {
+            return sent.get(sent.size() - 1);
+        }
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.mobile.integration.grandstores.Utils.ResponseAPI;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+
+class ColumnarLayoutTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void otherBodiesPassThrough() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        assertSame(body, ColumnarLayout.apply(body, objectMapper));
+    }
+
+    @Test
+    void rowListBecomesColumnsAndRows() {
+        APIResponse source = new APIResponse();
+        source.setStatus(207);
+        source.setError("partial");
+        source.setData(Arrays.asList(row("ITEM_ID", 1, "QTY", 5), row("ITEM_ID", 2, "LOT", "L1")));
+
+        APIResponse columnar = (APIResponse) ColumnarLayout.apply(source, objectMapper);
+
+        assertEquals(Integer.valueOf(207), columnar.getStatus());
+        assertEquals("partial", columnar.getError());
+        Map<?, ?> table = (Map<?, ?>) columnar.getData();
+        // Union of the row keys in first-seen order, missing cells are null
+        assertEquals(Arrays.asList("ITEM_ID", "QTY", "LOT"), new ArrayList<>((Collection<?>) table.get("columns")));
+        List<?> rows = (List<?>) table.get("rows");
+        assertArrayEquals(new Object[] { 1, 5, null }, (Object[]) rows.get(0));
+        assertArrayEquals(new Object[] { 2, null, "L1" }, (Object[]) rows.get(1));
+    }
+
+    @Test
+    void cursorsInProcedureResultAreConverted() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("P_STATUS", "S");
+        result.put("P_ITEMS_RS", Arrays.asList(row("ITEM_ID", 7, "QTY", 1)));
+        result.put("P_CODES", Arrays.asList("A", "B"));
+        APIResponse source = new APIResponse();
+        source.setData(result);
+
+        Map<?, ?> data = (Map<?, ?>) ((APIResponse) ColumnarLayout.apply(source, objectMapper)).getData();
+
+        assertEquals(Arrays.asList("P_STATUS", "P_ITEMS_RS", "P_CODES"), new ArrayList<>(data.keySet()));
+        assertEquals("S", data.get("P_STATUS"));
+        Map<?, ?> items = (Map<?, ?>) data.get("P_ITEMS_RS");
+        assertEquals(Arrays.asList("ITEM_ID", "QTY"), new ArrayList<>((Collection<?>) items.get("columns")));
+        assertArrayEquals(new Object[] { 7, 1 }, (Object[]) ((List<?>) items.get("rows")).get(0));
+        // Plain value lists are left as they are
+        assertEquals(Arrays.asList("A", "B"), data.get("P_CODES"));
+    }
+
+    @Test
+    void onlyOneLevelOfMapIsSearched() {
+        Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("P_ROWS_RS", Arrays.asList(row("ITEM_ID", 1, "QTY", 1)));
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("P_NESTED", nested);
+        APIResponse source = new APIResponse();
+        source.setData(result);
+
+        Map<?, ?> data = (Map<?, ?>) ((APIResponse) ColumnarLayout.apply(source, objectMapper)).getData();
+
+        assertSame(nested, data.get("P_NESTED"));
+    }
+
+    @Test
+    void entitiesUseTheirJsonNames() {
+        APIResponse source = new APIResponse();
+        source.setData(Arrays.asList(new Item(3, "Pipe"), null));
+
+        Map<?, ?> table = (Map<?, ?>) ((APIResponse) ColumnarLayout.apply(source, objectMapper)).getData();
+
+        assertEquals(Arrays.asList("itemId", "description"), new ArrayList<>((Collection<?>) table.get("columns")));
+        List<?> rows = (List<?>) table.get("rows");
+        assertEquals(1, rows.size());
+        assertArrayEquals(new Object[] { 3, "Pipe" }, (Object[]) rows.get(0));
+    }
+
+    private static Map<String, Object> row(String k1, Object v1, String k2, Object v2) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put(k1, v1);
+        row.put(k2, v2);
+        return row;
+    }
+
+    public static class Item {
+
+        private final Integer itemId;
+        private final String description;
+
+        Item(Integer itemId, String description) {
+            this.itemId = itemId;
+            this.description = description;
+        }
+
+        public Integer getItemId() {
+            return itemId;
+        }
+        public String getDescription() {
+            return description;
+        }
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.mobile.integration.grandstores.Utils.Search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class PrefixIndexTests {
+
+    @Test
+    void buildReturnsNullWithoutKeyColumn() {
+        assertNull(PrefixIndex.build(Arrays.asList(row("ITEM_CODE", "A1", 1), row("DESCRIPTION", "x", 2)), "ITEM_CODE"));
+    }
+
+    @Test
+    void searchReturnsMatchesInKeyOrder() {
+        PrefixIndex index = PrefixIndex.build(Arrays.asList(
+                row("ITEM_CODE", "AB20", 1),
+                row("ITEM_CODE", "AC10", 2),
+                row("ITEM_CODE", "AB10", 3),
+                row("ITEM_CODE", "B100", 4)), "ITEM_CODE");
+
+        assertEquals(Arrays.asList(3, 1), ids(index.search("AB")));
+        assertEquals(Arrays.asList(3, 1, 2), ids(index.search("A")));
+        assertEquals(Arrays.asList(1), ids(index.search("AB20")));
+        assertTrue(index.search("C").isEmpty());
+        assertEquals(4, index.search("").size());
+    }
+
+    @Test
+    void matchingIsCaseSensitiveAndDropsNullKeys() {
+        PrefixIndex index = PrefixIndex.build(Arrays.asList(
+                row("ITEM_CODE", "ab10", 1),
+                row("ITEM_CODE", "AB10", 2),
+                row("ITEM_CODE", null, 3)), "ITEM_CODE");
+
+        assertEquals(2, index.size());
+        assertEquals(Arrays.asList(2), ids(index.search("AB")));
+        assertEquals(Arrays.asList(1), ids(index.search("ab")));
+    }
+
+    @Test
+    void duplicateKeysKeepSourceOrder() {
+        PrefixIndex index = PrefixIndex.build(Arrays.asList(
+                row("ITEM_CODE", "AB", 1),
+                row("ITEM_CODE", "AA", 2),
+                row("ITEM_CODE", "AB", 3),
+                row("ITEM_CODE", "AB", 4)), "ITEM_CODE");
+
+        assertEquals(Arrays.asList(1, 3, 4), ids(index.search("AB")));
+        assertEquals(Arrays.asList(2, 1, 3, 4), ids(index.search("A")));
+    }
+
+    @Test
+    void searchInSourceOrderKeepsDatabaseOrder() {
+        PrefixIndex index = PrefixIndex.build(Arrays.asList(
+                row("ITEM_CODE", "AC", 1),
+                row("ITEM_CODE", "B", 2),
+                row("ITEM_CODE", "AA", 3),
+                row("ITEM_CODE", "AB", 4)), "ITEM_CODE");
+
+        assertEquals(Arrays.asList(1, 3, 4), ids(index.searchInSourceOrder("A")));
+        assertEquals(Arrays.asList(3, 4, 1), ids(index.search("A")));
+    }
+
+    @Test
+    void wildcardsAreDetected() {
+        assertTrue(PrefixIndex.hasWildcards("AB%"));
+        assertTrue(PrefixIndex.hasWildcards("A_1"));
+        assertFalse(PrefixIndex.hasWildcards("AB-1"));
+    }
+
+    private static Map<String, Object> row(String column, Object key, int id) {
+        Map<String, Object> row = new HashMap<>();
+        row.put(column, key);
+        row.put("ID", id);
+        return row;
+    }
+
+    private static List<Object> ids(List<Map<String, Object>> rows) {
+        List<Object> ids = new ArrayList<>();
+        for (Map<String, Object> row : rows) {
+            ids.add(row.get("ID"));
+        }
+        return ids;
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.mobile.integration.grandstores.Utils.Search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+class TrigramIndexTests {
+
+    private final TrigramIndex<String> index = TrigramIndex.build(
+            Arrays.asList("Copper Pipe", "spipe", "Pipe", "Steel pipe", "PIPES", null, "Valve"),
+            Function.identity());
+
+    @Test
+    void nullTextsAreNotIndexed() {
+        assertEquals(6, index.size());
+    }
+
+    @Test
+    void matchesAreCaseInsensitiveAndRanked() {
+        // exact, prefix, word start (earlier position first), inside a word
+        assertEquals(Arrays.asList("Pipe", "PIPES", "Steel pipe", "Copper Pipe", "spipe"), index.search("pIpE", 10));
+    }
+
+    @Test
+    void shortQueriesScanEveryDocument() {
+        assertEquals(Arrays.asList("Valve"), index.search("lv", 10));
+        assertEquals(Arrays.asList("Valve"), index.search("V", 10));
+    }
+
+    @Test
+    void missingTrigramMatchesNothing() {
+        assertTrue(index.search("pipex", 10).isEmpty());
+        assertTrue(index.search("brass", 10).isEmpty());
+    }
+
+    @Test
+    void limitCutsRankedResults() {
+        assertEquals(Arrays.asList("Pipe", "PIPES"), index.search("pipe", 2));
+    }
+
+    @Test
+    void emptyQueryReturnsDocumentsInSourceOrder() {
+        assertEquals(Arrays.asList("Copper Pipe", "spipe"), index.search("", 2));
+        assertEquals(6, index.search(null, 100).size());
+        assertEquals(Collections.emptyList(), TrigramIndex.build(Collections.<String>emptyList(), Function.identity()).search("pipe", 10));
+    }
+
+}